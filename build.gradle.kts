@@ -23,6 +23,10 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.micrometer.registry.prometheus)
+    implementation(libs.hdrhistogram)
+    implementation(libs.jackson.dataformat.cbor)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -47,8 +51,76 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
+
+// AppCDS: bootJar 를 풀어 일반 jar + lib/ 로 만들고, 한 번 시작해 본 결과로 클래스 데이터 아카이브를 만든다
+// (bootJar 안에 중첩된 jar 의 클래스는 CDS 아카이브에 들어가지 않는다)
+// 실행: java -XX:SharedArchiveFile=build/cds/point-service.jsa -jar build/cds/point-service.jar
+val cdsDir = layout.buildDirectory.dir("cds")
+val bootJarFile = tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar").flatMap { it.archiveFile }
+
+tasks.register<Sync>("cdsLibs") {
+    description = "Extracts the bootJar libraries for the AppCDS launcher jar."
+    group = "build"
+    dependsOn("bootJar")
+    from(zipTree(bootJarFile)) {
+        include("BOOT-INF/lib/*.jar")
+        eachFile { path = name }
+        includeEmptyDirs = false
+    }
+    into(cdsDir.map { it.dir("lib") })
+}
+
+val cdsJar = tasks.register<Jar>("cdsJar") {
+    description = "Builds a plain launcher jar from the bootJar classes, with lib/ on its Class-Path."
+    group = "build"
+    dependsOn("bootJar", "cdsLibs")
+    archiveFileName.set("point-service.jar")
+    destinationDirectory.set(cdsDir)
+    from(zipTree(bootJarFile)) {
+        include("BOOT-INF/classes/**")
+        eachFile { path = path.removePrefix("BOOT-INF/classes/") }
+        includeEmptyDirs = false
+    }
+    doFirst {
+        val libs = cdsDir.get().dir("lib").asFile.listFiles { file -> file.name.endsWith(".jar") }
+            .orEmpty().map { "lib/" + it.name }.sorted()
+        manifest.attributes(
+            "Main-Class" to "io.hhplus.tdd.TddApplication",
+            "Class-Path" to libs.joinToString(" ")
+        )
+    }
+}
+
+tasks.register<Exec>("cdsArchive") {
+    description = "Runs the application once until the context is refreshed and dumps an AppCDS archive."
+    group = "build"
+    dependsOn(cdsJar)
+    // 아카이브는 만든 JVM 과 같은 JVM 으로 실행해야 쓰인다
+    val javaExecutable = File(System.getProperty("java.home"), "bin/java").absolutePath
+    workingDir(cdsDir)
+    commandLine(javaExecutable, "-XX:ArchiveClassesAtExit=point-service.jsa", "-Dspring.context.exit=onRefresh", "-jar", "point-service.jar")
+    outputs.file(cdsDir.map { it.file("point-service.jsa") })
+}
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// @Tag("benchmark") 테스트만 실행 (./gradlew benchmark)
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark-tagged tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "4g"
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
 }
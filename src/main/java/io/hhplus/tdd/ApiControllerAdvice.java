@@ -1,5 +1,8 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.cluster.ClusterAccessDeniedException;
+import io.hhplus.tdd.point.BulkheadFullException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -34,6 +37,34 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * 조회/변경 벌크헤드가 가득 찬 경우
+     * BulkheadFullException → 503 Service Unavailable
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException e) {
+        ErrorResponse response = new ErrorResponse(
+                "SERVICE_UNAVAILABLE",
+                e.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * 클러스터 관리자 토큰이 없거나 다른 경우
+     * ClusterAccessDeniedException → 403 Forbidden
+     */
+    @ExceptionHandler(ClusterAccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleClusterAccessDenied(ClusterAccessDeniedException e) {
+        ErrorResponse response = new ErrorResponse(
+                "FORBIDDEN",
+                e.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
     /**
      * 기타 처리되지 않은 예외
      * → 500 Internal Server Error
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.cluster;
+
+/**
+ * 클러스터 관리 요청에 올바른 관리자 토큰이 없을 때 (→ 403 Forbidden)
+ */
+public class ClusterAccessDeniedException extends RuntimeException {
+
+    public ClusterAccessDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cluster")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterController {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Cluster-Admin-Token";
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterController.class);
+    private final ClusterMembership clusterMembership;
+
+    /**
+     * 현재 클러스터 구성원과 파티션 소유 현황을 조회하는 기능
+     */
+    @GetMapping("members")
+    public ClusterStatus members() {
+        return clusterMembership.status();
+    }
+
+    /**
+     * 클러스터 구성원을 변경하고 파티션을 재분배하는 기능 (모든 인스턴스에 같은 목록으로 호출)
+     * X-Cluster-Admin-Token 헤더가 point.cluster.admin-token 과 같아야 하며, 다르면 403 을 반환한다.
+     * 메모리 데이터는 옮겨지지 않으므로, 이 인스턴스에 데이터가 있는 파티션의 소유자가 바뀌는 변경은 400 으로 거절한다.
+     * 새로 받은 파티션은 activate 전까지 400 으로 거절하므로 변경은 다음 순서로 한다.
+     * 1. 모든 인스턴스에 PUT /cluster/members 를 호출한다.
+     * 2. 모두 200 이면 모든 인스턴스에 POST /cluster/members/activate 를 호출한다.
+     * 3. 하나라도 400 이면 모든 인스턴스에 이전 목록으로 PUT 한 뒤 activate 를 호출해 되돌린다.
+     */
+    @PutMapping("members")
+    public ClusterStatus updateMembers(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String adminToken,
+            @RequestBody List<String> members
+    ) {
+        clusterMembership.authorize(adminToken);
+        ClusterStatus status = clusterMembership.updateMembers(members);
+        log.warn("클러스터 구성원 변경 - members: {}, 이동한 파티션: {}, 열기 전 파티션: {}",
+                members, status.movedPartitions(), status.pendingPartitions());
+        return status;
+    }
+
+    /**
+     * 구성원 변경으로 새로 받은 파티션을 여는 기능 (모든 인스턴스가 구성원 변경을 받아들인 뒤 호출)
+     */
+    @PostMapping("members/activate")
+    public ClusterStatus activate(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String adminToken
+    ) {
+        clusterMembership.authorize(adminToken);
+        return clusterMembership.activate();
+    }
+}
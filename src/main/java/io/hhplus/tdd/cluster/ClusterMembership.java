@@ -0,0 +1,239 @@
+package io.hhplus.tdd.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 현재 클러스터 구성원과 파티션 링을 관리한다.
+ * 구성원이 바뀌면 링을 새로 만들어 교체하며(재분배), 조회는 Lock 없이 최신 링을 읽는다.
+ * 데이터는 소유 인스턴스의 메모리에만 있고 옮길 수 없으므로 구성원 변경은 두 단계로 한다.
+ * - updateMembers : 이 인스턴스에 데이터가 있는 파티션을 잃는 변경이면 거절하고, 아니면 링을 바꾼다.
+ *   새로 받은 파티션은 activate 전까지 막아 두어, 이전 소유자가 변경을 거절했을 때 0 포인트로 처리하지 않는다.
+ * - activate : 모든 인스턴스가 변경을 받아들인 뒤 막아 둔 파티션을 연다.
+ * 로컬 쓰기는 읽기 Lock, 구성원 변경은 쓰기 Lock 을 잡아, 데이터 확인과 링 교체 사이에 새 데이터가 생기지 않게 한다.
+ * 관리자 토큰은 구성원 변경 API 와 인스턴스 간 전달 요청 서명에 함께 쓰는 클러스터 비밀값이다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterMembership {
+
+    private static final String FORWARD_SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final String selfUrl;
+    private final int partitions;
+    private final int virtualNodes;
+    private final String adminToken;
+    private final ReentrantReadWriteLock layoutLock = new ReentrantReadWriteLock();
+    // 파티션마다 이 인스턴스에서 쓰기가 한 번이라도 있었으면 1
+    private final AtomicIntegerArray heldPartitions;
+    private volatile Layout layout;
+    private volatile int lastMovedPartitions;
+
+    public ClusterMembership(ClusterProperties properties) {
+        if (properties.selfUrl() == null || properties.selfUrl().isBlank()) {
+            throw new IllegalArgumentException("point.cluster.self-url 설정이 필요합니다.");
+        }
+        if (properties.adminToken() == null || properties.adminToken().isBlank()) {
+            throw new IllegalArgumentException("point.cluster.admin-token 설정이 필요합니다.");
+        }
+        this.selfUrl = normalize(properties.selfUrl());
+        this.partitions = properties.partitions();
+        this.virtualNodes = properties.virtualNodes();
+        this.adminToken = properties.adminToken();
+        this.layout = new Layout(PartitionRing.of(normalize(properties.members()), partitions, virtualNodes), new boolean[partitions]);
+        this.heldPartitions = new AtomicIntegerArray(partitions);
+    }
+
+    public String selfUrl() {
+        return selfUrl;
+    }
+
+    public String ownerOf(long userId) {
+        return layout.ring().ownerOf(userId);
+    }
+
+    /**
+     * 이 인스턴스가 사용자의 파티션을 소유하면 true
+     * 구성원 변경으로 새로 받아 아직 열리지 않은 파티션이면 처리할 수 없으므로 IllegalStateException 을 던진다.
+     */
+    public boolean isOwner(long userId) {
+        return layout.isOwner(selfUrl, userId);
+    }
+
+    /**
+     * 구성원 변경 요청의 관리자 토큰을 확인한다.
+     */
+    public void authorize(String token) {
+        if (token == null || !MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ClusterAccessDeniedException("클러스터 관리자 토큰이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 다른 인스턴스로 전달하는 요청에 붙일 서명 (관리자 토큰을 키로 메서드와 경로를 HMAC-SHA256 으로 서명)
+     */
+    public String forwardSignature(String method, String path) {
+        try {
+            Mac mac = Mac.getInstance(FORWARD_SIGNATURE_ALGORITHM);
+            mac.init(new SecretKeySpec(adminToken.getBytes(StandardCharsets.UTF_8), FORWARD_SIGNATURE_ALGORITHM));
+            return HexFormat.of().formatHex(mac.doFinal((method + " " + path).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 전달 요청 헤더의 서명이 이 클러스터의 인스턴스가 붙인 것인지 상수 시간으로 비교한다.
+     * 헤더가 없거나 서명이 다르면 클라이언트가 보낸 일반 요청으로 본다.
+     */
+    public boolean isForwarded(String signature, String method, String path) {
+        return signature != null && MessageDigest.isEqual(
+                forwardSignature(method, path).getBytes(StandardCharsets.UTF_8), signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 사용자를 모두 소유하고 있으면 action 을 실행하고 결과를, 하나라도 소유하지 않으면 실행하지 않고 null 을 반환한다.
+     * 실행하는 동안 구성원 변경은 기다리며, 사용자의 파티션은 데이터가 있는 파티션으로 기록된다.
+     * 입력 검증(IllegalArgumentException)에서 거절된 요청은 데이터를 바꾸지 않으므로 기록하지 않는다. (워밍업 요청 등)
+     */
+    public <T> T writeIfOwner(Supplier<T> action, long... userIds) {
+        layoutLock.readLock().lock();
+        try {
+            Layout current = layout;
+            for (long userId : userIds) {
+                if (!current.isOwner(selfUrl, userId)) {
+                    return null;
+                }
+            }
+            try {
+                T result = action.get();
+                markHeld(current.ring(), userIds);
+                return result;
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (RuntimeException | Error e) {
+                markHeld(current.ring(), userIds);
+                throw e;
+            }
+        } finally {
+            layoutLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 구성원을 교체하고 파티션 소유자를 다시 계산한다.
+     * 이 인스턴스에 데이터가 있는 파티션의 소유자가 바뀌면 그 사용자가 새 소유자에서 0 포인트로 보이므로 IllegalStateException 으로 거절한다.
+     * 새로 받은 파티션은 activate 전까지 막아 둔다. (이전 소유자의 데이터 확인이 아직 끝나지 않았을 수 있다)
+     */
+    public ClusterStatus updateMembers(List<String> members) {
+        PartitionRing updated = PartitionRing.of(normalize(members), partitions, virtualNodes);
+        layoutLock.writeLock().lock();
+        try {
+            Layout current = layout;
+            int leaving = 0;
+            boolean[] pending = new boolean[partitions];
+            for (int partition = 0; partition < partitions; partition++) {
+                boolean owned = selfUrl.equals(updated.ownerOfPartition(partition));
+                if (!owned && heldPartitions.get(partition) == 1) {
+                    leaving++;
+                }
+                pending[partition] = owned
+                        && (!selfUrl.equals(current.ring().ownerOfPartition(partition)) || current.pending()[partition]);
+            }
+            if (leaving > 0) {
+                throw new IllegalStateException("이 인스턴스에 데이터가 있는 파티션 " + leaving
+                        + "개의 소유자가 바뀌므로 구성원을 변경할 수 없습니다. (메모리 데이터는 옮겨지지 않음)");
+            }
+            lastMovedPartitions = current.ring().movedPartitions(updated);
+            layout = new Layout(updated, pending);
+            return status();
+        } finally {
+            layoutLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 구성원 변경으로 새로 받아 막아 둔 파티션을 연다. (모든 인스턴스가 updateMembers 를 받아들인 뒤 호출)
+     */
+    public ClusterStatus activate() {
+        layoutLock.writeLock().lock();
+        try {
+            layout = new Layout(layout.ring(), new boolean[partitions]);
+            return status();
+        } finally {
+            layoutLock.writeLock().unlock();
+        }
+    }
+
+    public ClusterStatus status() {
+        Layout current = layout;
+        return new ClusterStatus(selfUrl, current.ring().members(), current.ring().partitionCount(),
+                current.ring().ownedPartitions(selfUrl), lastMovedPartitions, current.pendingCount());
+    }
+
+    private void markHeld(PartitionRing ring, long... userIds) {
+        for (long userId : userIds) {
+            int partition = ring.partitionOf(userId);
+            if (heldPartitions.get(partition) == 0) {
+                heldPartitions.set(partition, 1);
+            }
+        }
+    }
+
+    private List<String> normalize(List<String> members) {
+        LinkedHashSet<String> normalized = new LinkedHashSet<>();
+        for (String member : members) {
+            normalized.add(normalize(member));
+        }
+        // 구성원 목록이 비어 있으면 단독 인스턴스로 동작
+        if (normalized.isEmpty()) {
+            normalized.add(selfUrl);
+        }
+        return List.copyOf(normalized);
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    /**
+     * 링과, 구성원 변경으로 새로 받아 아직 열지 않은 파티션 (함께 교체하여 서로 어긋난 조합을 읽지 않게 한다)
+     */
+    private record Layout(PartitionRing ring, boolean[] pending) {
+
+        boolean isOwner(String selfUrl, long userId) {
+            int partition = ring.partitionOf(userId);
+            if (!selfUrl.equals(ring.ownerOfPartition(partition))) {
+                return false;
+            }
+            if (pending[partition]) {
+                throw new IllegalStateException("구성원 변경으로 옮겨 오는 파티션의 사용자입니다. 구성원 변경이 끝난 뒤 다시 시도해 주세요.");
+            }
+            return true;
+        }
+
+        int pendingCount() {
+            int count = 0;
+            for (boolean value : pending) {
+                if (value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
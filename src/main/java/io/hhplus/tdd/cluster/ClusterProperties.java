@@ -0,0 +1,30 @@
+package io.hhplus.tdd.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 다중 인스턴스 배포 설정
+ * - enabled : true이면 userId 파티션 소유 인스턴스로 요청을 전달
+ * - selfUrl : 이 인스턴스의 주소 (예: http://10.0.0.1:8080)
+ * - members : 클러스터 전체 인스턴스 주소 목록 (selfUrl 포함)
+ * - partitions : userId를 나누는 고정 파티션 수
+ * - virtualNodes : 인스턴스당 해시 링 가상 노드 수
+ * - adminToken : PUT /cluster/members 에 X-Cluster-Admin-Token 헤더로 보내야 하는 값이자 전달 요청 서명 키 (필수)
+ * - connectTimeout / readTimeout : 소유 인스턴스로 요청을 전달할 때의 연결 / 응답 대기 제한 시간
+ */
+@ConfigurationProperties(prefix = "point.cluster")
+public record ClusterProperties(
+        @DefaultValue("false") boolean enabled,
+        String selfUrl,
+        @DefaultValue List<String> members,
+        @DefaultValue("271") int partitions,
+        @DefaultValue("64") int virtualNodes,
+        String adminToken,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("3s") Duration readTimeout
+) {
+}
@@ -0,0 +1,242 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.*;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 다중 인스턴스 환경에서 userId 파티션을 소유한 인스턴스로 요청을 전달하는 PointService
+ * 사용자 Lock은 JVM 안에서만 유효하므로, 한 사용자의 요청은 항상 소유 인스턴스 한 곳에서만 처리되도록 한다.
+ * 다른 인스턴스에서 전달받은 요청은 다시 전달하지 않으며, 링 구성이 어긋나 이 인스턴스가 소유자가 아니면 거절한다.
+ * 로컬 쓰기는 ClusterMembership.writeIfOwner 안에서 실행하여, 소유권 확인부터 쓰기가 끝날 때까지 구성원이 바뀌지 않게 한다.
+ * 전달 요청의 X-Point-Forwarded 헤더에는 관리자 토큰으로 만든 서명을 넣고, 서명이 맞지 않는 헤더는 없는 것으로 본다.
+ * → 클라이언트가 헤더를 직접 붙여 소유하지 않은 인스턴스에서 충전/사용/이체를 실행할 수 없다.
+ * 전달 요청은 connect-timeout / read-timeout 으로 제한하여, 응답하지 않는 소유 인스턴스가 요청 스레드를 붙잡지 않게 한다.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterRoutingPointService implements PointService {
+
+    public static final String FORWARDED_HEADER = "X-Point-Forwarded";
+
+    private final PointServiceImpl localPointService;
+    private final ClusterMembership clusterMembership;
+    private final ObjectMapper objectMapper;
+    private final RestClient restClient;
+
+    public ClusterRoutingPointService(PointServiceImpl localPointService,
+                                      ClusterMembership clusterMembership,
+                                      ObjectMapper objectMapper,
+                                      RestClient.Builder restClientBuilder,
+                                      ClusterProperties properties) {
+        this.localPointService = localPointService;
+        this.clusterMembership = clusterMembership;
+        this.objectMapper = objectMapper;
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .connectTimeout(properties.connectTimeout())
+                .build());
+        requestFactory.setReadTimeout(properties.readTimeout());
+        this.restClient = restClientBuilder
+                .requestFactory(requestFactory)
+                .requestInterceptor((request, body, execution) -> {
+                    request.getHeaders().set(FORWARDED_HEADER,
+                            clusterMembership.forwardSignature(request.getMethod().name(), request.getURI().getRawPath()));
+                    return execution.execute(request, body);
+                })
+                .build();
+    }
+
+    @Override
+    public UserPoint getPoint(Long userId) {
+        String owner = remoteOwner(userId);
+        if (owner == null) {
+            return localPointService.getPoint(userId);
+        }
+        return restClient.get()
+                .uri(owner + "/point/{id}", userId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::rethrowClientError)
+                .body(UserPoint.class);
+    }
+
+    @Override
+    public UserPoint charge(long userId, long chargeAmount) {
+        return write(() -> localPointService.charge(userId, chargeAmount),
+                owner -> patch(owner + "/point/{id}/charge", userId, chargeAmount),
+                userId);
+    }
+
+    @Override
+    public UserPoint use(long userId, long useAmount) {
+        return write(() -> localPointService.use(userId, useAmount),
+                owner -> patch(owner + "/point/{id}/use", userId, useAmount),
+                userId);
+    }
+
+    @Override
+    public TransferResult transfer(long fromUserId, long toUserId, long amount) {
+        return write(() -> localPointService.transfer(fromUserId, toUserId, amount),
+                owner -> restClient.post()
+                        .uri(owner + "/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(new TransferRequest(fromUserId, toUserId, amount))
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, this::rethrowClientError)
+                        .body(TransferResult.class),
+                fromUserId, toUserId);
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long userId) {
+        String owner = remoteOwner(userId);
+        if (owner == null) {
+            return localPointService.getHistory(userId);
+        }
+        return restClient.get()
+                .uri(owner + "/point/{id}/histories", userId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::rethrowClientError)
+                .body(new ParameterizedTypeReference<List<PointHistory>>() {
+                });
+    }
+
+    @Override
+    public HistoryStream streamHistory(long userId) {
+        if (remoteOwner(userId) == null) {
+            return localPointService.streamHistory(userId);
+        }
+        List<PointHistory> histories = getHistory(userId);
+        return new HistoryStream(histories.isEmpty() ? 0L : histories.get(histories.size() - 1).id(), histories.iterator());
+    }
+
+    /**
+     * 내역 id 는 인스턴스마다 따로 매기므로 이 인스턴스의 내역만 돌려준다.
+     */
+    @Override
+    public Iterator<PointHistory> iterateAllHistories(long fromId, long toId) {
+        return localPointService.iterateAllHistories(fromId, toId);
+    }
+
+    @Override
+    public PointSummary getSummary(long userId) {
+        String owner = remoteOwner(userId);
+        if (owner == null) {
+            return localPointService.getSummary(userId);
+        }
+        return restClient.get()
+                .uri(owner + "/point/{id}/summary", userId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::rethrowClientError)
+                .body(PointSummary.class);
+    }
+
+    /**
+     * 다른 인스턴스가 소유한 사용자면 소유 인스턴스 주소를, 로컬에서 처리해야 하면 null을 반환한다.
+     */
+    private String remoteOwner(long userId) {
+        // 잘못된 ID는 로컬 검증에서 바로 거절
+        if (userId <= 0 || clusterMembership.isOwner(userId)) {
+            return null;
+        }
+        return forwardTarget(userId);
+    }
+
+    /**
+     * 사용자를 모두 소유하고 있으면 구성원 변경과 겹치지 않게 로컬에서 쓰고, 아니면 소유 인스턴스로 전달한다.
+     */
+    private <T> T write(Supplier<T> local, Function<String, T> forward, long... userIds) {
+        for (long userId : userIds) {
+            // 잘못된 ID는 로컬 검증에서 바로 거절
+            if (userId <= 0) {
+                return local.get();
+            }
+        }
+        T result = clusterMembership.writeIfOwner(local, userIds);
+        if (result != null) {
+            return result;
+        }
+        String owner = forwardTarget(userIds[0]);
+        for (long userId : userIds) {
+            if (!owner.equals(clusterMembership.ownerOf(userId))) {
+                throw new IllegalStateException("서로 다른 인스턴스가 소유한 사용자 간에는 이체할 수 없습니다.");
+            }
+        }
+        return forward.apply(owner);
+    }
+
+    /**
+     * 전달받은 요청인데 이 인스턴스가 소유자가 아니면 링 구성이 어긋난 것이므로 처리하지도, 다시 전달하지도 않는다.
+     * → 구성원 변경 중에도 한 사용자를 두 인스턴스가 동시에 처리하지 않는다.
+     */
+    private String forwardTarget(long userId) {
+        if (isForwardedRequest()) {
+            throw new IllegalStateException("이 인스턴스는 사용자의 파티션을 소유하지 않습니다. 클러스터 구성원 변경이 끝난 뒤 다시 시도해 주세요.");
+        }
+        return clusterMembership.ownerOf(userId);
+    }
+
+    /**
+     * 충전/사용은 Idempotency-Key 를 함께 전달하여, 재시도가 다른 인스턴스로 들어와도 소유 인스턴스의 캐시에서 중복이 걸러지게 한다.
+     */
+    private UserPoint patch(String uri, long userId, long amount) {
+        return restClient.patch()
+                .uri(uri, userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    String idempotencyKey = currentHeader(PointController.IDEMPOTENCY_KEY_HEADER);
+                    if (idempotencyKey != null) {
+                        headers.set(PointController.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
+                .body(amount)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::rethrowClientError)
+                .body(UserPoint.class);
+    }
+
+    private static String currentHeader(String name) {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getHeader(name)
+                : null;
+    }
+
+    private boolean isForwardedRequest() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        return clusterMembership.isForwarded(request.getHeader(FORWARDED_HEADER), request.getMethod(), request.getRequestURI());
+    }
+
+    /**
+     * 소유 인스턴스의 400 응답을 같은 예외로 복원하여 호출한 쪽에서도 동일한 응답이 나가도록 한다.
+     */
+    private void rethrowClientError(HttpRequest request, ClientHttpResponse response) throws IOException {
+        ErrorResponse error = objectMapper.readValue(response.getBody(), ErrorResponse.class);
+        if ("INVALID_STATE".equals(error.code())) {
+            throw new IllegalStateException(error.message());
+        }
+        throw new IllegalArgumentException(error.message());
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.cluster;
+
+import java.util.List;
+
+/**
+ * 클러스터 구성 현황
+ * - movedPartitions : 마지막 구성원 변경으로 소유자가 바뀐 파티션 수
+ * - pendingPartitions : 구성원 변경으로 새로 받았지만 아직 열지 않은 파티션 수 (POST /cluster/members/activate 로 연다)
+ */
+public record ClusterStatus(
+        String self,
+        List<String> members,
+        int totalPartitions,
+        int ownedPartitions,
+        int movedPartitions,
+        int pendingPartitions
+) {
+}
@@ -0,0 +1,107 @@
+package io.hhplus.tdd.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * userId → 파티션 → 소유 인스턴스를 계산하는 일관된 해시 링 (불변)
+ * userId는 고정된 수의 파티션으로 나뉘고, 각 파티션은 가상 노드가 배치된 해시 링에서 소유자가 정해진다.
+ * 인스턴스가 추가/제거되면 해당 인스턴스와 인접한 파티션만 소유자가 바뀐다.
+ */
+public final class PartitionRing {
+
+    private final List<String> members;
+    private final String[] owners;
+
+    private PartitionRing(List<String> members, String[] owners) {
+        this.members = members;
+        this.owners = owners;
+    }
+
+    public static PartitionRing of(List<String> members, int partitions, int virtualNodes) {
+        if (members == null || members.isEmpty()) {
+            throw new IllegalArgumentException("클러스터 구성원은 1개 이상이어야 합니다.");
+        }
+        if (partitions <= 0 || virtualNodes <= 0) {
+            throw new IllegalArgumentException("파티션 수와 가상 노드 수는 1 이상이어야 합니다.");
+        }
+
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+
+        String[] owners = new String[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            Map.Entry<Long, String> entry = ring.ceilingEntry(mix(partition + 0x9E3779B97F4A7C15L));
+            owners[partition] = (entry != null ? entry : ring.firstEntry()).getValue();
+        }
+        return new PartitionRing(List.copyOf(members), owners);
+    }
+
+    public int partitionOf(long userId) {
+        return (int) Math.floorMod(mix(userId), (long) owners.length);
+    }
+
+    public String ownerOf(long userId) {
+        return owners[partitionOf(userId)];
+    }
+
+    public String ownerOfPartition(int partition) {
+        return owners[partition];
+    }
+
+    public List<String> members() {
+        return members;
+    }
+
+    public int partitionCount() {
+        return owners.length;
+    }
+
+    public int ownedPartitions(String member) {
+        int count = 0;
+        for (String owner : owners) {
+            if (owner.equals(member)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 다른 링과 비교해 소유자가 바뀐 파티션 수 (파티션 수가 같은 링끼리만 비교 가능)
+     */
+    public int movedPartitions(PartitionRing other) {
+        if (other.owners.length != owners.length) {
+            throw new IllegalArgumentException("파티션 수가 다른 링은 비교할 수 없습니다.");
+        }
+        int moved = 0;
+        for (int i = 0; i < owners.length; i++) {
+            if (!owners[i].equals(other.owners[i])) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    private static long hash(String value) {
+        // FNV-1a 64bit 후 비트 섞기
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
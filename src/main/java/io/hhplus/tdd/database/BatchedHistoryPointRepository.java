@@ -0,0 +1,245 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 호출 스레드의 내역 저장을 작은 묶음으로 모아 insertHistories 한 번으로 쓰는 PointRepository 데코레이터
+ * - 전용 스레드가 첫 내역을 받으면 maxSize 개가 찰 때까지 또는 linger 가 지날 때까지 더 모은 뒤 한 번에 쓴다.
+ * - 호출 스레드는 자기 내역이 쓰일 때까지 기다렸다가 저장된 내역(ID 포함)을 받는다.
+ * - 묶음을 쓰는 동안 들어온 내역은 다음 묶음이 되므로, 쓰기가 느릴수록 묶음이 커진다.
+ * - 묶음 쓰기가 Error 로 실패해도 전용 스레드는 멈추지 않으며, 그 묶음의 호출 스레드는 같은 예외를 받는다.
+ * 쓰기 비용을 묶음당 한 번만 내는 저장소(simulated, partitioned)에서 효과가 있다.
+ * Table 저장소는 PointHistoryTable 이 건마다 대기하므로 묶어도 비용이 줄지 않는다.
+ */
+public class BatchedHistoryPointRepository implements PointRepository, AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100L;
+
+    private final PointRepository delegate;
+    private final int maxSize;
+    private final long lingerNanos;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder entries = new LongAdder();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    public BatchedHistoryPointRepository(PointRepository delegate, PointStoreProperties.HistoryBatch historyBatch) {
+        if (historyBatch.maxSize() <= 0) {
+            throw new IllegalArgumentException("내역 묶음 크기는 1 이상이어야 합니다.");
+        }
+        this.delegate = delegate;
+        this.maxSize = historyBatch.maxSize();
+        this.lingerNanos = historyBatch.linger().toNanos();
+        this.flusher = new Thread(this::runFlusher, "point-history-batch");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        return delegate.selectById(userId);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        return delegate.insertOrUpdate(userId, amount);
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        return insertHistories(List.of(new HistoryWrite(userId, amount, type, updateMillis))).get(0);
+    }
+
+    @Override
+    public List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+        if (closed) {
+            throw new IllegalStateException("내역 저장소가 종료되었습니다.");
+        }
+        List<Pending> pendings = new ArrayList<>(writes.size());
+        for (HistoryWrite write : writes) {
+            pendings.add(new Pending(write, new CompletableFuture<>()));
+        }
+        queue.addAll(pendings);
+        if (closed) {
+            // close() 가 큐를 비운 뒤에 들어간 내역은 아무도 쓰지 않으므로 직접 실패로 끝낸다 (이미 꺼내 간 내역은 꺼낸 쪽이 끝낸다)
+            for (Pending pending : pendings) {
+                if (queue.remove(pending)) {
+                    pending.future().completeExceptionally(new IllegalStateException("내역 저장소가 종료되었습니다."));
+                }
+            }
+        }
+        List<PointHistory> histories = new ArrayList<>(pendings.size());
+        for (Pending pending : pendings) {
+            histories.add(join(pending.future()));
+        }
+        return histories;
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        return delegate.selectHistoriesByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        return delegate.iterateHistoriesByUserId(userId);
+    }
+
+    @Override
+    public HistoryStream streamHistoriesByUserId(long userId) {
+        return delegate.streamHistoriesByUserId(userId);
+    }
+
+    @Override
+    public boolean supportsHistoryExport() {
+        return delegate.supportsHistoryExport();
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByIdRange(long fromId, long toId, int limit) {
+        return delegate.selectHistoriesByIdRange(fromId, toId, limit);
+    }
+
+    @Override
+    public List<DailyRollup> selectDailyRollupsByUserId(long userId, ZoneId zone) {
+        return delegate.selectDailyRollupsByUserId(userId, zone);
+    }
+
+    @Override
+    public boolean supportsCompaction() {
+        return delegate.supportsCompaction();
+    }
+
+    @Override
+    public CompactionResult compactHistoriesBefore(long cutoffMillis, ZoneId zone) {
+        return delegate.compactHistoriesBefore(cutoffMillis, zone);
+    }
+
+    /**
+     * 지금까지 쓴 묶음 수
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * 묶음 하나에 담긴 평균 내역 수
+     */
+    public double averageBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0.0 : (double) entries.sum() / count;
+    }
+
+    /**
+     * 새 저장을 막고, 이미 받은 내역을 모두 쓴 뒤 종료한다.
+     */
+    @Override
+    public void close() throws Exception {
+        closed = true;
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 직전에 들어와 쓰이지 못한 내역은 기다리는 쪽이 멈추지 않도록 실패로 끝낸다
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new IllegalStateException("내역 저장소가 종료되었습니다."));
+        }
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void runFlusher() {
+        List<Pending> batch = new ArrayList<>(maxSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                collectAndFlush(batch);
+            } catch (Throwable e) {
+                // 전용 스레드가 멈추면 뒤에 들어온 내역이 영원히 끝나지 않으므로, 이번 묶음만 실패로 끝내고 계속한다
+                for (Pending pending : batch) {
+                    pending.future().completeExceptionally(e);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 내역을 기다렸다가 maxSize 개가 찰 때까지 또는 linger 가 지날 때까지 더 모아 쓴다.
+     */
+    private void collectAndFlush(List<Pending> batch) {
+        try {
+            Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return;
+            }
+            batch.add(first);
+            long deadline = System.nanoTime() + lingerNanos;
+            while (batch.size() < maxSize) {
+                long remaining = deadline - System.nanoTime();
+                Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<HistoryWrite> writes = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            writes.add(pending.write());
+        }
+        try {
+            List<PointHistory> histories = delegate.insertHistories(writes);
+            batches.increment();
+            entries.add(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(histories.get(i));
+            }
+        } catch (Throwable e) {
+            for (Pending pending : batch) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private static PointHistory join(CompletableFuture<PointHistory> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Pending(HistoryWrite write, CompletableFuture<PointHistory> future) {
+    }
+}
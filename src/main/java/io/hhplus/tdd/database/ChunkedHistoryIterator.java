@@ -0,0 +1,56 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 사용자 내역을 CHUNK_SIZE 개씩 복사해 오며 순회하는 반복자
+ * 생성 시점의 내역 위치(end)까지만 읽으므로 순회 중 추가된 내역은 포함하지 않고, 한 번에 한 묶음만 메모리에 둔다.
+ * 순회 중 앞쪽 내역이 일별 요약으로 압축되면 그 범위는 비어 있는 묶음으로 돌아오며 건너뛴다.
+ */
+final class ChunkedHistoryIterator implements Iterator<PointHistory> {
+
+    static final int CHUNK_SIZE = 256;
+
+    /**
+     * 절대 위치 [fromIndex, toIndex) 범위에 남아 있는 내역을 복사해 반환한다.
+     */
+    @FunctionalInterface
+    interface ChunkReader {
+        List<PointHistory> read(int fromIndex, int toIndex);
+    }
+
+    private final int end;
+    private final ChunkReader reader;
+    private List<PointHistory> chunk = List.of();
+    private int chunkPosition;
+    private int nextFrom;
+
+    ChunkedHistoryIterator(int start, int end, ChunkReader reader) {
+        this.nextFrom = start;
+        this.end = end;
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (chunkPosition >= chunk.size() && nextFrom < end) {
+            int to = Math.min(nextFrom + CHUNK_SIZE, end);
+            chunk = reader.read(nextFrom, to);
+            chunkPosition = 0;
+            nextFrom = to;
+        }
+        return chunkPosition < chunk.size();
+    }
+
+    @Override
+    public PointHistory next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return chunk.get(chunkPosition++);
+    }
+}
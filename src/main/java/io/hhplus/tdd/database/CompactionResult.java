@@ -0,0 +1,34 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 내역 압축 결과
+ * - entriesRemoved : 요약으로 바꾼 원본 내역 수
+ * - rollupsAdded : 새로 만든 일별 요약 수 (기존 요약에 합친 경우 제외)
+ * - estimatedBytesReclaimed : 객체 크기로 추정한 회수 메모리 (압축 OOP 기준 근사치, 새 요약이 더 크면 음수)
+ */
+public record CompactionResult(
+        long entriesRemoved,
+        long rollupsAdded,
+        long estimatedBytesReclaimed
+) {
+    public static final CompactionResult EMPTY = new CompactionResult(0, 0, 0);
+
+    // PointHistory(헤더 12 + long 3개 + 참조 1개 = 40) + 목록 참조 4
+    // (전체 내역 색인의 칸 4 는 페이지의 칸이 모두 지워져 페이지를 버릴 때 회수되므로 넣지 않는다)
+    private static final long HISTORY_BYTES = 44;
+    // DailyRollup(헤더 12 + long 3개 + 참조 2개 = 44, 정렬 48) + LocalDate 24 + 목록 참조 4
+    private static final long ROLLUP_BYTES = 76;
+
+    public static CompactionResult of(long entriesRemoved, long rollupsAdded) {
+        return new CompactionResult(entriesRemoved, rollupsAdded,
+                entriesRemoved * HISTORY_BYTES - rollupsAdded * ROLLUP_BYTES);
+    }
+
+    public CompactionResult plus(CompactionResult other) {
+        return new CompactionResult(
+                entriesRemoved + other.entriesRemoved,
+                rollupsAdded + other.rollupsAdded,
+                estimatedBytesReclaimed + other.estimatedBytesReclaimed
+        );
+    }
+}
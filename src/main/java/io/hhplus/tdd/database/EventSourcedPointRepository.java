@@ -0,0 +1,174 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PointHistory 이벤트 스트림을 원본으로 두고 UserPoint를 투영(projection)으로 만드는 저장소
+ * - insertHistory : 이벤트를 추가하고 투영을 증분 갱신 (이 시점에 잔액이 확정됨)
+ * - insertOrUpdate : 잔액을 따로 저장하지 않고 확정될 값만 반환
+ *   → insertOrUpdate 후 insertHistory 전에 실패해도 잔액과 내역이 어긋나지 않는다.
+ * - 사용자별로 이벤트 N개마다 스냅샷을 남겨, 투영을 다시 만들 때 최대 N-1개 이벤트만 재생한다.
+ */
+public class EventSourcedPointRepository implements PointRepository {
+
+    private final int snapshotInterval;
+    private final ConcurrentHashMap<Long, EventStream> streams = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final HistoryIdIndex historyIndex = new HistoryIdIndex();
+
+    public EventSourcedPointRepository(int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("스냅샷 간격은 1 이상이어야 합니다.");
+        }
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        EventStream stream = streams.get(userId);
+        if (stream == null) {
+            return UserPoint.empty(userId);
+        }
+        synchronized (stream) {
+            if (stream.projection == null) {
+                stream.projection = stream.replayFromSnapshot();
+            }
+            return stream.projection;
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        // 잔액은 이벤트로만 변경되므로 여기서는 저장하지 않는다
+        return new UserPoint(userId, amount, System.currentTimeMillis());
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        EventStream stream = streams.computeIfAbsent(userId, EventStream::new);
+        synchronized (stream) {
+            PointHistory event = new PointHistory(sequence.incrementAndGet(), userId, amount, type, updateMillis);
+            UserPoint current = stream.projection != null ? stream.projection : stream.replayFromSnapshot();
+            stream.events.add(event);
+            historyIndex.add(event);
+            stream.projection = apply(current, event);
+            if (stream.events.size() % snapshotInterval == 0) {
+                stream.snapshot = new Snapshot(stream.projection, stream.events.size());
+            }
+            return event;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        EventStream stream = streams.get(userId);
+        if (stream == null) {
+            return List.of();
+        }
+        synchronized (stream) {
+            return List.copyOf(stream.events);
+        }
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        EventStream stream = streams.get(userId);
+        if (stream == null) {
+            return Collections.emptyIterator();
+        }
+        int size;
+        synchronized (stream) {
+            size = stream.events.size();
+        }
+        return new ChunkedHistoryIterator(0, size, (from, to) -> {
+            synchronized (stream) {
+                return List.copyOf(stream.events.subList(from, to));
+            }
+        });
+    }
+
+    @Override
+    public HistoryStream streamHistoriesByUserId(long userId) {
+        EventStream stream = streams.get(userId);
+        if (stream == null) {
+            return new HistoryStream(0L, Collections.emptyIterator());
+        }
+        long lastId;
+        synchronized (stream) {
+            lastId = stream.events.isEmpty() ? 0L : stream.events.get(stream.events.size() - 1).id();
+        }
+        return new HistoryStream(lastId, iterateHistoriesByUserId(userId));
+    }
+
+    @Override
+    public boolean supportsHistoryExport() {
+        return true;
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByIdRange(long fromId, long toId, int limit) {
+        return historyIndex.read(fromId, toId, limit);
+    }
+
+    /**
+     * 메모리의 투영을 모두 버리고 각 사용자의 최신 스냅샷 + 이후 이벤트로 다시 만든다. (콜드 재구성)
+     */
+    public void rebuildProjections() {
+        streams.values().forEach(stream -> {
+            synchronized (stream) {
+                stream.projection = stream.replayFromSnapshot();
+            }
+        });
+    }
+
+    /**
+     * 마지막 스냅샷 이후 쌓인 이벤트 수 (재구성 시 재생할 이벤트 수, 항상 스냅샷 간격 미만)
+     */
+    public int eventsSinceSnapshot(long userId) {
+        EventStream stream = streams.get(userId);
+        if (stream == null) {
+            return 0;
+        }
+        synchronized (stream) {
+            return stream.events.size() - stream.snapshot.eventCount();
+        }
+    }
+
+    private static UserPoint apply(UserPoint current, PointHistory event) {
+        return new UserPoint(current.id(), event.type().applyTo(current.point(), event.amount()), event.updateMillis());
+    }
+
+    private record Snapshot(
+            UserPoint userPoint,
+            int eventCount
+    ) {
+    }
+
+    private static final class EventStream {
+        private final List<PointHistory> events = new ArrayList<>();
+        private Snapshot snapshot;
+        private UserPoint projection;
+
+        private EventStream(long userId) {
+            this.snapshot = new Snapshot(new UserPoint(userId, 0L, 0L), 0);
+        }
+
+        private UserPoint replayFromSnapshot() {
+            UserPoint userPoint = snapshot.userPoint();
+            for (int i = snapshot.eventCount(); i < events.size(); i++) {
+                userPoint = apply(userPoint, events.get(i));
+            }
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * selectById 에 헤지 읽기를 적용하는 PointRepository 데코레이터
+ * 첫 조회가 최근 조회 지연 시간의 p90(설정값) 안에 끝나지 않으면 같은 조회를 한 번 더 보내고 먼저 성공한 결과를 쓰며, 남은 조회는 취소(인터럽트)한다.
+ * 추가 조회는 예산(전체 조회 대비 budgetPercent%)을 넘지 않는다. 쓰기와 내역 조회는 그대로 위임한다.
+ * - 기준 시간이 정해지기 전(표본 부족)에는 호출 스레드에서 바로 조회한다.
+ * - 조회 스레드는 maxConcurrency 개로 제한한다. 모두 사용 중이면 첫 조회는 호출 스레드에서 하고, 헤지는 보내지 않는다.
+ */
+public class HedgedReadPointRepository implements PointRepository, AutoCloseable {
+
+    private static final long TOKEN = 1_000L;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final PointRepository delegate;
+    private final double percentile;
+    private final long tokensPerRead;
+    private final int minSamples;
+    private final long[] window;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder hedgedReads = new LongAdder();
+    private final ThreadPoolExecutor executor;
+    private volatile long thresholdNanos = Long.MAX_VALUE;
+
+    public HedgedReadPointRepository(PointRepository delegate, PointStoreProperties.Hedge hedge) {
+        if (hedge.window() < hedge.minSamples() || hedge.minSamples() <= 0) {
+            throw new IllegalArgumentException("헤지 읽기 표본 창은 최소 표본 수 이상이어야 합니다.");
+        }
+        if (hedge.maxConcurrency() <= 0) {
+            throw new IllegalArgumentException("헤지 읽기 조회 스레드 수는 1 이상이어야 합니다.");
+        }
+        this.delegate = delegate;
+        this.percentile = hedge.percentile();
+        this.tokensPerRead = Math.round(hedge.budgetPercent() / 100.0 * TOKEN);
+        this.minSamples = hedge.minSamples();
+        this.window = new long[hedge.window()];
+        AtomicInteger sequence = new AtomicInteger();
+        // 쉬는 스레드가 있으면 재사용하고, 없을 때만 maxConcurrency 까지 늘린다 (대기열 없음 → 넘치면 거절)
+        this.executor = new ThreadPoolExecutor(0, hedge.maxConcurrency(), 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "point-hedged-read-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        primaryReads.increment();
+        earnToken();
+        long threshold = thresholdNanos;
+        if (threshold == Long.MAX_VALUE) {
+            return timedSelect(userId, null);
+        }
+        Attempt primary = submit(userId);
+        if (primary == null) {
+            return timedSelect(userId, null);
+        }
+        try {
+            return primary.result().get(threshold, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            Attempt hedge = trySpendToken() ? submit(userId) : null;
+            if (hedge == null) {
+                return await(primary.result());
+            }
+            hedgedReads.increment();
+            try {
+                return await(firstSuccess(primary.result(), hedge.result()));
+            } finally {
+                primary.cancel();
+                hedge.cancel();
+            }
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 조회 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        return delegate.insertOrUpdate(userId, amount);
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        return delegate.insertHistory(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+        return delegate.insertHistories(writes);
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        return delegate.selectHistoriesByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        return delegate.iterateHistoriesByUserId(userId);
+    }
+
+    @Override
+    public HistoryStream streamHistoriesByUserId(long userId) {
+        return delegate.streamHistoriesByUserId(userId);
+    }
+
+    @Override
+    public boolean supportsHistoryExport() {
+        return delegate.supportsHistoryExport();
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByIdRange(long fromId, long toId, int limit) {
+        return delegate.selectHistoriesByIdRange(fromId, toId, limit);
+    }
+
+    @Override
+    public List<DailyRollup> selectDailyRollupsByUserId(long userId, ZoneId zone) {
+        return delegate.selectDailyRollupsByUserId(userId, zone);
+    }
+
+    @Override
+    public boolean supportsCompaction() {
+        return delegate.supportsCompaction();
+    }
+
+    @Override
+    public CompactionResult compactHistoriesBefore(long cutoffMillis, ZoneId zone) {
+        return delegate.compactHistoriesBefore(cutoffMillis, zone);
+    }
+
+    /**
+     * 헤지 조회를 보낸 비율(%) = 추가로 발생한 selectById 부하
+     */
+    public double extraLoadPercent() {
+        long primaries = primaryReads.sum();
+        return primaries == 0 ? 0.0 : hedgedReads.sum() * 100.0 / primaries;
+    }
+
+    public long hedgedReads() {
+        return hedgedReads.sum();
+    }
+
+    /**
+     * 기준 시간 계산에 남긴 조회 시간 표본 수 (취소된 조회는 빠진다)
+     */
+    public long recordedSamples() {
+        return sampleCount.get();
+    }
+
+    /**
+     * 현재 헤지 기준 시간 (표본이 부족하면 Long.MAX_VALUE, 헤지하지 않음)
+     */
+    public long thresholdNanos() {
+        return thresholdNanos;
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdownNow();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * cancelled 는 조회 스레드에 맡긴 조회의 취소 표시 (호출 스레드에서 하는 조회는 null)
+     */
+    private UserPoint timedSelect(long userId, AtomicBoolean cancelled) {
+        long start = System.nanoTime();
+        UserPoint userPoint = delegate.selectById(userId);
+        // 취소(인터럽트)된 조회는 일찍 끝나 실제보다 짧게 잡히므로 표본에서 뺀다.
+        // 저장소가 인터럽트를 삼킬 수 있으므로(UserPointTable.throttle) 인터럽트 상태가 아닌 취소 표시로 판단한다.
+        if (cancelled == null || !cancelled.get()) {
+            recordSample(System.nanoTime() - start);
+        }
+        return userPoint;
+    }
+
+    /**
+     * 조회 스레드에 조회를 맡긴다. 조회 스레드가 모두 사용 중이면 null
+     */
+    private Attempt submit(long userId) {
+        CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        try {
+            Future<?> task = executor.submit(() -> {
+                try {
+                    result.complete(timedSelect(userId, cancelled));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return new Attempt(result, task, cancelled);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 둘 중 먼저 성공한 결과로 끝나고, 둘 다 실패해야 실패로 끝나는 Future
+     * 실패한 쪽은 상대가 이미 실패했을 때만 결과를 채우므로, 나중에 끝난 쪽이 항상 두 결과를 모두 본다.
+     */
+    private static CompletableFuture<UserPoint> firstSuccess(CompletableFuture<UserPoint> first,
+                                                             CompletableFuture<UserPoint> second) {
+        CompletableFuture<UserPoint> winner = new CompletableFuture<>();
+        first.whenComplete((userPoint, e) -> settle(winner, userPoint, e, second));
+        second.whenComplete((userPoint, e) -> settle(winner, userPoint, e, first));
+        return winner;
+    }
+
+    private static void settle(CompletableFuture<UserPoint> winner, UserPoint userPoint, Throwable failure,
+                               CompletableFuture<UserPoint> other) {
+        if (failure == null) {
+            winner.complete(userPoint);
+        } else if (other.isCompletedExceptionally()) {
+            winner.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * 최근 window 개 조회 시간을 원형 버퍼에 남기고, 창의 1/10 마다 기준 분위수를 다시 계산한다.
+     * 버퍼는 Lock 없이 덮어쓰므로 계산 중 일부 표본이 바뀔 수 있지만 기준 시간은 근사치면 충분하다.
+     */
+    private void recordSample(long elapsedNanos) {
+        long count = sampleCount.getAndIncrement();
+        window[(int) (count % window.length)] = elapsedNanos;
+        long recorded = count + 1;
+        if (recorded >= minSamples && recorded % Math.max(1, window.length / 10) == 0) {
+            recomputeThreshold((int) Math.min(recorded, window.length));
+        }
+    }
+
+    private synchronized void recomputeThreshold(int size) {
+        long[] samples = Arrays.copyOf(window, size);
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        thresholdNanos = samples[Math.max(0, Math.min(index, size - 1))];
+    }
+
+    private void earnToken() {
+        tokens.accumulateAndGet(tokensPerRead, (current, earned) -> Math.min(MAX_TOKENS, current + earned));
+    }
+
+    private boolean trySpendToken() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 조회 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * 조회 스레드에 맡긴 조회 한 건 (result 로 결과를 받고, task 로 취소한다)
+     * 인터럽트보다 먼저 cancelled 를 세워, 인터럽트로 일찍 끝난 조회가 표본에 남지 않게 한다.
+     */
+    private record Attempt(
+            CompletableFuture<UserPoint> result,
+            Future<?> task,
+            AtomicBoolean cancelled
+    ) {
+        void cancel() {
+            cancelled.set(true);
+            task.cancel(true);
+        }
+    }
+}
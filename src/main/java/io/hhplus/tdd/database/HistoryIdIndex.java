@@ -0,0 +1,117 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 전체 내역을 id 순서로 읽기 위한 색인 (id 를 1부터 1씩 늘려 주는 저장소용)
+ * - id - 1 위치에 내역을 두는 고정 크기 페이지 묶음이다. 내역 객체는 저장소와 공유하므로 내역당 참조 하나만 더 든다.
+ * - 압축으로 지운 내역은 REMOVED 로 바꿔 객체를 놓아 준다.
+ *   칸이 모두 REMOVED 이고 published 아래에 있는 페이지는 통째로 버린다. (버린 페이지의 id 는 지워진 내역처럼 건너뛴다)
+ * - id 를 받았지만 아직 색인에 들어오지 않은 내역이 있을 수 있으므로, 1부터 빈칸 없이 채워진 id 까지만 읽는다.
+ *   → 읽은 마지막 id 보다 작은 id 의 내역이 나중에 나타나지 않으므로, 마지막 id + 1 부터 이어 읽어도 빠지는 내역이 없다.
+ * 쓰기와 읽기 모두 Lock 없이 칸 단위로 처리한다.
+ */
+final class HistoryIdIndex {
+
+    private static final int PAGE_BITS = 12;
+    static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final Object REMOVED = new Object();
+
+    private final ConcurrentHashMap<Long, Page> pages = new ConcurrentHashMap<>();
+    // 1 ~ published 의 id 는 모두 색인에 들어와 있다 (읽을 때 앞으로 당긴다)
+    private final AtomicLong published = new AtomicLong();
+
+    void add(PointHistory history) {
+        pages.computeIfAbsent(pageOf(history.id()), page -> new Page())
+                .slots.set(offsetOf(history.id()), history);
+    }
+
+    void remove(PointHistory history) {
+        long pageNumber = pageOf(history.id());
+        Page page = pages.get(pageNumber);
+        // 페이지의 마지막 칸까지 지웠어도 아직 published 아래가 아니면, published 를 당길 때 버린다
+        if (page != null && page.remove(offsetOf(history.id())) && lastIdOf(pageNumber) <= advancePublished()) {
+            pages.remove(pageNumber, page);
+        }
+    }
+
+    /**
+     * 메모리에 남아 있는 페이지 수
+     */
+    int pageCount() {
+        return pages.size();
+    }
+
+    /**
+     * fromId ≤ id ≤ toId 인 내역을 id 오름차순으로 최대 limit 건 (지워진 내역은 건너뛴다)
+     */
+    List<PointHistory> read(long fromId, long toId, int limit) {
+        long end = Math.min(toId, advancePublished());
+        List<PointHistory> histories = new ArrayList<>();
+        for (long id = Math.max(1L, fromId); id <= end && histories.size() < limit; id++) {
+            if (get(id) instanceof PointHistory history) {
+                histories.add(history);
+            }
+        }
+        return histories;
+    }
+
+    private long advancePublished() {
+        long current = published.get();
+        long next = current;
+        while (get(next + 1) != null) {
+            next++;
+            if (offsetOf(next) == PAGE_SIZE - 1) {
+                dropIfRemoved(pageOf(next));
+            }
+        }
+        return next > current ? published.accumulateAndGet(next, Math::max) : current;
+    }
+
+    private void dropIfRemoved(long pageNumber) {
+        Page page = pages.get(pageNumber);
+        if (page != null && page.isRemoved()) {
+            pages.remove(pageNumber, page);
+        }
+    }
+
+    private Object get(long id) {
+        Page page = pages.get(pageOf(id));
+        return page != null ? page.slots.get(offsetOf(id)) : null;
+    }
+
+    private static long lastIdOf(long pageNumber) {
+        return (pageNumber + 1) << PAGE_BITS;
+    }
+
+    private static long pageOf(long id) {
+        return (id - 1) >>> PAGE_BITS;
+    }
+
+    private static int offsetOf(long id) {
+        return (int) ((id - 1) & (PAGE_SIZE - 1));
+    }
+
+    private static final class Page {
+        private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(PAGE_SIZE);
+        private final AtomicInteger removed = new AtomicInteger();
+
+        /**
+         * 칸을 지우고, 이번에 페이지의 모든 칸이 지워졌으면 true
+         */
+        boolean remove(int offset) {
+            return slots.getAndSet(offset, REMOVED) instanceof PointHistory && removed.incrementAndGet() == PAGE_SIZE;
+        }
+
+        boolean isRemoved() {
+            return removed.get() == PAGE_SIZE;
+        }
+    }
+}
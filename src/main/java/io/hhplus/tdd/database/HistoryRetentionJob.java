@@ -0,0 +1,96 @@
+package io.hhplus.tdd.database;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 기간이 지난 내역을 주기적으로 일별 요약으로 압축하는 백그라운드 작업
+ * 기준 시각은 (현재 - retainFor)가 속한 날의 시작으로 맞춰, 하루치 내역이 요약과 원본으로 나뉘지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.retention", name = "enabled", havingValue = "true")
+public class HistoryRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryRetentionJob.class);
+
+    private final PointRepository pointRepository;
+    private final Duration retainFor;
+    private final ZoneId zone;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private volatile CompactionResult lastResult = CompactionResult.EMPTY;
+
+    @Autowired
+    public HistoryRetentionJob(PointRepository pointRepository, RetentionProperties properties) {
+        this(pointRepository, properties, Clock.systemDefaultZone());
+        if (!pointRepository.supportsCompaction()) {
+            log.warn("현재 저장소는 내역 압축을 지원하지 않습니다. (point.store.type=partitioned 또는 simulated 에서 동작)");
+            return;
+        }
+        long intervalMillis = properties.interval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    HistoryRetentionJob(PointRepository pointRepository, RetentionProperties properties, Clock clock) {
+        if (properties.retainFor().compareTo(Duration.ofDays(1)) < 0) {
+            throw new IllegalArgumentException("내역 보관 기간은 1일 이상이어야 합니다.");
+        }
+        this.pointRepository = pointRepository;
+        this.retainFor = properties.retainFor();
+        this.zone = clock.getZone();
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-history-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 한 번 압축을 실행하고 결과를 반환한다.
+     */
+    public CompactionResult compactNow() {
+        long cutoffMillis = cutoffMillis();
+        long start = System.nanoTime();
+        CompactionResult result = pointRepository.compactHistoriesBefore(cutoffMillis, zone);
+        lastResult = result;
+        log.info("내역 압축 완료 (기준: {}, 압축 내역: {}건, 새 일별 요약: {}건, 회수 메모리 추정: {} KB, 소요: {} ms)",
+                Instant.ofEpochMilli(cutoffMillis), result.entriesRemoved(), result.rollupsAdded(),
+                result.estimatedBytesReclaimed() / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    public CompactionResult lastResult() {
+        return lastResult;
+    }
+
+    long cutoffMillis() {
+        return Instant.now(clock).minus(retainFor).atZone(zone).toLocalDate()
+                .atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void runSafely() {
+        try {
+            compactNow();
+        } catch (RuntimeException e) {
+            log.warn("내역 압축 중 오류가 발생했습니다.", e);
+        }
+    }
+}
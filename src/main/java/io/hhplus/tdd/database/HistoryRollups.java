@@ -0,0 +1,86 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 사용자의 내역 목록에서 기준 시각 이전 항목을 일별 요약 목록으로 옮긴다.
+ * 내역은 추가된 순서로 쌓이므로 앞에서부터 기준 시각 이전인 구간만 옮긴다. (절대 위치가 어긋나지 않도록)
+ * 호출하는 쪽이 두 목록에 대한 동기화를 책임진다.
+ */
+final class HistoryRollups {
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::date).thenComparing(Key::type);
+
+    private HistoryRollups() {
+    }
+
+    static CompactionResult compact(List<PointHistory> histories, List<DailyRollup> rollups, long cutoffMillis, ZoneId zone) {
+        Map<Key, Integer> indexes = null;
+        long removed = 0;
+        long added = 0;
+        for (PointHistory history : histories) {
+            if (history.updateMillis() >= cutoffMillis) {
+                break;
+            }
+            if (indexes == null) {
+                indexes = indexOf(rollups);
+            }
+            LocalDate date = Instant.ofEpochMilli(history.updateMillis()).atZone(zone).toLocalDate();
+            Key key = new Key(date, history.type());
+            Integer index = indexes.get(key);
+            if (index == null) {
+                indexes.put(key, rollups.size());
+                rollups.add(new DailyRollup(history.userId(), date, history.type(), 1, history.amount()));
+                added++;
+            } else {
+                rollups.set(index, rollups.get(index).plus(1, history.amount()));
+            }
+            removed++;
+        }
+        if (removed == 0) {
+            return CompactionResult.EMPTY;
+        }
+        histories.subList(0, (int) removed).clear();
+        return CompactionResult.of(removed, added);
+    }
+
+    /**
+     * 압축된 요약과 원본 내역을 합친 날짜·거래 종류별 합계 (날짜, 거래 종류 순)
+     */
+    static List<DailyRollup> daily(long userId, List<DailyRollup> rollups, List<PointHistory> histories, ZoneId zone) {
+        Map<Key, DailyRollup> totals = new TreeMap<>(KEY_ORDER);
+        for (DailyRollup rollup : rollups) {
+            totals.merge(new Key(rollup.date(), rollup.type()), rollup,
+                    (existing, added) -> existing.plus(added.count(), added.amount()));
+        }
+        for (PointHistory history : histories) {
+            LocalDate date = Instant.ofEpochMilli(history.updateMillis()).atZone(zone).toLocalDate();
+            totals.merge(new Key(date, history.type()), new DailyRollup(userId, date, history.type(), 1, history.amount()),
+                    (existing, added) -> existing.plus(1, added.amount()));
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    private static Map<Key, Integer> indexOf(List<DailyRollup> rollups) {
+        Map<Key, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < rollups.size(); i++) {
+            indexes.put(new Key(rollups.get(i).date(), rollups.get(i).type()), i);
+        }
+        return indexes;
+    }
+
+    private record Key(LocalDate date, TransactionType type) {
+    }
+}
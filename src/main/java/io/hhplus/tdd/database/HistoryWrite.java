@@ -0,0 +1,14 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 저장할 내역 한 건 (내역 ID 는 저장소가 정한다)
+ */
+public record HistoryWrite(
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+}
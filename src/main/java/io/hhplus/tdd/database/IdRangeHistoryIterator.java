@@ -0,0 +1,56 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * selectHistoriesByIdRange 로 CHUNK_SIZE 건씩 읽으며 전체 내역을 id 순서로 순회하는 반복자
+ * 한 번에 한 묶음만 메모리에 두고, 묶음이 CHUNK_SIZE 보다 작으면(toId 또는 아직 저장이 끝나지 않은 id 에 닿으면) 그 묶음까지 돌려주고 끝난다.
+ * → 계속 저장되는 내역을 끝없이 따라가지 않고, 끝에 닿은 시점까지의 내역만 내보낸다.
+ */
+final class IdRangeHistoryIterator implements Iterator<PointHistory> {
+
+    static final int CHUNK_SIZE = 1_024;
+
+    private final PointRepository repository;
+    private final long toId;
+    private List<PointHistory> chunk = List.of();
+    private int chunkPosition;
+    private long nextFromId;
+    private boolean exhausted;
+
+    IdRangeHistoryIterator(PointRepository repository, long fromId, long toId) {
+        this.repository = repository;
+        this.nextFromId = fromId;
+        this.toId = toId;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (chunkPosition < chunk.size()) {
+            return true;
+        }
+        if (exhausted || nextFromId > toId) {
+            return false;
+        }
+        chunk = repository.selectHistoriesByIdRange(nextFromId, toId, CHUNK_SIZE);
+        chunkPosition = 0;
+        exhausted = chunk.size() < CHUNK_SIZE;
+        if (chunk.isEmpty()) {
+            return false;
+        }
+        nextFromId = chunk.get(chunk.size() - 1).id() + 1;
+        return true;
+    }
+
+    @Override
+    public PointHistory next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return chunk.get(chunkPosition++);
+    }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 시간 없이 Table 클래스와 같은 결과를 돌려주는 메모리 저장소
+ * LatencyModelPointRepository 와 함께 써서 지연 시간을 설정으로만 결정하게 한다.
+ */
+public class InMemoryPointRepository implements PointRepository {
+
+    private final Map<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final Map<Long, UserHistory> histories = new ConcurrentHashMap<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final HistoryIdIndex historyIndex = new HistoryIdIndex();
+
+    @Override
+    public UserPoint selectById(long userId) {
+        return balances.getOrDefault(userId, UserPoint.empty(userId));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
+        balances.put(userId, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        UserHistory userHistory = histories.computeIfAbsent(userId, id -> new UserHistory());
+        synchronized (userHistory) {
+            PointHistory history = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            userHistory.add(history);
+            historyIndex.add(history);
+            return history;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+        synchronized (userHistory) {
+            return userHistory.entries();
+        }
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return Collections.emptyIterator();
+        }
+        int start;
+        int end;
+        synchronized (userHistory) {
+            start = userHistory.start();
+            end = userHistory.end();
+        }
+        return new ChunkedHistoryIterator(start, end, (from, to) -> {
+            synchronized (userHistory) {
+                return userHistory.read(from, to);
+            }
+        });
+    }
+
+    @Override
+    public HistoryStream streamHistoriesByUserId(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return new HistoryStream(0L, Collections.emptyIterator());
+        }
+        long lastId;
+        synchronized (userHistory) {
+            lastId = userHistory.lastId();
+        }
+        return new HistoryStream(lastId, iterateHistoriesByUserId(userId));
+    }
+
+    @Override
+    public boolean supportsHistoryExport() {
+        return true;
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByIdRange(long fromId, long toId, int limit) {
+        return historyIndex.read(fromId, toId, limit);
+    }
+
+    @Override
+    public List<DailyRollup> selectDailyRollupsByUserId(long userId, ZoneId zone) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+        synchronized (userHistory) {
+            return userHistory.dailyRollups(userId, zone);
+        }
+    }
+
+    @Override
+    public boolean supportsCompaction() {
+        return true;
+    }
+
+    /**
+     * 사용자 단위로 Lock 을 잡고 압축하므로, 다른 사용자의 충전/사용은 기다리지 않는다.
+     */
+    @Override
+    public CompactionResult compactHistoriesBefore(long cutoffMillis, ZoneId zone) {
+        CompactionResult result = CompactionResult.EMPTY;
+        for (UserHistory userHistory : histories.values()) {
+            synchronized (userHistory) {
+                result = result.plus(userHistory.compactBefore(cutoffMillis, zone, historyIndex::remove));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 저장소 호출 한 번에 더할 지연 시간 모델
+ * 난수는 (seed, 호출 키)에서 계산하므로 같은 설정이면 실행할 때마다 같은 지연 시간 순서가 나온다.
+ */
+public interface LatencyModel {
+
+    /**
+     * @param baseNanos 연산별 기준 지연 시간 (fixed 는 그대로, uniform 은 상한, log-normal 은 중앙값)
+     * @param key       연산과 호출 순번으로 만든 키
+     */
+    long delayNanos(long baseNanos, long key);
+
+    static LatencyModel of(PointStoreProperties.Latency latency) {
+        return switch (latency.model()) {
+            case "zero" -> new Zero();
+            case "fixed" -> new Fixed();
+            case "uniform" -> new SeededUniform(latency.seed());
+            case "log-normal" -> new SeededLogNormal(latency.seed(), latency.sigma(),
+                    latency.spikeProbability(), latency.spikeMultiplier());
+            default -> throw new IllegalArgumentException("지원하지 않는 지연 모델입니다: " + latency.model());
+        };
+    }
+
+    record Zero() implements LatencyModel {
+        @Override
+        public long delayNanos(long baseNanos, long key) {
+            return 0L;
+        }
+    }
+
+    record Fixed() implements LatencyModel {
+        @Override
+        public long delayNanos(long baseNanos, long key) {
+            return baseNanos;
+        }
+    }
+
+    /**
+     * 0 ~ baseNanos 균등 분포 (Table 클래스의 Math.random() * millis 와 같은 분포)
+     */
+    record SeededUniform(long seed) implements LatencyModel {
+        @Override
+        public long delayNanos(long baseNanos, long key) {
+            return (long) (unit(mix(seed ^ key)) * baseNanos);
+        }
+    }
+
+    /**
+     * 중앙값이 baseNanos 인 로그 정규 분포에, spikeProbability 확률로 spikeMultiplier 배의 꼬리 지연을 더한다.
+     */
+    record SeededLogNormal(long seed, double sigma, double spikeProbability, double spikeMultiplier) implements LatencyModel {
+        @Override
+        public long delayNanos(long baseNanos, long key) {
+            long bits = mix(seed ^ key);
+            double u1 = unit(bits);
+            double u2 = unit(mix(bits));
+            double u3 = unit(mix(bits + 1));
+            // Box-Muller: u1 이 0이면 log 가 발산하므로 가장 작은 양수로 대체
+            double gaussian = Math.sqrt(-2.0 * Math.log(Math.max(u1, Double.MIN_VALUE))) * Math.cos(2.0 * Math.PI * u2);
+            double delay = baseNanos * Math.exp(sigma * gaussian);
+            if (u3 < spikeProbability) {
+                delay *= spikeMultiplier;
+            }
+            return (long) delay;
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 상위 53비트로 [0, 1) 실수를 만든다.
+     */
+    static double unit(long bits) {
+        return (bits >>> 11) * 0x1.0p-53;
+    }
+}
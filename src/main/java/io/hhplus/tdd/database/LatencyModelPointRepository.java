@@ -0,0 +1,153 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 없는 저장소 앞에서 LatencyModel 이 정한 만큼 대기한 뒤 호출하는 데코레이터
+ * 연산마다 호출 순번을 따로 세므로, 같은 설정에서 n 번째 selectById 는 항상 같은 지연 시간을 가진다.
+ * (동시 실행 시 어느 스레드가 n 번째가 될지는 달라질 수 있지만 연산별 지연 시간 순서는 동일하다.)
+ */
+public class LatencyModelPointRepository implements PointRepository, AutoCloseable {
+
+    private final PointRepository delegate;
+    private final LatencyModel model;
+    private final Operation selectById;
+    private final Operation insertOrUpdate;
+    private final Operation insertHistory;
+    private final Operation selectHistories;
+
+    public LatencyModelPointRepository(PointRepository delegate, LatencyModel model, PointStoreProperties.Latency latency) {
+        this.delegate = delegate;
+        this.model = model;
+        this.selectById = new Operation(1, latency.selectById().toNanos());
+        this.insertOrUpdate = new Operation(2, latency.insertOrUpdate().toNanos());
+        this.insertHistory = new Operation(3, latency.insertHistory().toNanos());
+        this.selectHistories = new Operation(4, latency.selectHistories().toNanos());
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        pause(selectById);
+        return delegate.selectById(userId);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        pause(insertOrUpdate);
+        return delegate.insertOrUpdate(userId, amount);
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        pause(insertHistory);
+        return delegate.insertHistory(userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 묶음 전체를 한 번의 쓰기로 보고 insertHistory 지연 시간을 한 번만 기다린다.
+     */
+    @Override
+    public List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+        pause(insertHistory);
+        return delegate.insertHistories(writes);
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        pause(selectHistories);
+        return delegate.selectHistoriesByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        pause(selectHistories);
+        return delegate.iterateHistoriesByUserId(userId);
+    }
+
+    @Override
+    public HistoryStream streamHistoriesByUserId(long userId) {
+        pause(selectHistories);
+        return delegate.streamHistoriesByUserId(userId);
+    }
+
+    @Override
+    public boolean supportsHistoryExport() {
+        return delegate.supportsHistoryExport();
+    }
+
+    /**
+     * 묶음 하나를 내역 조회 한 번으로 보고 selectHistories 지연 시간을 기다린다.
+     */
+    @Override
+    public List<PointHistory> selectHistoriesByIdRange(long fromId, long toId, int limit) {
+        pause(selectHistories);
+        return delegate.selectHistoriesByIdRange(fromId, toId, limit);
+    }
+
+    @Override
+    public List<DailyRollup> selectDailyRollupsByUserId(long userId, ZoneId zone) {
+        return delegate.selectDailyRollupsByUserId(userId, zone);
+    }
+
+    @Override
+    public boolean supportsCompaction() {
+        return delegate.supportsCompaction();
+    }
+
+    @Override
+    public CompactionResult compactHistoriesBefore(long cutoffMillis, ZoneId zone) {
+        return delegate.compactHistoriesBefore(cutoffMillis, zone);
+    }
+
+    /**
+     * 연산의 다음 호출 순번에 해당하는 지연 시간 (대기 없이 계산만 한다)
+     */
+    long nextDelayNanos(Operation operation) {
+        long sequence = operation.sequence.getAndIncrement();
+        return model.delayNanos(operation.baseNanos, LatencyModel.mix(operation.salt + sequence * 0x9e3779b97f4a7c15L));
+    }
+
+    private void pause(Operation operation) {
+        long delayNanos = nextDelayNanos(operation);
+        if (delayNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Operation selectByIdOperation() {
+        return selectById;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    static final class Operation {
+        private final long salt;
+        private final long baseNanos;
+        private final AtomicLong sequence = new AtomicLong();
+
+        private Operation(long index, long baseNanos) {
+            this.salt = LatencyModel.mix(index);
+            this.baseNanos = baseNanos;
+        }
+    }
+}
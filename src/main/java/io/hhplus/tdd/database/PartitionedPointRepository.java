@@ -0,0 +1,183 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * userId를 N개의 파티션으로 나누어 저장하는 메모리 저장소
+ * 각 파티션은 잔액, 내역, 내역 ID 시퀀스를 소유하고, 호출 스레드가 파티션 모니터를 잡은 채 직접 읽고 쓴다.
+ * → 다른 스레드로 작업을 넘기고 결과를 기다리는 왕복(큐 삽입, 깨우기, 결과 대기)이 없고,
+ *   서로 다른 파티션의 요청은 공유하는 자료구조나 Lock 이 없어 경합하지 않는다.
+ */
+public class PartitionedPointRepository implements PointRepository {
+
+    private final Partition[] partitions;
+
+    public PartitionedPointRepository(int partitionCount) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("파티션 수는 1 이상이어야 합니다.");
+        }
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(i, partitionCount);
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        Partition partition = partitionOf(userId);
+        return partition.call(() -> partition.balances.getOrDefault(userId, UserPoint.empty(userId)));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        Partition partition = partitionOf(userId);
+        return partition.call(() -> {
+            UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
+            partition.balances.put(userId, userPoint);
+            return userPoint;
+        });
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        Partition partition = partitionOf(userId);
+        return partition.call(() -> {
+            PointHistory history = new PointHistory(partition.nextHistoryId(), userId, amount, type, updateMillis);
+            partition.histories.computeIfAbsent(userId, id -> new UserHistory()).add(history);
+            return history;
+        });
+    }
+
+    /**
+     * 파티션별로 묶어 파티션마다 모니터를 한 번만 잡고 저장한다.
+     */
+    @Override
+    public List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+        Map<Partition, List<Integer>> indexesByPartition = new HashMap<>();
+        for (int i = 0; i < writes.size(); i++) {
+            indexesByPartition.computeIfAbsent(partitionOf(writes.get(i).userId()), partition -> new ArrayList<>()).add(i);
+        }
+        PointHistory[] histories = new PointHistory[writes.size()];
+        indexesByPartition.forEach((partition, indexes) -> partition.run(() -> {
+            for (int index : indexes) {
+                HistoryWrite write = writes.get(index);
+                PointHistory history = new PointHistory(partition.nextHistoryId(), write.userId(), write.amount(), write.type(), write.updateMillis());
+                partition.histories.computeIfAbsent(write.userId(), id -> new UserHistory()).add(history);
+                histories[index] = history;
+            }
+        }));
+        return Arrays.asList(histories);
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        Partition partition = partitionOf(userId);
+        return partition.call(() -> {
+            UserHistory userHistory = partition.histories.get(userId);
+            return userHistory != null ? userHistory.entries() : List.<PointHistory>of();
+        });
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        Partition partition = partitionOf(userId);
+        UserHistory userHistory = partition.call(() -> partition.histories.get(userId));
+        if (userHistory == null) {
+            return Collections.emptyIterator();
+        }
+        int[] range = partition.call(() -> new int[]{userHistory.start(), userHistory.end()});
+        return new ChunkedHistoryIterator(range[0], range[1], (from, to) -> partition.call(() -> userHistory.read(from, to)));
+    }
+
+    @Override
+    public HistoryStream streamHistoriesByUserId(long userId) {
+        Partition partition = partitionOf(userId);
+        long lastId = partition.call(() -> {
+            UserHistory userHistory = partition.histories.get(userId);
+            return userHistory != null ? userHistory.lastId() : 0L;
+        });
+        return new HistoryStream(lastId, iterateHistoriesByUserId(userId));
+    }
+
+    @Override
+    public List<DailyRollup> selectDailyRollupsByUserId(long userId, ZoneId zone) {
+        Partition partition = partitionOf(userId);
+        return partition.call(() -> {
+            UserHistory userHistory = partition.histories.get(userId);
+            return userHistory != null ? userHistory.dailyRollups(userId, zone) : List.<DailyRollup>of();
+        });
+    }
+
+    @Override
+    public boolean supportsCompaction() {
+        return true;
+    }
+
+    /**
+     * 파티션 모니터를 오래 잡지 않도록 사용자마다 따로 잡아, 사이사이 충전/사용이 처리되게 한다.
+     */
+    @Override
+    public CompactionResult compactHistoriesBefore(long cutoffMillis, ZoneId zone) {
+        CompactionResult result = CompactionResult.EMPTY;
+        for (Partition partition : partitions) {
+            List<UserHistory> userHistories = partition.call(() -> List.copyOf(partition.histories.values()));
+            for (UserHistory userHistory : userHistories) {
+                result = result.plus(partition.call(() -> userHistory.compactBefore(cutoffMillis, zone)));
+            }
+        }
+        return result;
+    }
+
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    private Partition partitionOf(long userId) {
+        return partitions[Math.floorMod(userId, partitions.length)];
+    }
+
+    private static final class Partition {
+        private final int index;
+        private final int partitionCount;
+
+        // 아래 필드는 이 파티션의 모니터를 잡은 스레드만 읽고 쓴다
+        private final Map<Long, UserPoint> balances = new HashMap<>();
+        private final Map<Long, UserHistory> histories = new HashMap<>();
+        private long sequence = 0;
+
+        private Partition(int index, int partitionCount) {
+            this.index = index;
+            this.partitionCount = partitionCount;
+        }
+
+        /**
+         * 파티션마다 시퀀스를 따로 두고 (시퀀스 * 파티션 수 + 파티션 번호)로 전역에서 겹치지 않는 ID를 만든다.
+         * 같은 사용자는 항상 같은 파티션에 있으므로 사용자별 내역 ID는 증가 순서를 유지한다.
+         */
+        private long nextHistoryId() {
+            return sequence++ * partitionCount + index + 1;
+        }
+
+        private synchronized <T> T call(Supplier<T> task) {
+            return task.get();
+        }
+
+        private synchronized void run(Runnable task) {
+            task.run();
+        }
+    }
+}
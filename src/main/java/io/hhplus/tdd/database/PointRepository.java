@@ -0,0 +1,104 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 포인트 잔액과 내역을 저장하는 저장소
+ * PointServiceImpl은 이 인터페이스만 사용하며, 실제 구현은 point.store.type 설정으로 선택한다.
+ */
+public interface PointRepository {
+
+    UserPoint selectById(long userId);
+
+    UserPoint insertOrUpdate(long userId, long amount);
+
+    PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis);
+
+    List<PointHistory> selectHistoriesByUserId(long userId);
+
+    /**
+     * 여러 내역을 한 번에 저장하고, 저장된 내역을 입력 순서대로 돌려준다.
+     * 기본 구현은 insertHistory 를 차례로 호출하며, 한 번에 쓸 수 있는 저장소는 재정의해 쓰기 비용을 묶음당 한 번만 낸다.
+     */
+    default List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+        List<PointHistory> histories = new ArrayList<>(writes.size());
+        for (HistoryWrite write : writes) {
+            histories.add(insertHistory(write.userId(), write.amount(), write.type(), write.updateMillis()));
+        }
+        return histories;
+    }
+
+    /**
+     * 사용자의 내역을 오래된 순서로 하나씩 돌려주는 반복자
+     * 기본 구현은 selectHistoriesByUserId 목록을 그대로 순회하며,
+     * 전체 목록을 복사하지 않고 나눠 읽을 수 있는 저장소는 재정의한다.
+     */
+    default Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        return selectHistoriesByUserId(userId).iterator();
+    }
+
+    /**
+     * 사용자의 마지막 내역 id (내역이 없거나 모두 압축되었으면 0)와 내역 반복자를 함께 돌려준다. (응답의 ETag 와 본문용)
+     * 기본 구현은 selectHistoriesByUserId 목록 하나에서 둘 다 얻으므로 목록을 한 번만 만든다.
+     * 목록을 복사하지 않고 마지막 id 를 알 수 있는 저장소는 재정의해 iterateHistoriesByUserId 로 나눠 읽는다.
+     */
+    default HistoryStream streamHistoriesByUserId(long userId) {
+        List<PointHistory> histories = selectHistoriesByUserId(userId);
+        return new HistoryStream(histories.isEmpty() ? 0L : histories.get(histories.size() - 1).id(), histories.iterator());
+    }
+
+    /**
+     * 전체 내역 내보내기 지원 여부 (사용자와 관계없이 id 순서로 읽을 수 있는 저장소만)
+     * 파티션 저장소는 파티션마다 id 를 따로 늘리므로 작은 id 가 나중에 생길 수 있어 지원하지 않는다.
+     */
+    default boolean supportsHistoryExport() {
+        return false;
+    }
+
+    /**
+     * 전체 사용자의 내역 중 fromId ≤ id ≤ toId 인 것을 id 오름차순으로 최대 limit 건 돌려준다. (압축된 내역 제외)
+     * 아직 저장이 끝나지 않은 id 가 있으면 그 앞에서 멈추므로, 돌려준 마지막 id + 1 부터 이어 읽어도 빠지는 내역이 없다.
+     */
+    default List<PointHistory> selectHistoriesByIdRange(long fromId, long toId, int limit) {
+        return List.of();
+    }
+
+    /**
+     * selectHistoriesByIdRange 를 묶음 단위로 불러 전체 내역을 id 순서로 하나씩 돌려주는 반복자
+     */
+    default Iterator<PointHistory> iterateHistoriesByIdRange(long fromId, long toId) {
+        return new IdRangeHistoryIterator(this, fromId, toId);
+    }
+
+    /**
+     * 날짜·거래 종류별 내역 합계 (압축된 요약 + 원본 내역)
+     * 압축을 지원하는 저장소는 압축과 겹치지 않도록 한 번에 읽어 합계가 항상 전체 내역과 같다.
+     */
+    default List<DailyRollup> selectDailyRollupsByUserId(long userId, ZoneId zone) {
+        return HistoryRollups.daily(userId, List.of(), selectHistoriesByUserId(userId), zone);
+    }
+
+    /**
+     * 내역 압축 지원 여부
+     * UserPointTable / PointHistoryTable 은 삭제 API 가 없고, event-sourced 저장소는 내역이 원본이므로 지원하지 않는다.
+     */
+    default boolean supportsCompaction() {
+        return false;
+    }
+
+    /**
+     * cutoffMillis 이전 내역을 사용자·날짜·거래 종류별 요약으로 바꾸고 원본은 지운다.
+     */
+    default CompactionResult compactHistoriesBefore(long cutoffMillis, ZoneId zone) {
+        return CompactionResult.EMPTY;
+    }
+}
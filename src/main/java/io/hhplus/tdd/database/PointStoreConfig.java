@@ -0,0 +1,51 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * point.store.type 설정에 따라 PointRepository 구현을 선택한다.
+ */
+@Configuration
+public class PointStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "table", matchIfMissing = true)
+    public PointRepository tablePointRepository(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                                PointStoreProperties properties) {
+        return decorate(new TablePointRepository(userPointTable, pointHistoryTable), properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "partitioned")
+    public PointRepository partitionedPointRepository(PointStoreProperties properties) {
+        return decorate(new PartitionedPointRepository(properties.resolvedPartitions()), properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "event-sourced")
+    public PointRepository eventSourcedPointRepository(PointStoreProperties properties) {
+        return decorate(new EventSourcedPointRepository(properties.snapshotInterval()), properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "simulated")
+    public PointRepository simulatedPointRepository(PointStoreProperties properties) {
+        PointStoreProperties.Latency latency = properties.latency();
+        return decorate(new LatencyModelPointRepository(new InMemoryPointRepository(), LatencyModel.of(latency), latency), properties);
+    }
+
+    /**
+     * 저장소 유형과 무관한 선택 기능(내역 묶음 저장, 헤지 읽기)을 감싼다.
+     */
+    private static PointRepository decorate(PointRepository repository, PointStoreProperties properties) {
+        if (properties.historyBatch().enabled()) {
+            repository = new BatchedHistoryPointRepository(repository, properties.historyBatch());
+        }
+        if (properties.hedge().enabled()) {
+            return new HedgedReadPointRepository(repository, properties.hedge());
+        }
+        return repository;
+    }
+}
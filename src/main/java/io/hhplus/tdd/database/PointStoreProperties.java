@@ -0,0 +1,83 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 저장소 설정
+ * - type : table(기본, UserPointTable/PointHistoryTable 사용) | partitioned(파티션 메모리 저장소)
+ *          | event-sourced(내역 이벤트를 원본으로 잔액을 투영) | simulated(지연 시간 모델을 적용한 메모리 저장소)
+ * - partitions : partitioned 저장소의 파티션 수 (0이면 사용 가능한 CPU 코어 수)
+ * - snapshotInterval : event-sourced 저장소에서 사용자별 스냅샷을 남기는 이벤트 간격
+ * - latency : simulated 저장소의 지연 시간 모델
+ * - hedge : selectById 헤지 읽기 (모든 저장소 유형에 적용 가능)
+ * - historyBatch : 내역 저장 묶음 처리 (모든 저장소 유형에 적용 가능)
+ */
+@ConfigurationProperties(prefix = "point.store")
+public record PointStoreProperties(
+        @DefaultValue("table") String type,
+        @DefaultValue("0") int partitions,
+        @DefaultValue("100") int snapshotInterval,
+        @DefaultValue Latency latency,
+        @DefaultValue Hedge hedge,
+        @DefaultValue HistoryBatch historyBatch
+) {
+    public int resolvedPartitions() {
+        return partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 지연 시간 모델 설정
+     * - model : zero | fixed | uniform | log-normal
+     * - seed : uniform / log-normal 난수 시드 (같은 시드면 같은 지연 시간 순서)
+     * - selectById ~ selectHistories : 연산별 기준 지연 시간 (기본값은 Table 클래스의 throttle 상한)
+     * - sigma : log-normal 분포의 표준편차 (로그 스케일)
+     * - spikeProbability / spikeMultiplier : log-normal 에서 꼬리 지연이 생길 확률과 배수
+     */
+    public record Latency(
+            @DefaultValue("uniform") String model,
+            @DefaultValue("42") long seed,
+            @DefaultValue("200ms") Duration selectById,
+            @DefaultValue("300ms") Duration insertOrUpdate,
+            @DefaultValue("300ms") Duration insertHistory,
+            @DefaultValue("0ms") Duration selectHistories,
+            @DefaultValue("0.5") double sigma,
+            @DefaultValue("0.001") double spikeProbability,
+            @DefaultValue("20") double spikeMultiplier
+    ) {
+    }
+
+    /**
+     * 헤지 읽기 설정
+     * - enabled : 사용 여부
+     * - percentile : 이 분위수의 최근 조회 시간 안에 끝나지 않으면 두 번째 조회를 보낸다
+     * - budgetPercent : 두 번째 조회가 전체 조회 대비 넘지 않을 비율(%)
+     * - minSamples : 이만큼 조회 시간이 쌓이기 전에는 헤지하지 않는다
+     * - window : 분위수 계산에 쓰는 최근 조회 수
+     * - maxConcurrency : 헤지 조회에 쓰는 조회 스레드 최대 수 (모두 사용 중이면 헤지하지 않는다)
+     */
+    public record Hedge(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("90") double percentile,
+            @DefaultValue("10") double budgetPercent,
+            @DefaultValue("100") int minSamples,
+            @DefaultValue("1000") int window,
+            @DefaultValue("64") int maxConcurrency
+    ) {
+    }
+
+    /**
+     * 내역 저장 묶음 설정
+     * - enabled : 사용 여부
+     * - maxSize : 묶음 하나에 담을 최대 내역 수
+     * - linger : 첫 내역을 받은 뒤 더 모으기 위해 기다리는 최대 시간 (0이면 이미 쌓인 것만 묶는다)
+     */
+    public record HistoryBatch(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("64") int maxSize,
+            @DefaultValue("2ms") Duration linger
+    ) {
+    }
+}
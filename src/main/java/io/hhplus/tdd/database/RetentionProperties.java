@@ -0,0 +1,21 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 내역 보관 설정
+ * - enabled : 보관 기간이 지난 내역 압축 사용 여부 (압축을 지원하는 저장소에서만 동작)
+ * - retainFor : 원본 내역을 보관하는 기간 (일일 충전 한도 계산에 오늘 내역이 필요하므로 1일 이상)
+ * - interval : 압축 작업 실행 간격
+ * 일별 요약의 날짜는 일일 충전 한도 계산과 같은 시스템 기본 시간대를 기준으로 한다.
+ */
+@ConfigurationProperties(prefix = "point.retention")
+public record RetentionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("30d") Duration retainFor,
+        @DefaultValue("1h") Duration interval
+) {
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * UserPointTable / PointHistoryTable의 공개 API를 그대로 사용하는 기본 저장소
+ * 전체 내역 내보내기는 지원하지 않는다. PointHistoryTable 은 id 를 동기화 없이 늘리므로 동시에 저장하면 id 가 겹치거나 빌 수 있어
+ * id 순서로 빠짐없이 읽을 수 없고, 저장마다 대기가 있어 하나의 Lock 으로 줄 세우면 전체 내역 저장이 한 줄로 느려진다.
+ */
+public class TablePointRepository implements PointRepository {
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryTable pointHistoryTable;
+
+    public TablePointRepository(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        return userPointTable.selectById(userId);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        return userPointTable.insertOrUpdate(userId, amount);
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        return pointHistoryTable.insert(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        return pointHistoryTable.selectAllByUserId(userId);
+    }
+}
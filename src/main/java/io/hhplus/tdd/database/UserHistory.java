@@ -0,0 +1,82 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.PointHistory;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 한 사용자의 원본 내역과 압축된 일별 요약
+ * 위치는 처음 추가된 내역부터 센 절대 위치를 쓰므로, 순회 중에 앞쪽 내역이 압축되어도 뒤쪽 내역을 건너뛰지 않는다.
+ * 동기화는 사용하는 저장소가 책임진다. (메모리 저장소는 이 객체로 synchronized, 파티션 저장소는 파티션 모니터)
+ */
+final class UserHistory {
+
+    private final List<PointHistory> entries = new ArrayList<>();
+    private final List<DailyRollup> rollups = new ArrayList<>();
+    private int compacted;
+
+    void add(PointHistory history) {
+        entries.add(history);
+    }
+
+    List<PointHistory> entries() {
+        return List.copyOf(entries);
+    }
+
+    List<DailyRollup> dailyRollups(long userId, ZoneId zone) {
+        return HistoryRollups.daily(userId, rollups, entries, zone);
+    }
+
+    /**
+     * 남아 있는 마지막 내역의 id (없으면 0)
+     */
+    long lastId() {
+        return entries.isEmpty() ? 0L : entries.get(entries.size() - 1).id();
+    }
+
+    /**
+     * 아직 압축되지 않은 첫 내역의 절대 위치
+     */
+    int start() {
+        return compacted;
+    }
+
+    /**
+     * 지금까지 추가된 전체 내역 수 (압축된 내역 포함) = 다음 내역의 절대 위치
+     */
+    int end() {
+        return compacted + entries.size();
+    }
+
+    /**
+     * 절대 위치 [from, to) 중 아직 압축되지 않은 내역
+     */
+    List<PointHistory> read(int from, int to) {
+        int localFrom = Math.max(0, from - compacted);
+        int localTo = Math.max(localFrom, Math.min(entries.size(), to - compacted));
+        return List.copyOf(entries.subList(localFrom, localTo));
+    }
+
+    /**
+     * 압축은 오래된 내역부터 cutoffMillis 이전까지 연속으로 지우므로, 지워질 내역을 먼저 removed 로 넘긴다.
+     */
+    CompactionResult compactBefore(long cutoffMillis, ZoneId zone, Consumer<PointHistory> removed) {
+        for (PointHistory history : entries) {
+            if (history.updateMillis() >= cutoffMillis) {
+                break;
+            }
+            removed.accept(history);
+        }
+        return compactBefore(cutoffMillis, zone);
+    }
+
+    CompactionResult compactBefore(long cutoffMillis, ZoneId zone) {
+        CompactionResult result = HistoryRollups.compact(entries, rollups, cutoffMillis, zone);
+        compacted += (int) result.entriesRemoved();
+        return result;
+    }
+}
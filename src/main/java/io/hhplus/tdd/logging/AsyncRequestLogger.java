@@ -0,0 +1,103 @@
+package io.hhplus.tdd.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 로그를 고정 크기 대기열에 넣고 전용 스레드 하나가 기록하는 로거
+ * 요청 스레드는 포맷팅이나 appender Lock을 기다리지 않으며, 대기열이 가득 차면 로그를 버리고 개수만 센다.
+ */
+public class AsyncRequestLogger implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncRequestLogger.class);
+
+    private final BlockingQueue<RequestLogEntry> buffer;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AsyncRequestLogger(int bufferSize) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.writer = new Thread(this::drain, "request-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * @return 대기열에 넣었으면 true, 가득 차서 버렸으면 false
+     */
+    public boolean submit(RequestLogEntry entry) {
+        if (buffer.offer(entry)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(1_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        long reportedDropped = 0;
+        while (running || !buffer.isEmpty()) {
+            try {
+                RequestLogEntry entry = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    write(entry);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 로그를 모두 기록한 뒤 끝낸다
+                running = false;
+            }
+            long droppedNow = dropped.sum();
+            if (droppedNow != reportedDropped) {
+                log.warn("요청 로그 대기열이 가득 차 {}건을 기록하지 못했습니다.", droppedNow - reportedDropped);
+                reportedDropped = droppedNow;
+            }
+        }
+    }
+
+    private void write(RequestLogEntry entry) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(entry.elapsedNanos());
+        String body = describe(entry.requestBody());
+        if (entry.reason() == RequestLogSampler.Reason.ERROR) {
+            log.warn("{} {}{} - status: {}, {}ms, error: {}", entry.method(), entry.uri(), body, entry.status(), elapsedMillis, entry.error());
+        } else {
+            log.info("{} {}{} - status: {}, {}ms ({})", entry.method(), entry.uri(), body, entry.status(), elapsedMillis, entry.reason());
+        }
+    }
+
+    /**
+     * 충전/사용 금액은 "amount: 1000", 이체 요청은 record 그대로, 다건 조회 ID 목록은 개수만 남긴다.
+     */
+    private static String describe(Object requestBody) {
+        if (requestBody == null) {
+            return "";
+        }
+        if (requestBody instanceof Number amount) {
+            return " amount: " + amount;
+        }
+        if (requestBody instanceof Collection<?> collection) {
+            return " count: " + collection.size();
+        }
+        return " " + requestBody;
+    }
+}
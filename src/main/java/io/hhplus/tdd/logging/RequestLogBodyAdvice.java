@@ -0,0 +1,35 @@
+package io.hhplus.tdd.logging;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * 읽은 요청 본문(충전/사용 금액, 이체 요청 등)을 요청 속성에 남겨, 요청 로그에 금액이 함께 기록되게 한다.
+ * 본문 객체만 넘기고 문자열 변환은 기록 스레드에서 한다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "point.logging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestLogBodyAdvice extends RequestBodyAdviceAdapter {
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (inputMessage instanceof ServletServerHttpRequest request) {
+            request.getServletRequest().setAttribute(RequestLoggingInterceptor.BODY_ATTRIBUTE, body);
+        }
+        return body;
+    }
+}
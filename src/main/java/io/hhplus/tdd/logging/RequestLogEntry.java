@@ -0,0 +1,16 @@
+package io.hhplus.tdd.logging;
+
+/**
+ * 기록 대기열에 넣는 요청 로그 한 건 (문자열 포맷팅은 기록 스레드에서 수행)
+ * requestBody 는 읽은 요청 본문 객체(충전/사용 금액, 이체 요청 등)이며, 본문이 없으면 null 이다.
+ */
+public record RequestLogEntry(
+        String method,
+        String uri,
+        int status,
+        long elapsedNanos,
+        Object requestBody,
+        String error,
+        RequestLogSampler.Reason reason
+) {
+}
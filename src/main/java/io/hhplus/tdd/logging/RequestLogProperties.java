@@ -0,0 +1,26 @@
+package io.hhplus.tdd.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 요청 로그 설정
+ * - enabled : 요청 로그 사용 여부
+ * - bufferSize : 비동기 기록 대기열 크기 (가득 차면 로그를 버리고 개수만 집계)
+ * - defaultSampleRate : 엔드포인트별 비율이 없을 때의 정상 요청 기록 비율 (0.0 ~ 1.0)
+ * - sampleRates : 엔드포인트 패턴별 정상 요청 기록 비율 (예: "[/point/{id}/charge]": 1.0)
+ * - slowThreshold : 이 시간 이상 걸린 요청은 항상 기록
+ * 오류 응답(4xx/5xx)과 예외는 비율과 관계없이 항상 기록한다.
+ */
+@ConfigurationProperties(prefix = "point.logging")
+public record RequestLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("0.01") double defaultSampleRate,
+        @DefaultValue Map<String, Double> sampleRates,
+        @DefaultValue("500ms") Duration slowThreshold
+) {
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.logging;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 로그 기록 여부를 결정한다.
+ * 오류와 느린 요청은 항상, 정상 요청은 엔드포인트 패턴별 비율로 표본 추출한다.
+ */
+public class RequestLogSampler {
+
+    public enum Reason { ERROR, SLOW, SAMPLED }
+
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+    private final long slowThresholdNanos;
+
+    public RequestLogSampler(RequestLogProperties properties) {
+        this.defaultSampleRate = properties.defaultSampleRate();
+        this.sampleRates = Map.copyOf(properties.sampleRates());
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    /**
+     * @return 기록해야 하면 그 이유, 기록하지 않으면 null
+     */
+    public Reason decide(String pattern, int status, boolean exception, long elapsedNanos) {
+        if (exception || status >= 400) {
+            return Reason.ERROR;
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            return Reason.SLOW;
+        }
+        double rate = pattern != null ? sampleRates.getOrDefault(pattern, defaultSampleRate) : defaultSampleRate;
+        if (rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate)) {
+            return Reason.SAMPLED;
+        }
+        return null;
+    }
+}
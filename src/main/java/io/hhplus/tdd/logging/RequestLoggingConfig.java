@@ -0,0 +1,28 @@
+package io.hhplus.tdd.logging;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "point.logging", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestLoggingConfig implements WebMvcConfigurer {
+
+    private final RequestLogProperties properties;
+
+    public RequestLoggingConfig(RequestLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public AsyncRequestLogger asyncRequestLogger() {
+        return new AsyncRequestLogger(properties.bufferSize());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestLoggingInterceptor(new RequestLogSampler(properties), asyncRequestLogger()));
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 처리 시간을 재고, 기록 대상인 요청만 비동기 로거에 넘기는 인터셉터
+ * 비동기 요청(SSE 등)은 처음 디스패치에서 잰 시작 시각을 재디스패치에서도 그대로 써서, 요청 전체 시간을 기록한다.
+ */
+public class RequestLoggingInterceptor implements AsyncHandlerInterceptor {
+
+    static final String BODY_ATTRIBUTE = RequestLoggingInterceptor.class.getName() + ".body";
+    private static final String START_ATTRIBUTE = RequestLoggingInterceptor.class.getName() + ".start";
+
+    private final RequestLogSampler sampler;
+    private final AsyncRequestLogger requestLogger;
+
+    public RequestLoggingInterceptor(RequestLogSampler sampler, AsyncRequestLogger requestLogger) {
+        this.sampler = sampler;
+        this.requestLogger = requestLogger;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 재디스패치에서는 처음 디스패치의 시작 시각을 유지한다
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    /**
+     * 비동기 처리가 시작되면 처음 디스패치에서는 afterCompletion 이 불리지 않으므로 아무것도 기록하지 않고,
+     * 재디스패치의 afterCompletion 에서 한 번만 기록한다.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RequestLogSampler.Reason reason = sampler.decide(pattern, response.getStatus(), ex != null, elapsedNanos);
+        if (reason == null) {
+            return;
+        }
+        requestLogger.submit(new RequestLogEntry(
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                elapsedNanos,
+                request.getAttribute(BODY_ATTRIBUTE),
+                ex != null ? ex.getMessage() : null,
+                reason
+        ));
+    }
+}
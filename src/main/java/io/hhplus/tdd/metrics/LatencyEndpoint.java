@@ -0,0 +1,32 @@
+package io.hhplus.tdd.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * 연산별 지연 시간 분포 조회/초기화
+ * - GET /actuator/pointlatency : 마지막 초기화 이후 분포
+ * - DELETE /actuator/pointlatency : 마지막 초기화 이후 분포를 반환하고 새 구간 시작
+ */
+@Endpoint(id = "pointlatency")
+public class LatencyEndpoint {
+
+    private final LatencyRecorders recorders;
+
+    public LatencyEndpoint(LatencyRecorders recorders) {
+        this.recorders = recorders;
+    }
+
+    @ReadOperation
+    public Map<String, LatencySnapshot> snapshot() {
+        return recorders.snapshot();
+    }
+
+    @DeleteOperation
+    public Map<String, LatencySnapshot> reset() {
+        return recorders.snapshotAndReset();
+    }
+}
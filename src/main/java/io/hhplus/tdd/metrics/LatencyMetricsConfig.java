@@ -0,0 +1,55 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.database.PointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "point.latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LatencyMetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<LatencyRecorders> latencyRecorders;
+
+    public LatencyMetricsConfig(ObjectProvider<LatencyRecorders> latencyRecorders) {
+        this.latencyRecorders = latencyRecorders;
+    }
+
+    @Bean
+    public LatencyRecorders latencyRecorders(LatencyProperties properties, MeterRegistry meterRegistry) {
+        return new LatencyRecorders(properties, meterRegistry);
+    }
+
+    @Bean
+    public LatencyEndpoint latencyEndpoint(LatencyRecorders latencyRecorders) {
+        return new LatencyEndpoint(latencyRecorders);
+    }
+
+    /**
+     * 어떤 저장소 구현이 선택되든 호출 시간을 기록하도록 감싼다.
+     */
+    @Bean
+    public static BeanPostProcessor timedPointRepositoryPostProcessor(ObjectProvider<LatencyRecorders> latencyRecorders) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof PointRepository repository && !(bean instanceof TimedPointRepository)) {
+                    return new TimedPointRepository(repository, latencyRecorders.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LatencyRecordingInterceptor(latencyRecorders.getObject()))
+                .addPathPatterns("/point", "/point/**")
+                .excludePathPatterns("/point/*/stream");
+    }
+}
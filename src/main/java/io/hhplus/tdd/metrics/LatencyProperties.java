@@ -0,0 +1,23 @@
+package io.hhplus.tdd.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 지연 시간 히스토그램 설정
+ * - enabled : 엔드포인트/저장소 호출 지연 시간 기록 여부
+ * - slos : SLO 구간 경계 (Prometheus 버킷과 구간별 달성률 계산에 사용)
+ * - highestTrackable : 기록 가능한 최대 지연 시간 (초과 값은 최대값으로 기록)
+ * - significantDigits : 히스토그램 유효 자릿수 (1 ~ 5)
+ */
+@ConfigurationProperties(prefix = "point.latency")
+public record LatencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"1ms", "5ms", "10ms", "50ms", "100ms", "500ms"}) List<Duration> slos,
+        @DefaultValue("60s") Duration highestTrackable,
+        @DefaultValue("3") int significantDigits
+) {
+}
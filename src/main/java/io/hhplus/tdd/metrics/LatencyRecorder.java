@@ -0,0 +1,86 @@
+package io.hhplus.tdd.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연산 하나의 지연 시간을 HdrHistogram 으로 기록한다.
+ * 기록은 lock-free Recorder 로 받고, 조회 시점에 구간 히스토그램을 누적 히스토그램에 합친다.
+ * 누적 히스토그램은 reset 전까지의 전체 분포이다.
+ */
+class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Recorder recorder;
+    private final Histogram cumulative;
+    private final List<Duration> slos;
+    private final long highestTrackableNanos;
+    private Histogram interval;
+
+    LatencyRecorder(LatencyProperties properties) {
+        this.highestTrackableNanos = properties.highestTrackable().toNanos();
+        this.recorder = new Recorder(1, highestTrackableNanos, properties.significantDigits());
+        this.cumulative = new Histogram(1, highestTrackableNanos, properties.significantDigits());
+        this.slos = List.copyOf(properties.slos());
+    }
+
+    void record(long elapsedNanos) {
+        recorder.recordValue(Math.max(1, Math.min(elapsedNanos, highestTrackableNanos)));
+    }
+
+    synchronized LatencySnapshot snapshot() {
+        fold();
+        return toSnapshot(cumulative);
+    }
+
+    /**
+     * 지금까지의 분포를 돌려주고 새 구간을 시작한다.
+     */
+    synchronized LatencySnapshot snapshotAndReset() {
+        fold();
+        LatencySnapshot snapshot = toSnapshot(cumulative);
+        cumulative.reset();
+        return snapshot;
+    }
+
+    synchronized double valueAtPercentileSeconds(double percentile) {
+        fold();
+        return cumulative.getValueAtPercentile(percentile) / 1_000_000_000.0;
+    }
+
+    private void fold() {
+        interval = recorder.getIntervalHistogram(interval);
+        cumulative.add(interval);
+    }
+
+    private LatencySnapshot toSnapshot(Histogram histogram) {
+        Map<String, Double> sloAttainment = new LinkedHashMap<>();
+        for (Duration slo : slos) {
+            double attainment = histogram.getTotalCount() == 0
+                    ? 100.0
+                    : histogram.getPercentileAtOrBelowValue(slo.toNanos());
+            sloAttainment.put(formatSlo(slo), attainment);
+        }
+        return new LatencySnapshot(
+                histogram.getTotalCount(),
+                histogram.getMean() / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(50.0) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(90.0) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI,
+                sloAttainment
+        );
+    }
+
+    private static String formatSlo(Duration slo) {
+        long nanos = slo.toNanos();
+        return nanos % 1_000_000 == 0 ? (nanos / 1_000_000) + "ms" : (nanos / 1_000) + "us";
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연산 이름별 지연 시간 기록기 모음
+ * - HdrHistogram : 정확한 p50/p99/p999 와 SLO 달성률 (actuator pointlatency 엔드포인트)
+ * - Micrometer Timer : SLO 경계를 버킷으로 Prometheus 에 노출 (point_latency_seconds_bucket)
+ * - Micrometer Gauge : HdrHistogram 기준 정확한 분위수 (point_latency_exact_seconds)
+ */
+public class LatencyRecorders {
+
+    private static final double[] EXPORTED_QUANTILES = {0.5, 0.99, 0.999};
+
+    private final LatencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public LatencyRecorders(LatencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String operation, long elapsedNanos) {
+        Entry entry = entries.computeIfAbsent(operation, this::register);
+        entry.recorder().record(elapsedNanos);
+        entry.timer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 마지막 reset 이후의 연산별 분포
+     */
+    public Map<String, LatencySnapshot> snapshot() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        entries.forEach((operation, entry) -> snapshots.put(operation, entry.recorder().snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * 마지막 reset 이후의 연산별 분포를 돌려주고 새 구간을 시작한다. (부하 테스트 구간 측정용)
+     */
+    public Map<String, LatencySnapshot> snapshotAndReset() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        entries.forEach((operation, entry) -> snapshots.put(operation, entry.recorder().snapshotAndReset()));
+        return snapshots;
+    }
+
+    private Entry register(String operation) {
+        LatencyRecorder recorder = new LatencyRecorder(properties);
+        Timer timer = Timer.builder("point.latency")
+                .description("Point API and store call latency")
+                .tag("operation", operation)
+                .serviceLevelObjectives(properties.slos().toArray(Duration[]::new))
+                .maximumExpectedValue(properties.highestTrackable())
+                .register(meterRegistry);
+        for (double quantile : EXPORTED_QUANTILES) {
+            Gauge.builder("point.latency.exact", recorder, r -> r.valueAtPercentileSeconds(quantile * 100.0))
+                    .description("Exact latency percentile since last reset")
+                    .baseUnit("seconds")
+                    .tag("operation", operation)
+                    .tag("quantile", String.valueOf(quantile))
+                    .register(meterRegistry);
+        }
+        return new Entry(recorder, timer);
+    }
+
+    private record Entry(LatencyRecorder recorder, Timer timer) {
+    }
+}
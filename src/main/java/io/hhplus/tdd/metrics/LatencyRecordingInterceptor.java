@@ -0,0 +1,38 @@
+package io.hhplus.tdd.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 엔드포인트별("http GET /point/{id}") 처리 시간을 기록하는 인터셉터
+ */
+public class LatencyRecordingInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = LatencyRecordingInterceptor.class.getName() + ".start";
+
+    private final LatencyRecorders recorders;
+
+    public LatencyRecordingInterceptor(LatencyRecorders recorders) {
+        this.recorders = recorders;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        recorders.record("http " + request.getMethod() + " " + pattern, System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.metrics;
+
+import java.util.Map;
+
+/**
+ * 한 구간 동안의 지연 시간 분포 (단위: ms)
+ * sloAttainment 는 SLO 경계별로 그 시간 안에 끝난 요청의 비율(%)이다.
+ */
+public record LatencySnapshot(
+        long count,
+        double meanMillis,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis,
+        Map<String, Double> sloAttainment
+) {
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.database.CompactionResult;
+import io.hhplus.tdd.database.HistoryWrite;
+import io.hhplus.tdd.database.PointRepository;
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.HistoryStream;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 저장소 호출마다 지연 시간을 기록하는 PointRepository 데코레이터
+ * 기본 저장소(table)에서는 UserPointTable / PointHistoryTable 호출 시간과 같다.
+ */
+public class TimedPointRepository implements PointRepository, AutoCloseable {
+
+    private final PointRepository delegate;
+    private final LatencyRecorders recorders;
+
+    public TimedPointRepository(PointRepository delegate, LatencyRecorders recorders) {
+        this.delegate = delegate;
+        this.recorders = recorders;
+    }
+
+    @Override
+    public UserPoint selectById(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectById(userId);
+        } finally {
+            recorders.record("store selectById", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertOrUpdate(userId, amount);
+        } finally {
+            recorders.record("store insertOrUpdate", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertHistory(userId, amount, type, updateMillis);
+        } finally {
+            recorders.record("store insertHistory", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+        long start = System.nanoTime();
+        try {
+            return delegate.insertHistories(writes);
+        } finally {
+            recorders.record("store insertHistories", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByUserId(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectHistoriesByUserId(userId);
+        } finally {
+            recorders.record("store selectHistoriesByUserId", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 순회는 응답 전송과 섞여 있으므로 반복자를 만드는 시간만 기록한다.
+     */
+    @Override
+    public Iterator<PointHistory> iterateHistoriesByUserId(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.iterateHistoriesByUserId(userId);
+        } finally {
+            recorders.record("store iterateHistoriesByUserId", System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 순회는 응답 전송과 섞여 있으므로 마지막 id 를 읽고 반복자를 만드는 시간만 기록한다.
+     */
+    @Override
+    public HistoryStream streamHistoriesByUserId(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.streamHistoriesByUserId(userId);
+        } finally {
+            recorders.record("store streamHistoriesByUserId", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean supportsHistoryExport() {
+        return delegate.supportsHistoryExport();
+    }
+
+    @Override
+    public List<PointHistory> selectHistoriesByIdRange(long fromId, long toId, int limit) {
+        long start = System.nanoTime();
+        try {
+            return delegate.selectHistoriesByIdRange(fromId, toId, limit);
+        } finally {
+            recorders.record("store selectHistoriesByIdRange", System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<DailyRollup> selectDailyRollupsByUserId(long userId, ZoneId zone) {
+        return delegate.selectDailyRollupsByUserId(userId, zone);
+    }
+
+    @Override
+    public boolean supportsCompaction() {
+        return delegate.supportsCompaction();
+    }
+
+    @Override
+    public CompactionResult compactHistoriesBefore(long cutoffMillis, ZoneId zone) {
+        return delegate.compactHistoriesBefore(cutoffMillis, zone);
+    }
+
+    /**
+     * 감싼 저장소가 자원을 가지고 있으면(파티션 스레드 등) 함께 정리한다.
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
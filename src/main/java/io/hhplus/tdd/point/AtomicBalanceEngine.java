@@ -0,0 +1,265 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 잔액을 AtomicReference 한 칸에 두고 CAS 반복으로 갱신하는 잔액 엔진 (point.balance.engine=cas)
+ * - 칸에는 잔액, 버전, 이체 중인 금액, 오늘 충전 누적액이 함께 들어 있어 한 번의 CAS로 모두 바뀐다.
+ * - 검증(UserPoint 규칙, 일일 충전 한도)은 CAS 직전에 칸의 값으로 하므로, 성공한 CAS는 항상 규칙을 지킨 값이다.
+ * - 커밋된 잔액은 곧바로 저장소에 쓴다(insertOrUpdate). 쓰기는 사용자마다 한 스레드씩 그 시점의 최신 칸을 쓰므로
+ *   늦게 끝난 쓰기가 새 잔액을 옛 잔액으로 덮지 않고, 밀린 커밋은 한 번의 쓰기로 합쳐진다. 검증과 커밋에는 Lock 이 없다.
+ * - 내역은 PointServiceImpl 이 커밋 후에 저장한다. → 동시에 커밋된 두 연산의 내역 순서는 버전 순서와 다를 수 있다.
+ * - 칸은 최대 maxUsers 명까지만 둔다. 넘으면 저장소 반영이 끝났고 이체 중 금액이 없으며 evictAfterIdle 동안 커밋이 없던 칸을 내린다.
+ *   내린 칸은 RETIRED 로 바꿔 두므로, 내리기 전에 칸을 잡은 스레드의 CAS 는 실패하고 저장소에서 다시 읽은 칸으로 재시도한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.balance", name = "engine", havingValue = "cas")
+public class AtomicBalanceEngine {
+
+    // 내린 칸 표시 (이 값으로는 CAS 가 성공하지 않도록 다른 어떤 칸과도 같지 않다)
+    private static final Cell RETIRED = new Cell(null, 0L, -1L, null, 0L);
+
+    private final PointRepository pointRepository;
+    private final int maxUsers;
+    private final long evictAfterIdleMillis;
+    private final ConcurrentHashMap<Long, Entry> cells = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final LongAdder casRetries = new LongAdder();
+    // 내릴 칸이 없어 줄이지 못했을 때 매 사용자마다 전체를 훑지 않도록, 다음에 훑을 칸 수
+    private volatile int nextSweepSize;
+
+    public AtomicBalanceEngine(PointRepository pointRepository, BalanceEngineProperties properties) {
+        if (properties.maxUsers() <= 0) {
+            throw new IllegalArgumentException("잔액 엔진 최대 사용자 수는 1 이상이어야 합니다.");
+        }
+        this.pointRepository = pointRepository;
+        this.maxUsers = properties.maxUsers();
+        this.evictAfterIdleMillis = properties.evictAfterIdle().toMillis();
+        this.nextSweepSize = maxUsers;
+    }
+
+    public UserPoint balance(long userId) {
+        Entry entry = cells.get(userId);
+        Cell cell = entry != null ? entry.cell.get() : RETIRED;
+        return cell != RETIRED ? cell.point() : pointRepository.selectById(userId);
+    }
+
+    public UserPoint charge(long userId, long amount) {
+        return update(userId, current -> current.charge(amount, LocalDate.now()));
+    }
+
+    public UserPoint use(long userId, long amount) {
+        return update(userId, current -> current.use(amount));
+    }
+
+    /**
+     * 두 칸을 한 번에 바꿀 수 없으므로 보내는 쪽에서 먼저 빼서 "이체 중" 금액으로 잡아 두고 받는 쪽에 더한다.
+     * 받는 쪽 검증에 실패하면 잡아 둔 금액을 되돌린다. 이체 중 금액도 최대 잔액 계산에 포함하므로 되돌릴 때 한도를 넘지 않는다.
+     */
+    public TransferResult transfer(long fromUserId, long toUserId, long amount) {
+        UserPoint from = update(fromUserId, current -> current.withdraw(amount));
+        UserPoint to;
+        try {
+            to = update(toUserId, current -> current.deposit(amount));
+        } catch (RuntimeException e) {
+            update(fromUserId, current -> current.refund(amount));
+            throw e;
+        }
+        update(fromUserId, current -> current.settle(amount));
+        return new TransferResult(from, to);
+    }
+
+    /**
+     * 사용자 잔액이 바뀐 횟수 (칸을 올린 뒤부터, 내린 사용자는 0)
+     */
+    long version(long userId) {
+        Entry entry = cells.get(userId);
+        Cell cell = entry != null ? entry.cell.get() : RETIRED;
+        return cell != RETIRED ? cell.version() : 0L;
+    }
+
+    /**
+     * 메모리에 칸이 있는 사용자 수
+     */
+    int cachedUsers() {
+        return cells.size();
+    }
+
+    /**
+     * 다른 스레드의 커밋 때문에 CAS를 다시 시도한 횟수 (경합 정도)
+     */
+    public long casRetries() {
+        return casRetries.sum();
+    }
+
+    /**
+     * 현재 값으로 검증한 다음 값을 CAS로 커밋한다. 검증에 실패하면 아무것도 바꾸지 않고 예외를 그대로 던진다.
+     */
+    private UserPoint update(long userId, UnaryOperator<Cell> change) {
+        Entry entry = entryOf(userId);
+        while (true) {
+            Cell current = entry.cell.get();
+            if (current == RETIRED) {
+                entry = entryOf(userId);
+                continue;
+            }
+            Cell next = change.apply(current);
+            if (entry.cell.compareAndSet(current, next)) {
+                writeBack(userId, entry);
+                return next.point();
+            }
+            casRetries.increment();
+        }
+    }
+
+    /**
+     * 칸의 최신 값을 저장소에 쓴다. 사용자마다 한 스레드씩 쓰고, 이미 더 새 버전을 쓴 스레드가 있으면 건너뛴다.
+     */
+    private void writeBack(long userId, Entry entry) {
+        synchronized (entry) {
+            Cell latest = entry.cell.get();
+            if (latest == RETIRED || latest.version() <= entry.writtenVersion) {
+                return;
+            }
+            pointRepository.insertOrUpdate(userId, latest.point().point());
+            entry.writtenVersion = latest.version();
+        }
+    }
+
+    private Entry entryOf(long userId) {
+        Entry entry = cells.get(userId);
+        if (entry != null) {
+            if (entry.cell.get() != RETIRED) {
+                return entry;
+            }
+            cells.remove(userId, entry);
+        }
+        // 저장소 조회는 ConcurrentHashMap 의 compute 밖에서 한다. (같은 버킷의 다른 사용자를 막지 않도록)
+        Entry loaded = new Entry(load(userId));
+        Entry existing = cells.putIfAbsent(userId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        if (cells.size() > nextSweepSize) {
+            sweep(userId);
+        }
+        return loaded;
+    }
+
+    /**
+     * 칸이 maxUsers 의 90% 이하가 될 때까지 내릴 수 있는 칸을 내린다. (방금 올린 사용자는 제외)
+     * 한 번에 한 스레드만 훑고, 다 줄이지 못했으면 maxUsers 의 10% 가 더 늘 때까지 다시 훑지 않는다.
+     */
+    private void sweep(long keepUserId) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxUsers - maxUsers / 10;
+            long idleBefore = System.currentTimeMillis() - evictAfterIdleMillis;
+            for (Map.Entry<Long, Entry> candidate : cells.entrySet()) {
+                if (cells.size() <= target) {
+                    break;
+                }
+                long userId = candidate.getKey();
+                if (userId != keepUserId && candidate.getValue().retireIfIdle(idleBefore)) {
+                    cells.remove(userId, candidate.getValue());
+                }
+            }
+            nextSweepSize = Math.max(maxUsers, cells.size() + maxUsers / 10);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private Cell load(long userId) {
+        LocalDate today = LocalDate.now();
+        long chargedToday = pointRepository.selectHistoriesByUserId(userId).stream()
+                .filter(history -> history.type() == TransactionType.CHARGE)
+                .filter(history -> Instant.ofEpochMilli(history.updateMillis())
+                        .atZone(ZoneId.systemDefault())
+                        .toLocalDate()
+                        .equals(today))
+                .mapToLong(PointHistory::amount)
+                .sum();
+        return new Cell(pointRepository.selectById(userId), 0L, 0L, today, chargedToday);
+    }
+
+    /**
+     * 사용자 한 명의 칸과 저장소에 마지막으로 쓴 버전 (writtenVersion 은 this 로 보호)
+     */
+    private static final class Entry {
+        private final AtomicReference<Cell> cell;
+        private long writtenVersion;
+
+        private Entry(Cell loaded) {
+            this.cell = new AtomicReference<>(loaded);
+        }
+
+        /**
+         * 저장소 반영이 끝났고, 이체 중 금액이 없고, idleBefore 이후 커밋이 없으면 RETIRED 로 바꾼다.
+         */
+        private synchronized boolean retireIfIdle(long idleBefore) {
+            Cell current = cell.get();
+            if (current == RETIRED) {
+                return true;
+            }
+            if (current.version() != writtenVersion || current.held() != 0L || current.point().updateMillis() > idleBefore) {
+                return false;
+            }
+            return cell.compareAndSet(current, RETIRED);
+        }
+    }
+
+    /**
+     * 한 사용자의 잔액 상태 (불변)
+     * - held : 이체로 빠져나갔지만 아직 받는 쪽 반영이 끝나지 않은 금액
+     */
+    private record Cell(UserPoint point, long held, long version, LocalDate chargeDay, long chargedToday) {
+
+        Cell charge(long amount, LocalDate today) {
+            long chargedSoFar = today.equals(chargeDay) ? chargedToday : 0L;
+            UserPoint.validateDailyChargeLimit(chargedSoFar, amount);
+            return new Cell(add(amount), held, version + 1, today, chargedSoFar + amount);
+        }
+
+        Cell use(long amount) {
+            return new Cell(point.deductPoints(amount), held, version + 1, chargeDay, chargedToday);
+        }
+
+        Cell withdraw(long amount) {
+            return new Cell(point.deductPoints(amount), held + amount, version + 1, chargeDay, chargedToday);
+        }
+
+        Cell deposit(long amount) {
+            return new Cell(add(amount), held, version + 1, chargeDay, chargedToday);
+        }
+
+        Cell refund(long amount) {
+            UserPoint refunded = new UserPoint(point.id(), point.point() + amount, System.currentTimeMillis());
+            return new Cell(refunded, held - amount, version + 1, chargeDay, chargedToday);
+        }
+
+        Cell settle(long amount) {
+            return new Cell(point, held - amount, version + 1, chargeDay, chargedToday);
+        }
+
+        private UserPoint add(long amount) {
+            // 이체 중인 금액이 되돌아올 수 있으므로 최대 잔액 검증에 포함한다
+            UserPoint validated = new UserPoint(point.id(), point.point() + held, point.updateMillis()).addPoints(amount);
+            return new UserPoint(point.id(), point.point() + amount, validated.updateMillis());
+        }
+    }
+}
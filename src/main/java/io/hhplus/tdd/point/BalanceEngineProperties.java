@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * CAS 잔액 엔진 설정 (point.balance.engine=cas 일 때만 사용)
+ * - maxUsers : 메모리에 잔액 칸을 둘 최대 사용자 수 (초과 시 저장소에 반영이 끝난 한가한 사용자부터 내린다)
+ * - evictAfterIdle : 마지막 커밋 후 이 시간이 지나야 내릴 수 있다. (커밋 직후 내역 저장이 끝나기 전에 내려 일일 충전 누적액을 잃지 않도록)
+ */
+@ConfigurationProperties(prefix = "point.balance.cas")
+public record BalanceEngineProperties(
+        @DefaultValue("100000") int maxUsers,
+        @DefaultValue("1s") Duration evictAfterIdle
+) {
+
+    public static final BalanceEngineProperties DEFAULT = new BalanceEngineProperties(100_000, Duration.ofSeconds(1));
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * BalanceSnapshots.open 시점의 전체 잔액
+ * 순회는 사용자마다 기록을 하나씩 읽으므로 사용자 수와 관계없이 추가 메모리가 일정하고, 같은 스냅샷을 여러 번 순회해도 결과가 같다.
+ */
+public final class BalanceSnapshot implements Iterable<UserPoint>, AutoCloseable {
+
+    private final BalanceSnapshots snapshots;
+    private final long version;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    BalanceSnapshot(BalanceSnapshots snapshots, long version) {
+        this.snapshots = snapshots;
+        this.version = version;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public Iterator<UserPoint> iterator() {
+        if (closed.get()) {
+            throw new IllegalStateException("닫힌 스냅샷은 읽을 수 없습니다.");
+        }
+        return snapshots.iterator(version);
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            snapshots.close(version);
+        }
+    }
+}
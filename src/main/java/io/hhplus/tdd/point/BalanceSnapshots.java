@@ -0,0 +1,151 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모든 사용자의 잔액을 한 논리 시점 기준으로 읽기 위한 다중 버전 잔액 기록 (Lock 경로에서만 사용)
+ * - PointServiceImpl 은 잔액을 저장할 때마다 현재 시점 번호와 함께 기록한다. 이체 양쪽 잔액은 같은 시점으로 한 번에 기록한다.
+ * - open 은 시점 번호를 하나 올리고, 그 전 번호까지 기록된 잔액만 보는 스냅샷을 돌려준다.
+ *   쓰기가 기다리는 것은 번호를 올리는 순간뿐이며, 스냅샷을 읽는 동안의 쓰기는 새 번호로 기록된다.
+ * - 사용자마다 최신 값과, 열려 있는 가장 오래된 스냅샷이 아직 읽을 수 있는 이전 값만 남긴다.
+ * UserPointTable 에는 전체 조회 API 가 없으므로 사용자당 UserPoint 하나를 메모리에 따로 둔다.
+ * CAS 엔진은 잔액 원본이 엔진이고 이체가 두 번의 CAS 로 나뉘어 한 시점을 정할 수 없으므로 지원하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.balance", name = "engine", havingValue = "lock", matchIfMissing = true)
+public class BalanceSnapshots {
+
+    private final ConcurrentHashMap<Long, Versions> balances = new ConcurrentHashMap<>();
+    // 기록은 공유 Lock, 시점 번호 변경(open/close)은 배타 Lock 을 잡는다
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+    // 아래 필드는 gate 로 보호한다
+    private final TreeSet<Long> openVersions = new TreeSet<>();
+    private long clock = 0L;
+    private long oldestOpen = Long.MAX_VALUE;
+
+    /**
+     * 저장된 잔액들을 같은 시점으로 기록한다. (한 사용자의 기록 순서는 호출자의 사용자 Lock 이 보장한다)
+     */
+    public void record(UserPoint... userPoints) {
+        gate.readLock().lock();
+        try {
+            for (UserPoint userPoint : userPoints) {
+                balances.computeIfAbsent(userPoint.id(), id -> new Versions()).add(clock, userPoint, oldestOpen);
+            }
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    /**
+     * 지금까지 기록된 잔액을 보는 스냅샷을 연다. 다 읽은 뒤 반드시 닫아야 이전 값을 정리할 수 있다.
+     */
+    public BalanceSnapshot open() {
+        gate.writeLock().lock();
+        try {
+            long version = clock++;
+            openVersions.add(version);
+            oldestOpen = openVersions.first();
+            return new BalanceSnapshot(this, version);
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 열려 있는 스냅샷 수
+     */
+    public int openCount() {
+        gate.readLock().lock();
+        try {
+            return openVersions.size();
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    void close(long version) {
+        gate.writeLock().lock();
+        try {
+            openVersions.remove(version);
+            oldestOpen = openVersions.isEmpty() ? Long.MAX_VALUE : openVersions.first();
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * version 시점의 잔액을 하나씩 돌려준다. (사용자 순서는 정해져 있지 않다)
+     * 순회 중에 생긴 사용자는 version 이후 기록만 있으므로 건너뛴다.
+     */
+    Iterator<UserPoint> iterator(long version) {
+        Iterator<Versions> users = balances.values().iterator();
+        return new Iterator<>() {
+            private UserPoint next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && users.hasNext()) {
+                    next = users.next().at(version);
+                }
+                return next != null;
+            }
+
+            @Override
+            public UserPoint next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                UserPoint userPoint = next;
+                next = null;
+                return userPoint;
+            }
+        };
+    }
+
+    /**
+     * 한 사용자의 잔액 기록 (최신 값부터)
+     */
+    private static final class Versions {
+        private Entry head;
+
+        private synchronized void add(long version, UserPoint userPoint, long oldestOpen) {
+            head = new Entry(version, userPoint, head);
+            // oldestOpen 이하인 가장 최신 값보다 오래된 값은 어떤 열린 스냅샷도 읽지 않는다
+            for (Entry entry = head; entry != null; entry = entry.older) {
+                if (entry.version <= oldestOpen) {
+                    entry.older = null;
+                    break;
+                }
+            }
+        }
+
+        private synchronized UserPoint at(long version) {
+            for (Entry entry = head; entry != null; entry = entry.older) {
+                if (entry.version <= version) {
+                    return entry.userPoint;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final UserPoint userPoint;
+        private Entry older;
+
+        private Entry(long version, UserPoint userPoint, Entry older) {
+            this.version = version;
+            this.userPoint = userPoint;
+            this.older = older;
+        }
+    }
+}
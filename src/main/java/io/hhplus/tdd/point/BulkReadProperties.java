@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 다건 포인트 조회 설정
+ * - maxIds : 한 번에 조회할 수 있는 최대 사용자 수
+ * - parallelism : 동시에 진행하는 최대 조회 수 (전체 요청이 공유)
+ * - queueCapacity : 실행을 기다리는 조회 수 한도 (전체 요청이 공유, 초과 시 503)
+ */
+@ConfigurationProperties(prefix = "point.bulk")
+public record BulkReadProperties(
+        @DefaultValue("1000") int maxIds,
+        @DefaultValue("100") int parallelism,
+        @DefaultValue("10000") int queueCapacity
+) {
+}
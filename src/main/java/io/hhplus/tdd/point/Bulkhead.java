@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 고정 크기 스레드 풀과 제한된 대기열로 동시에 처리하는 작업 수를 제한하는 벌크헤드
+ * 호출 스레드는 작업이 끝날 때까지 기다리며, 스레드와 대기열이 모두 차 있으면 기다리지 않고 BulkheadFullException 을 던진다.
+ * 작업 스레드에서도 요청 정보(전달된 요청 여부 등)를 볼 수 있도록 호출 스레드의 RequestAttributes 를 넘긴다.
+ */
+class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    Bulkhead(String name, int threads, int queueCapacity) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("벌크헤드 스레드 수는 1 이상이어야 합니다.");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("벌크헤드 대기열 크기는 0 이상이어야 합니다.");
+        }
+        this.name = name;
+        BlockingQueue<Runnable> queue = queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "point-" + name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.prestartAllCoreThreads();
+    }
+
+    <T> T execute(Supplier<T> task) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return task.get();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BulkheadFullException(name);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 처리 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 처리 중인 작업 수
+     */
+    int active() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    int queued() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 가득 차서 거절한 작업 수
+     */
+    long rejected() {
+        return rejected.sum();
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 벌크헤드의 스레드와 대기열이 모두 차서 요청을 받을 수 없을 때 (→ 503 Service Unavailable)
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String name) {
+        super("요청이 많아 " + name + " 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 조회/변경 벌크헤드 설정
+ * - enabled : false 이면 요청 스레드에서 바로 처리한다
+ * - readThreads / readQueue : 조회(잔액, 내역, 요약)를 처리하는 스레드 수와 대기 가능한 요청 수
+ * - writeThreads / writeQueue : 변경(충전, 사용, 이체)을 처리하는 스레드 수와 대기 가능한 요청 수
+ * - exportThreads / exportQueue : 전체 잔액/내역 내보내기를 처리하는 스레드 수와 대기 가능한 요청 수 (응답을 다 쓸 때까지 스레드를 잡으므로 조회와 나눈다)
+ * 스레드와 대기열이 모두 차면 바로 503 을 반환하므로, 한쪽이 점유할 수 있는 Tomcat 스레드는 threads + queue 개로 제한된다.
+ */
+@ConfigurationProperties(prefix = "point.bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64") int readThreads,
+        @DefaultValue("128") int readQueue,
+        @DefaultValue("32") int writeThreads,
+        @DefaultValue("64") int writeQueue,
+        @DefaultValue("2") int exportThreads,
+        @DefaultValue("0") int exportQueue
+) {
+}
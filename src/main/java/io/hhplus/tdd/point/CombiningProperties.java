@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 flat combining 설정 (사용자 Lock 경로에서만 사용)
+ * - mode : off(사용 안 함) / hot(HotUserTracker 가 상위 사용자로 본 사용자만) / all(모든 사용자)
+ * - maxBatch : 조합자 한 번이 처리하는 최대 요청 수
+ */
+@ConfigurationProperties(prefix = "point.balance.combining")
+public record CombiningProperties(
+        @DefaultValue("off") Mode mode,
+        @DefaultValue("64") int maxBatch
+) {
+
+    public static final CombiningProperties OFF = new CombiningProperties(Mode.OFF, 64);
+
+    public enum Mode {
+        OFF, HOT, ALL
+    }
+}
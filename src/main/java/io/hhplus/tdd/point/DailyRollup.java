@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자·날짜·거래 종류별 내역 요약 (보관 기간이 지난 내역을 압축한 결과)
+ */
+public record DailyRollup(
+        long userId,
+        LocalDate date,
+        TransactionType type,
+        long count,
+        long amount
+) {
+    public DailyRollup plus(long count, long amount) {
+        return new DailyRollup(userId, date, type, this.count + count, this.amount + amount);
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 화면 표시용(allowStale) 잔액 조회 설정
+ * - freshFor : 캐시된 잔액을 그대로 돌려주는 시간
+ * - staleFor : freshFor 이후 이 시간 동안은 캐시된 잔액을 돌려주면서 백그라운드에서 갱신한다 (이후에는 조회 완료까지 대기)
+ * - maxEntries : 캐시할 최대 사용자 수 (가득 차면 새 사용자는 캐시하지 않고 바로 조회)
+ * - refreshThreads : 갱신 조회 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.display")
+public record DisplayReadProperties(
+        @DefaultValue("1s") Duration freshFor,
+        @DefaultValue("10s") Duration staleFor,
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("4") int refreshThreads
+) {
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.Iterator;
+
+/**
+ * 응답에 바로 쓸 사용자 내역 반복자
+ * - lastHistoryId : ETag 계산용 마지막 내역 id (내역이 없으면 0). 반복자를 만들기 전에 읽으므로 그 사이 추가된 내역이 있으면 더 작을 수 있다. → 다음 요청에서 ETag 가 달라 새로 받는다.
+ * - histories : 오래된 순서의 내역
+ */
+public record HistoryStream(
+        long lastHistoryId,
+        Iterator<PointHistory> histories
+) {
+}
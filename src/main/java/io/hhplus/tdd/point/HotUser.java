@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 많이 요청되거나 Lock 을 오래 기다린 사용자
+ * - estimate : 추정값 (요청 수 또는 Lock 대기 시간 μs). 실제 값보다 작지 않다.
+ * - error : 추정값이 실제 값보다 클 수 있는 최대 크기 (estimate - error 는 확실한 하한)
+ */
+public record HotUser(
+        long userId,
+        long estimate,
+        long error
+) {
+}
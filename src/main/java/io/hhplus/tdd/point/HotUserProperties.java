@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청 수 / Lock 대기 시간 상위 사용자 추적 설정
+ * - capacity : 지표마다 추적하는 최대 사용자 수 (메모리 상한, shards 로 나눠 가진다)
+ * - shards : 갱신 경합을 줄이기 위해 사용자 ID 로 나누는 스케치 수
+ * - top : 조회 시 기본으로 돌려주는 상위 사용자 수이자 isHot 판단 기준
+ * - refresh : isHot 이 참고하는 상위 사용자 목록을 다시 계산하는 주기
+ */
+@ConfigurationProperties(prefix = "point.hot-users")
+public record HotUserProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1024") int capacity,
+        @DefaultValue("16") int shards,
+        @DefaultValue("20") int top,
+        @DefaultValue("1s") Duration refresh
+) {
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 수와 Lock 대기 시간 기준 상위 사용자를 Space-Saving 스케치로 추적한다.
+ * 사용자 수와 관계없이 지표마다 capacity 개의 카운터만 유지하며, 갱신은 사용자 ID 로 나눈 shard 단위로만 동기화한다.
+ * 다른 컴포넌트(캐시, 유입 제어 등)는 isHot 으로 특정 사용자가 현재 상위 사용자인지 확인할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.hot-users", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HotUserTracker {
+
+    private static final Comparator<HotUser> BY_ESTIMATE_DESC = Comparator.comparingLong(HotUser::estimate).reversed();
+
+    private final ShardedSketch requests;
+    private final ShardedSketch lockWaits;
+    private final int top;
+    private final long refreshNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile HotSet hotSet;
+
+    @Autowired
+    public HotUserTracker(HotUserProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    HotUserTracker(HotUserProperties properties, LongSupplier nanoClock) {
+        if (properties.shards() <= 0 || properties.capacity() < properties.shards()) {
+            throw new IllegalArgumentException("상위 사용자 추적 크기는 shard 수 이상이어야 합니다.");
+        }
+        if (properties.top() <= 0) {
+            throw new IllegalArgumentException("상위 사용자 수는 1 이상이어야 합니다.");
+        }
+        this.requests = new ShardedSketch(properties.capacity(), properties.shards());
+        this.lockWaits = new ShardedSketch(properties.capacity(), properties.shards());
+        this.top = properties.top();
+        this.refreshNanos = properties.refresh().toNanos();
+        this.nanoClock = nanoClock;
+        this.hotSet = new HotSet(Set.of(), nanoClock.getAsLong());
+    }
+
+    public void recordRequest(long userId) {
+        requests.add(userId, 1L);
+    }
+
+    /**
+     * 사용자 Lock 을 얻기까지 기다린 시간 (1μs 미만은 경합이 없던 것으로 보고 기록하지 않는다)
+     */
+    public void recordLockWait(long userId, long waitNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(waitNanos);
+        if (micros > 0) {
+            lockWaits.add(userId, micros);
+        }
+    }
+
+    public List<HotUser> topByRequests(int limit) {
+        return requests.top(limit);
+    }
+
+    public List<HotUser> topByLockWait(int limit) {
+        return lockWaits.top(limit);
+    }
+
+    /**
+     * 요청 수 또는 Lock 대기 시간 상위 top 명에 드는 사용자인지 (최대 refresh 주기만큼 지난 목록 기준)
+     */
+    public boolean isHot(long userId) {
+        HotSet current = hotSet;
+        if (nanoClock.getAsLong() - current.computedAt() >= refreshNanos && refreshing.compareAndSet(false, true)) {
+            try {
+                current = computeHotSet();
+                hotSet = current;
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return current.userIds().contains(userId);
+    }
+
+    public HotUsersSnapshot snapshot(int limit) {
+        return new HotUsersSnapshot(topByRequests(limit), topByLockWait(limit));
+    }
+
+    public HotUsersSnapshot snapshot() {
+        return snapshot(top);
+    }
+
+    /**
+     * 현재 상위 사용자를 반환하고 새 구간을 시작한다.
+     */
+    public HotUsersSnapshot snapshotAndReset() {
+        HotUsersSnapshot snapshot = snapshot();
+        requests.clear();
+        lockWaits.clear();
+        hotSet = new HotSet(Set.of(), nanoClock.getAsLong());
+        return snapshot;
+    }
+
+    private HotSet computeHotSet() {
+        Set<Long> userIds = new HashSet<>();
+        topByRequests(top).forEach(user -> userIds.add(user.userId()));
+        topByLockWait(top).forEach(user -> userIds.add(user.userId()));
+        return new HotSet(Set.copyOf(userIds), nanoClock.getAsLong());
+    }
+
+    private record HotSet(Set<Long> userIds, long computedAt) {
+    }
+
+    /**
+     * 사용자 ID 로 나눈 스케치 묶음 (사용자마다 shard 하나에만 속하므로 shard 별 상위 목록을 합치면 된다)
+     */
+    private static final class ShardedSketch {
+        private final SpaceSavingSketch[] shards;
+
+        private ShardedSketch(int capacity, int shardCount) {
+            this.shards = new SpaceSavingSketch[shardCount];
+            int perShard = (capacity + shardCount - 1) / shardCount;
+            for (int i = 0; i < shardCount; i++) {
+                shards[i] = new SpaceSavingSketch(perShard);
+            }
+        }
+
+        private void add(long userId, long weight) {
+            SpaceSavingSketch shard = shards[Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shards.length)];
+            synchronized (shard) {
+                shard.add(userId, weight);
+            }
+        }
+
+        private List<HotUser> top(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("조회할 상위 사용자 수는 1 이상이어야 합니다.");
+            }
+            List<HotUser> all = new ArrayList<>();
+            for (SpaceSavingSketch shard : shards) {
+                synchronized (shard) {
+                    all.addAll(shard.counters());
+                }
+            }
+            all.sort(BY_ESTIMATE_DESC);
+            return List.copyOf(all.subList(0, Math.min(limit, all.size())));
+        }
+
+        private void clear() {
+            for (SpaceSavingSketch shard : shards) {
+                synchronized (shard) {
+                    shard.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 수 / Lock 대기 시간 상위 사용자 조회/초기화
+ * - GET /actuator/hotusers?top=N : 마지막 초기화 이후 상위 사용자 (top 생략 시 point.hot-users.top)
+ * - DELETE /actuator/hotusers : 위 결과를 반환하고 새 구간 시작
+ */
+@Component
+@Endpoint(id = "hotusers")
+@ConditionalOnProperty(prefix = "point.hot-users", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HotUsersEndpoint {
+
+    private final HotUserTracker tracker;
+
+    public HotUsersEndpoint(HotUserTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public HotUsersSnapshot snapshot(@Nullable Integer top) {
+        return top == null ? tracker.snapshot() : tracker.snapshot(top);
+    }
+
+    @DeleteOperation
+    public HotUsersSnapshot reset() {
+        return tracker.snapshotAndReset();
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 요청 수 상위 사용자와 Lock 대기 시간(μs) 상위 사용자 (추정값 내림차순)
+ */
+public record HotUsersSnapshot(
+        List<HotUser> requests,
+        List<HotUser> lockWaitMicros
+) {
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 처리 결과를 보관하는 캐시
+ * 크기와 TTL로 제한되며, 같은 키의 요청이 처리 중이면 먼저 들어온 요청의 결과를 wait-timeout 까지 기다려 그대로 반환한다.
+ * 재요청은 사용자 Lock을 다시 획득하지 않는다.
+ * 처리 중인 키는 크기나 TTL을 넘어도 제거하지 않는다. (제거하면 같은 키의 중복 요청이 다시 실행된다)
+ */
+@Component
+public class IdempotencyCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long waitTimeoutNanos;
+    // 삽입 순서 = 만료 순서이므로 앞에서부터 만료/초과 항목을 제거
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyCache(IdempotencyProperties properties) {
+        if (properties.maxSize() <= 0) {
+            throw new IllegalArgumentException("Idempotency 캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.maxSize = properties.maxSize();
+        this.ttlMillis = properties.ttl().toMillis();
+        this.waitTimeoutNanos = properties.waitTimeout().toNanos();
+    }
+
+    /**
+     * 키에 대한 결과가 있으면 저장된 결과를, 처리 중이면 처리 완료를 기다린 결과를 반환하고
+     * 처음 보는 키면 action을 실행해 결과를 저장한다.
+     *
+     * @param key         요청 범위(엔드포인트, 사용자)까지 포함한 Idempotency-Key
+     * @param fingerprint 같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 본문 요약
+     */
+    public UserPoint execute(String key, String fingerprint, Supplier<UserPoint> action) {
+        long now = System.currentTimeMillis();
+        Entry created = new Entry(new CompletableFuture<>(), fingerprint, now + ttlMillis);
+        Entry existing;
+        synchronized (entries) {
+            evictExpired(now);
+            existing = entries.putIfAbsent(key, created);
+            if (existing == null && entries.size() > maxSize) {
+                evictOldestCompleted();
+            }
+        }
+
+        if (existing != null) {
+            if (!Objects.equals(existing.fingerprint(), fingerprint)) {
+                throw new IllegalArgumentException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+            return await(existing.result());
+        }
+
+        try {
+            UserPoint result = action.get();
+            created.result().complete(result);
+            return result;
+        } catch (Throwable e) {
+            // 실패한 요청은 재시도할 수 있도록 키를 남기지 않고, 대기 중인 중복 요청에는 같은 예외를 전달 (Error 포함)
+            synchronized (entries) {
+                entries.remove(key, created);
+            }
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAtMillis() > now) {
+                return;
+            }
+            if (entry.result().isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void evictOldestCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().result().isDone()) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("같은 Idempotency-Key의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Idempotency-Key 요청 결과를 기다리는 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Entry(
+            CompletableFuture<UserPoint> result,
+            String fingerprint,
+            long expiresAtMillis
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 결과 캐시 설정
+ * - maxSize : 보관할 최대 키 개수 (초과 시 처리가 끝난 가장 오래된 키부터 제거)
+ * - ttl : 키 보관 기간
+ * - waitTimeout : 같은 키의 요청이 처리 중일 때 중복 요청이 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("5s") Duration waitTimeout
+) {
+}
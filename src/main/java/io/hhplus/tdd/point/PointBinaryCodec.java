@@ -0,0 +1,176 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 포인트/내역 응답용 바이너리 인코딩 (application/vnd.hhplus.point)
+ * 첫 바이트는 본문 종류이고, 이후 값은 모두 varint(7비트씩, 상위 비트는 다음 바이트 여부)로 쓴다.
+ * - USER_POINT      : id, point, updateMillis
+ * - USER_POINT_LIST : 개수, [id, point, updateMillis]...
+ * - HISTORY_LIST    : 개수, [id 차이, userId 차이, amount, type, updateMillis 차이]...
+ * 내역 목록은 이웃한 값끼리 차이가 작으므로 id/userId/updateMillis 를 앞 항목과의 차이(zigzag)로 쓴다.
+ * type 은 TransactionType 의 ordinal 이므로 새 종류는 항상 맨 뒤에 추가해야 한다.
+ */
+public final class PointBinaryCodec {
+
+    public static final byte USER_POINT = 1;
+    public static final byte USER_POINT_LIST = 2;
+    public static final byte HISTORY_LIST = 3;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private PointBinaryCodec() {
+    }
+
+    public static byte[] encodeUserPoint(UserPoint userPoint) {
+        Writer writer = new Writer(32);
+        writer.writeByte(USER_POINT);
+        writeUserPoint(writer, userPoint);
+        return writer.toByteArray();
+    }
+
+    public static byte[] encodeUserPoints(List<UserPoint> userPoints) {
+        Writer writer = new Writer(8 + userPoints.size() * 16);
+        writer.writeByte(USER_POINT_LIST);
+        writer.writeUnsigned(userPoints.size());
+        for (UserPoint userPoint : userPoints) {
+            writeUserPoint(writer, userPoint);
+        }
+        return writer.toByteArray();
+    }
+
+    public static byte[] encodeHistories(List<PointHistory> histories) {
+        Writer writer = new Writer(8 + histories.size() * 8);
+        writer.writeByte(HISTORY_LIST);
+        writer.writeUnsigned(histories.size());
+        long previousId = 0;
+        long previousUserId = 0;
+        long previousMillis = 0;
+        for (PointHistory history : histories) {
+            writer.writeSigned(history.id() - previousId);
+            writer.writeSigned(history.userId() - previousUserId);
+            writer.writeUnsigned(history.amount());
+            writer.writeUnsigned(history.type().ordinal());
+            writer.writeSigned(history.updateMillis() - previousMillis);
+            previousId = history.id();
+            previousUserId = history.userId();
+            previousMillis = history.updateMillis();
+        }
+        return writer.toByteArray();
+    }
+
+    public static UserPoint decodeUserPoint(byte[] bytes) {
+        Reader reader = new Reader(bytes, USER_POINT);
+        return readUserPoint(reader);
+    }
+
+    public static List<UserPoint> decodeUserPoints(byte[] bytes) {
+        Reader reader = new Reader(bytes, USER_POINT_LIST);
+        int count = (int) reader.readUnsigned();
+        List<UserPoint> userPoints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userPoints.add(readUserPoint(reader));
+        }
+        return userPoints;
+    }
+
+    public static List<PointHistory> decodeHistories(byte[] bytes) {
+        Reader reader = new Reader(bytes, HISTORY_LIST);
+        int count = (int) reader.readUnsigned();
+        List<PointHistory> histories = new ArrayList<>(count);
+        long id = 0;
+        long userId = 0;
+        long updateMillis = 0;
+        for (int i = 0; i < count; i++) {
+            id += reader.readSigned();
+            userId += reader.readSigned();
+            long amount = reader.readUnsigned();
+            TransactionType type = TYPES[(int) reader.readUnsigned()];
+            updateMillis += reader.readSigned();
+            histories.add(new PointHistory(id, userId, amount, type, updateMillis));
+        }
+        return histories;
+    }
+
+    private static void writeUserPoint(Writer writer, UserPoint userPoint) {
+        writer.writeUnsigned(userPoint.id());
+        writer.writeUnsigned(userPoint.point());
+        writer.writeUnsigned(userPoint.updateMillis());
+    }
+
+    private static UserPoint readUserPoint(Reader reader) {
+        return new UserPoint(reader.readUnsigned(), reader.readUnsigned(), reader.readUnsigned());
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeUnsigned(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes, byte expectedKind) {
+            if (bytes.length == 0 || bytes[0] != expectedKind) {
+                throw new IllegalArgumentException("본문 종류가 올바르지 않습니다.");
+            }
+            this.bytes = bytes;
+            this.position = 1;
+        }
+
+        private long readUnsigned() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("본문이 중간에 끝났습니다.");
+                }
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("varint 길이가 올바르지 않습니다.");
+        }
+
+        private long readSigned() {
+            long value = readUnsigned();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
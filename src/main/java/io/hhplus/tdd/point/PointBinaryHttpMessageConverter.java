@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Accept: application/vnd.hhplus.point 요청에 UserPoint, List&lt;UserPoint&gt;, List&lt;PointHistory&gt; 를
+ * PointBinaryCodec 형식으로 응답한다. 응답 전용이다.
+ */
+public class PointBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.hhplus.point";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public PointBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserPoint.class == clazz || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        ResolvableType resolved = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        if (resolved.resolve() == UserPoint.class) {
+            return true;
+        }
+        if (resolved.resolve() != null && List.class.isAssignableFrom(resolved.resolve())) {
+            Class<?> element = resolved.asCollection().resolveGeneric(0);
+            return element == UserPoint.class || element == PointHistory.class;
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes;
+        if (body instanceof UserPoint userPoint) {
+            bytes = PointBinaryCodec.encodeUserPoint(userPoint);
+        } else if (isUserPointList(body, type)) {
+            bytes = PointBinaryCodec.encodeUserPoints((List<UserPoint>) body);
+        } else {
+            bytes = PointBinaryCodec.encodeHistories((List<PointHistory>) body);
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("요청 본문으로는 지원하지 않는 형식입니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("요청 본문으로는 지원하지 않는 형식입니다.", inputMessage);
+    }
+
+    /**
+     * 제네릭 타입을 알 수 없으면 첫 요소로 판단한다.
+     */
+    private static boolean isUserPointList(Object body, @Nullable Type type) {
+        Class<?> element = type != null ? ResolvableType.forType(type).asCollection().resolveGeneric(0) : null;
+        if (element != null) {
+            return element == UserPoint.class;
+        }
+        List<?> list = (List<?>) body;
+        return !list.isEmpty() && list.get(0) instanceof UserPoint;
+    }
+}
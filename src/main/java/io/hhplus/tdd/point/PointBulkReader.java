@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 사용자의 포인트를 병렬로 조회하는 컴포넌트
+ * 고정 크기 스레드 풀로 동시 조회 수를 제한하며, 전체 지연 시간이 사용자 수가 아닌 가장 느린 한 건의 조회에 가까워지도록 한다.
+ * 대기열이 차면 이미 넣은 조회를 취소하고 BulkheadFullException(→ 503)을 던진다.
+ */
+@Component
+public class PointBulkReader {
+
+    private final PointService pointService;
+    private final int maxIds;
+    private final ThreadPoolExecutor executor;
+
+    public PointBulkReader(PointService pointService, BulkReadProperties properties) {
+        if (properties.parallelism() <= 0) {
+            throw new IllegalArgumentException("다건 조회 병렬도는 1 이상이어야 합니다.");
+        }
+        if (properties.queueCapacity() < 0) {
+            throw new IllegalArgumentException("다건 조회 대기열 크기는 0 이상이어야 합니다.");
+        }
+        this.pointService = pointService;
+        this.maxIds = properties.maxIds();
+        BlockingQueue<Runnable> queue = properties.queueCapacity() == 0
+                ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(properties.queueCapacity());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.parallelism(), properties.parallelism(),
+                0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "point-bulk-read-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.prestartAllCoreThreads();
+    }
+
+    /**
+     * 요청한 순서대로 사용자별 포인트를 반환한다. 중복 ID는 한 번만 조회한다.
+     */
+    public List<UserPoint> getPoints(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("조회할 사용자 ID를 1개 이상 입력해야 합니다.");
+        }
+        for (Long userId : userIds) {
+            if (userId == null) {
+                throw new IllegalArgumentException("사용자 ID에 빈 값(null)을 넣을 수 없습니다.");
+            }
+        }
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(userIds);
+        if (distinctIds.size() > maxIds) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxIds + "명까지 조회할 수 있습니다.");
+        }
+
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>(distinctIds.size());
+        try {
+            for (Long userId : distinctIds) {
+                futures.add(CompletableFuture.supplyAsync(() -> pointService.getPoint(userId), executor));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(false));
+            throw new BulkheadFullException("bulk");
+        }
+
+        List<UserPoint> result = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<UserPoint> future : futures) {
+                result.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * PointService 앞에 두는 조회/변경 벌크헤드
+ * 사용자 Lock 에 막힌 충전/사용이 몰려도 변경 쪽 스레드와 대기열만 차고, 잔액 조회는 자기 스레드에서 계속 처리된다.
+ * 전체 내보내기는 응답을 다 쓸 때까지 스레드를 잡으므로 조회와 나눠 작은 풀에서 처리한다. → 내보내기가 몰려도 잔액 조회 스레드는 남는다.
+ * 한쪽이 가득 차면 그쪽 요청만 503 으로 거절한다.
+ * - point.bulkhead.active / queued / rejected (tag: bulkhead=read|write|export) 로 상태를 노출한다.
+ */
+@Component
+public class PointBulkheads {
+
+    private final Bulkhead read;
+    private final Bulkhead write;
+    private final Bulkhead export;
+
+    public PointBulkheads(BulkheadProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!properties.enabled()) {
+            this.read = null;
+            this.write = null;
+            this.export = null;
+            return;
+        }
+        this.read = new Bulkhead("read", properties.readThreads(), properties.readQueue());
+        this.write = new Bulkhead("write", properties.writeThreads(), properties.writeQueue());
+        this.export = new Bulkhead("export", properties.exportThreads(), properties.exportQueue());
+        meterRegistry.ifAvailable(registry -> {
+            register(registry, "read", read);
+            register(registry, "write", write);
+            register(registry, "export", export);
+        });
+    }
+
+    /**
+     * 잔액(캐시 허용 조회 포함), 다건 잔액, 내역, 요약 조회
+     */
+    public <T> T read(Supplier<T> task) {
+        return read == null ? task.get() : read.execute(task);
+    }
+
+    /**
+     * 충전, 사용, 이체
+     */
+    public <T> T write(Supplier<T> task) {
+        return write == null ? task.get() : write.execute(task);
+    }
+
+    /**
+     * 전체 잔액/내역 내보내기
+     */
+    public <T> T export(Supplier<T> task) {
+        return export == null ? task.get() : export.execute(task);
+    }
+
+    private static void register(MeterRegistry registry, String name, Bulkhead bulkhead) {
+        Gauge.builder("point.bulkhead.active", bulkhead, Bulkhead::active)
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder("point.bulkhead.queued", bulkhead, Bulkhead::queued)
+                .tag("bulkhead", name)
+                .register(registry);
+        FunctionCounter.builder("point.bulkhead.rejected", bulkhead, Bulkhead::rejected)
+                .tag("bulkhead", name)
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (read != null) {
+            read.shutdown();
+            write.shutdown();
+            export.shutdown();
+        }
+    }
+}
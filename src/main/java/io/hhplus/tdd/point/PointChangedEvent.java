@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 변경(충전/사용/이체)이 저장된 직후 발행되는 이벤트
+ * Lock 경로는 사용자 Lock을 보유한 상태에서 발행되므로 같은 사용자의 이벤트는 저장 순서대로 전달된다.
+ * CAS 엔진 경로는 Lock 없이 발행되어 순서가 바뀔 수 있으며, 잔액은 내역 저장 뒤에 읽은 최신 값이다. (내역 id 가 큰 이벤트가 더 최신)
+ */
+public record PointChangedEvent(
+        UserPoint userPoint,
+        PointHistory history
+) {
+}
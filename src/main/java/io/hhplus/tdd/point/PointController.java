@@ -1,10 +1,18 @@
 package io.hhplus.tdd.point;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 import java.util.List;
 
 @RestController
@@ -12,29 +20,199 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PointController {
 
-    private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final PointService pointService;
+    private final IdempotencyCache idempotencyCache;
+    private final PointVersionRegistry pointVersionRegistry;
+    private final PointBulkReader pointBulkReader;
+    private final PointStreamHub pointStreamHub;
+    private final PointDisplayCache pointDisplayCache;
+    private final PointHistoryStreamWriter pointHistoryStreamWriter;
+    private final PointBulkheads pointBulkheads;
+    private final ObjectProvider<BalanceSnapshots> balanceSnapshots;
+    private final PointExportWriter pointExportWriter;
 
     /**
      * 특정 유저의 포인트를 조회하는 기능
+     * If-None-Match가 메모리의 최신 버전과 같으면 테이블 조회 없이 304를 반환한다.
+     * allowStale=true 이면 화면 표시용으로 최대 point.display.fresh-for 만큼 지난 캐시 값을 바로 반환하고 백그라운드에서 갱신한다.
      */
     @GetMapping("{id}")
-    public UserPoint point(
-            @PathVariable long id
+    public ResponseEntity<UserPoint> point(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(defaultValue = "false") boolean allowStale
+    ) {
+        if (allowStale) {
+            UserPoint userPoint = pointBulkheads.read(() -> pointDisplayCache.getPoint(id));
+            return ResponseEntity.ok()
+                    .eTag(PointVersionRegistry.balanceETag(userPoint))
+                    .body(userPoint);
+        }
+        String knownETag = pointVersionRegistry.balanceETag(id);
+        if (PointVersionRegistry.matches(ifNoneMatch, knownETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(knownETag).build();
+        }
+        UserPoint userPoint = pointBulkheads.read(() -> pointService.getPoint(id));
+        return ResponseEntity.ok()
+                .eTag(PointVersionRegistry.balanceETag(userPoint))
+                .body(userPoint);
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 조회하는 기능 (예: /point?ids=1,2,3)
+     */
+    @GetMapping
+    public List<UserPoint> points(
+            @RequestParam List<Long> ids
+    ) {
+        return pointBulkheads.read(() -> pointBulkReader.getPoints(ids));
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 조회하는 기능 (ID가 많아 쿼리 문자열로 보내기 어려운 경우)
+     */
+    @PostMapping("bulk")
+    public List<UserPoint> pointsBulk(
+            @RequestBody List<Long> ids
     ) {
-        log.info("포인트 조회 요청 - userId: {}", id);
-        return pointService.getPoint(id);
+        return pointBulkheads.read(() -> pointBulkReader.getPoints(ids));
+    }
+
+    /**
+     * 전체 유저의 포인트를 한 시점 기준으로 내보내는 기능 (format=ndjson|csv, 정산용)
+     * 스냅샷을 연 뒤의 충전/사용/이체는 결과에 포함되지 않으며, 내보내는 동안에도 막히지 않는다.
+     * 스냅샷 시점 번호는 X-Snapshot-Version 헤더로 돌려준다.
+     */
+    @GetMapping("balances/export")
+    public void exportBalances(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        PointExportWriter.Format exportFormat = PointExportWriter.Format.from(format);
+        BalanceSnapshots snapshots = balanceSnapshots.getIfAvailable();
+        if (snapshots == null) {
+            throw new IllegalStateException("CAS 잔액 엔진을 사용하는 중에는 전체 잔액을 내보낼 수 없습니다.");
+        }
+        try {
+            pointBulkheads.export(() -> {
+                try (BalanceSnapshot snapshot = snapshots.open()) {
+                    pointExportWriter.writeBalances(snapshot, exportFormat, PointHistoryStreamWriter.acceptsGzip(acceptEncoding), response);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 전체 유저의 포인트 충전/이용 내역을 id 순서로 내보내는 기능 (NDJSON, 정산용)
+     * 저장소에서 묶음 단위로 읽어 바로 쓰며, 내보내는 동안에도 충전/사용 내역 저장은 막히지 않는다.
+     * 아직 저장이 끝나지 않은 id 앞에서 끝나므로, 마지막 줄의 id + 1 을 fromId 로 다시 요청하면 이어서 받을 수 있다.
+     * 압축으로 지운 내역 자리에는 compacted 범위 줄이 들어간다.
+     */
+    @GetMapping("histories/export")
+    public void exportHistories(
+            @RequestParam(defaultValue = "1") long fromId,
+            @RequestParam(required = false) Long toId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        try {
+            pointBulkheads.export(() -> {
+                Iterator<PointHistory> histories = pointService.iterateAllHistories(fromId, toId != null ? toId : Long.MAX_VALUE);
+                try {
+                    pointExportWriter.writeHistories(histories, fromId, PointHistoryStreamWriter.acceptsGzip(acceptEncoding), response);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
      * 특정 유저의 포인트 충전/이용 내역을 조회하는 기능
+     * 내역을 목록으로 모으지 않고 JSON 으로 바로 응답에 쓰며, Accept-Encoding: gzip 이면 압축한다.
+     * If-None-Match가 메모리의 최신 내역 ID와 같으면 테이블 조회 없이 304를 반환한다.
+     * 200 응답의 ETag 는 바이너리 조회와 같이 내보내는 내역의 마지막 ID 로 만든다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
+    public void history(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        String knownETag = pointVersionRegistry.historyETag(id);
+        if (PointVersionRegistry.matches(ifNoneMatch, knownETag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, knownETag);
+            return;
+        }
+        // 내역은 응답에 쓰면서 읽으므로 응답 쓰기까지 조회 벌크헤드 안에서 한다
+        try {
+            pointBulkheads.read(() -> {
+                HistoryStream histories = pointService.streamHistory(id);
+                String eTag = PointVersionRegistry.historyETagOf(histories.lastHistoryId());
+                try {
+                    pointHistoryStreamWriter.write(histories.histories(), eTag, PointHistoryStreamWriter.acceptsGzip(acceptEncoding), response);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 바이너리(application/vnd.hhplus.point) 또는 CBOR 로 조회하는 기능
+     */
+    @GetMapping(value = "{id}/histories", produces = {PointBinaryHttpMessageConverter.MEDIA_TYPE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<PointHistory>> historyBinary(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String knownETag = pointVersionRegistry.historyETag(id);
+        if (PointVersionRegistry.matches(ifNoneMatch, knownETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(knownETag).build();
+        }
+        List<PointHistory> histories = pointBulkheads.read(() -> pointService.getHistory(id));
+        return ResponseEntity.ok()
+                .eTag(PointVersionRegistry.historyETag(histories))
+                .body(histories);
+    }
+
+    /**
+     * 특정 유저의 전체 기간 내역 요약을 조회하는 기능 (보관 기간이 지나 압축된 내역 포함)
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
             @PathVariable long id
     ) {
-        log.info("포인트 내역 조회 요청 - userId: {}", id);
-        return pointService.getHistory(id);
+        return pointBulkheads.read(() -> pointService.getSummary(id));
+    }
+
+    /**
+     * 특정 유저의 포인트 변경(충전/사용/이체)을 SSE로 구독하는 기능
+     */
+    @GetMapping(value = "{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable long id
+    ) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("사용자 ID는 1 이상이어야 합니다.");
+        }
+        return pointStreamHub.subscribe(id);
     }
 
     /**
@@ -43,10 +221,14 @@ public class PointController {
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        log.info("포인트 충전 요청 - userId: {}, amount: {}", id, amount);
-        return pointService.charge(id, amount);
+        if (idempotencyKey == null) {
+            return pointBulkheads.write(() -> pointService.charge(id, amount));
+        }
+        return idempotencyCache.execute("charge:" + id + ":" + idempotencyKey, String.valueOf(amount),
+                () -> pointBulkheads.write(() -> pointService.charge(id, amount)));
     }
 
     /**
@@ -55,9 +237,23 @@ public class PointController {
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        if (idempotencyKey == null) {
+            return pointBulkheads.write(() -> pointService.use(id, amount));
+        }
+        return idempotencyCache.execute("use:" + id + ":" + idempotencyKey, String.valueOf(amount),
+                () -> pointBulkheads.write(() -> pointService.use(id, amount)));
+    }
+
+    /**
+     * 두 유저 간 포인트를 이체하는 기능
+     */
+    @PostMapping("transfer")
+    public TransferResult transfer(
+            @RequestBody TransferRequest request
     ) {
-        log.info("포인트 사용 요청 - userId: {}, amount: {}", id, amount);
-        return pointService.use(id, amount);
+        return pointBulkheads.write(() -> pointService.transfer(request.fromUserId(), request.toUserId(), request.amount()));
     }
 }
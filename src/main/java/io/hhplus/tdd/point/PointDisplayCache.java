@@ -0,0 +1,146 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 화면 표시용 잔액 캐시 (stale-while-revalidate)
+ * - freshFor 안의 값은 그대로 반환
+ * - 그 이후 staleFor 안의 값은 그대로 반환하고 백그라운드에서 갱신
+ * - 캐시에 없거나 더 오래된 값은 조회가 끝날 때까지 대기
+ * 사용자별 갱신은 한 번에 하나만 진행되며(single-flight), 동시에 들어온 조회는 같은 갱신 결과를 공유한다.
+ * 충전/사용/이체로 잔액이 바뀌면 PointChangedEvent 로 캐시된 값을 바로 교체한다.
+ */
+@Component
+public class PointDisplayCache {
+
+    private final PointService pointService;
+    private final long freshForMillis;
+    private final long staleForMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final ExecutorService executor;
+    private final Map<Long, Cached> entries = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<UserPoint>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PointDisplayCache(PointService pointService, DisplayReadProperties properties) {
+        this(pointService, properties, System::currentTimeMillis);
+    }
+
+    PointDisplayCache(PointService pointService, DisplayReadProperties properties, LongSupplier clock) {
+        if (properties.refreshThreads() <= 0) {
+            throw new IllegalArgumentException("갱신 스레드 수는 1 이상이어야 합니다.");
+        }
+        this.pointService = pointService;
+        this.freshForMillis = properties.freshFor().toMillis();
+        this.staleForMillis = properties.staleFor().toMillis();
+        this.maxEntries = properties.maxEntries();
+        this.clock = clock;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.refreshThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "point-display-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public UserPoint getPoint(long userId) {
+        Cached cached = entries.get(userId);
+        if (cached != null) {
+            long age = clock.getAsLong() - cached.cachedAtMillis();
+            if (age < freshForMillis) {
+                return cached.userPoint();
+            }
+            if (age < freshForMillis + staleForMillis) {
+                refresh(userId);
+                return cached.userPoint();
+            }
+        }
+        try {
+            return refresh(userId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 캐시 중인 사용자의 잔액이 바뀌면 바로 교체한다.
+     */
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        UserPoint userPoint = event.userPoint();
+        entries.computeIfPresent(userPoint.id(), (id, cached) -> newer(cached, userPoint));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<UserPoint> refresh(long userId) {
+        CompletableFuture<UserPoint> created = new CompletableFuture<>();
+        CompletableFuture<UserPoint> running = inFlight.putIfAbsent(userId, created);
+        if (running != null) {
+            return running;
+        }
+        executor.execute(() -> {
+            try {
+                UserPoint userPoint = pointService.getPoint(userId);
+                store(userPoint);
+                created.complete(userPoint);
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(userId, created);
+            }
+        });
+        return created;
+    }
+
+    private void store(UserPoint userPoint) {
+        if (entries.size() >= maxEntries && !entries.containsKey(userPoint.id())) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.merge(userPoint.id(), new Cached(userPoint, clock.getAsLong()), (cached, loaded) -> newer(cached, loaded.userPoint()));
+    }
+
+    /**
+     * 조회 중에 충전 등으로 더 최신 값이 들어왔을 수 있으므로, 수정 시각이 더 오래된 값으로는 덮어쓰지 않는다.
+     */
+    private Cached newer(Cached cached, UserPoint userPoint) {
+        if (userPoint.updateMillis() < cached.userPoint().updateMillis()) {
+            return cached;
+        }
+        return new Cached(userPoint, clock.getAsLong());
+    }
+
+    private void evictExpired() {
+        long expiredBefore = clock.getAsLong() - freshForMillis - staleForMillis;
+        entries.values().removeIf(cached -> cached.cachedAtMillis() < expiredBefore);
+    }
+
+    private record Cached(UserPoint userPoint, long cachedAtMillis) {
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 정산용 내보내기 응답을 쓴다.
+ * - 전체 잔액 스냅샷 : NDJSON(한 줄에 UserPoint 하나) 또는 CSV
+ * - 전체 내역 : NDJSON(한 줄에 PointHistory 하나, id 순서). 압축으로 지운 내역 자리에는 {"compacted":{"fromId":..,"toId":..}} 줄을 쓴다.
+ * 목록으로 모으지 않으므로 요청당 메모리는 출력 버퍼 크기(와 저장소가 한 번에 읽는 묶음 크기)로 일정하다.
+ */
+@Component
+public class PointExportWriter {
+
+    static final String SNAPSHOT_VERSION_HEADER = "X-Snapshot-Version";
+    private static final String CSV_HEADER = "id,point,updateMillis\n";
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter userPointWriter;
+    private final ObjectWriter historyWriter;
+
+    public PointExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // 항목마다 flush 하면 작은 패킷이 많아지므로 버퍼가 찰 때만 내보낸다
+        this.userPointWriter = objectMapper.writerFor(UserPoint.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.historyWriter = objectMapper.writerFor(PointHistory.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void writeBalances(BalanceSnapshot snapshot, Format format, boolean gzip, HttpServletResponse response) throws IOException {
+        response.setHeader(SNAPSHOT_VERSION_HEADER, String.valueOf(snapshot.version()));
+        OutputStream out = open(response, format, "balances-" + snapshot.version(), gzip);
+        if (format == Format.CSV) {
+            writeCsv(snapshot, out);
+        } else {
+            writeNdjson(snapshot.iterator(), userPointWriter, out);
+        }
+    }
+
+    /**
+     * 내역을 id 순서로 쓴다. 각 줄에 id 가 있으므로 받는 쪽은 마지막 id + 1 을 다음 요청의 fromId 로 쓰면 된다.
+     * 내보내기를 지원하는 저장소는 id 를 1부터 빈칸 없이 매기고 아직 저장 중인 id 앞에서 멈추므로, 두 내역 사이의 빈 id 는 압축으로 지운 내역이다.
+     * 그 범위를 compacted 줄로 남겨, 받는 쪽이 빠진 내역과 압축된 내역을 구분할 수 있게 한다. (마지막 내역 뒤의 압축된 범위는 다음 내역이 나올 때 쓴다)
+     */
+    public void writeHistories(Iterator<PointHistory> histories, long fromId, boolean gzip, HttpServletResponse response) throws IOException {
+        OutputStream out = open(response, Format.NDJSON, "histories-" + fromId, gzip);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            long expectedId = fromId;
+            while (histories.hasNext()) {
+                PointHistory history = histories.next();
+                if (history.id() > expectedId) {
+                    writeCompacted(generator, expectedId, history.id() - 1);
+                }
+                historyWriter.writeValue(generator, history);
+                generator.writeRaw('\n');
+                expectedId = history.id() + 1;
+            }
+        }
+    }
+
+    private static void writeCompacted(JsonGenerator generator, long fromId, long toId) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("compacted");
+        generator.writeNumberField("fromId", fromId);
+        generator.writeNumberField("toId", toId);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static OutputStream open(HttpServletResponse response, Format format, String fileName, boolean gzip) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(format.contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + fileName + "." + format.extension + "\"");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return out;
+    }
+
+    private void writeNdjson(Iterator<?> values, ObjectWriter writer, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 값 사이 구분자를 공백 대신 줄바꿈으로 쓴다
+            generator.setRootValueSeparator(null);
+            while (values.hasNext()) {
+                writer.writeValue(generator, values.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private static void writeCsv(BalanceSnapshot snapshot, OutputStream out) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writer.write(CSV_HEADER);
+            for (UserPoint userPoint : snapshot) {
+                writer.write(Long.toString(userPoint.id()));
+                writer.write(',');
+                writer.write(Long.toString(userPoint.point()));
+                writer.write(',');
+                writer.write(Long.toString(userPoint.updateMillis()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        static Format from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 내역을 목록으로 모으지 않고 JSON 배열로 응답에 바로 쓴다.
+ * 요청당 메모리는 Jackson 출력 버퍼와 저장소가 한 번에 읽는 묶음 크기로 일정하다.
+ */
+@Component
+public class PointHistoryStreamWriter {
+
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter historyWriter;
+
+    public PointHistoryStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // 항목마다 flush 하면 작은 패킷이 많아지므로 버퍼가 찰 때만 내보낸다
+        this.historyWriter = objectMapper.writerFor(PointHistory.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(Iterator<PointHistory> histories, String eTag, boolean gzip, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+        }
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+        }
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            while (histories.hasNext()) {
+                historyWriter.writeValue(generator, histories.next());
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Accept-Encoding 에 gzip 이 있으면 true (q=0 으로 거부한 경우 제외)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 포인트 변경 연산(충전/사용/이체) 한 건을 기록하는 JFR 이벤트
+ * 녹화 중이 아닐 때는 isEnabled()가 false이므로 시간 측정과 기록을 모두 건너뛴다.
+ * 번들 설정: classpath:jfr/point-service.jfc
+ */
+@Name("io.hhplus.tdd.PointOperation")
+@Label("Point Operation")
+@Category({"HHPlus", "Point"})
+@Description("포인트 충전/사용/이체 연산의 Lock 대기, 저장소 읽기/쓰기 시간과 결과")
+@StackTrace(false)
+public class PointOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Target User Id")
+    @Description("이체 시 받는 사용자 ID")
+    long targetUserId;
+
+    @Label("Amount")
+    long amount;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWait;
+
+    @Label("Read Duration")
+    @Description("잔액/내역 조회와 검증에 걸린 시간")
+    @Timespan(Timespan.NANOSECONDS)
+    long readDuration;
+
+    @Label("Write Duration")
+    @Description("잔액/내역 저장에 걸린 시간")
+    @Timespan(Timespan.NANOSECONDS)
+    long writeDuration;
+
+    @Label("Outcome")
+    @Description("SUCCESS | REJECTED(비즈니스 검증 실패) | ERROR")
+    String outcome;
+
+    @Label("Message")
+    String message;
+
+    // 구간 측정용 기준 시각 (기록되지 않음)
+    private transient long markNanos;
+
+    public static PointOperationEvent start(String operation, long userId, long targetUserId, long amount) {
+        PointOperationEvent event = new PointOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.userId = userId;
+            event.targetUserId = targetUserId;
+            event.amount = amount;
+            event.begin();
+            event.markNanos = System.nanoTime();
+        }
+        return event;
+    }
+
+    public void lockAcquired() {
+        if (isEnabled()) {
+            lockWait = lap();
+        }
+    }
+
+    public void readDone() {
+        if (isEnabled()) {
+            readDuration = lap();
+        }
+    }
+
+    public void writeDone() {
+        if (isEnabled()) {
+            writeDuration = lap();
+        }
+    }
+
+    public void succeed() {
+        if (isEnabled()) {
+            outcome = "SUCCESS";
+            commit();
+        }
+    }
+
+    public void fail(RuntimeException e) {
+        if (isEnabled()) {
+            outcome = e instanceof IllegalArgumentException || e instanceof IllegalStateException ? "REJECTED" : "ERROR";
+            message = e.getMessage();
+            commit();
+        }
+    }
+
+    private long lap() {
+        long now = System.nanoTime();
+        long elapsed = now - markNanos;
+        markNanos = now;
+        return elapsed;
+    }
+}
@@ -1,5 +1,6 @@
 package io.hhplus.tdd.point;
 
+import java.util.Iterator;
 import java.util.List;
 
 public interface PointService {
@@ -9,5 +10,24 @@ public interface PointService {
 
     UserPoint use(long userId, long useAmount);
 
+    TransferResult transfer(long fromUserId, long toUserId, long amount);
+
     List<PointHistory> getHistory(long userId);
+
+    /**
+     * 내역을 목록으로 만들지 않고 오래된 순서로 순회한다. (응답 스트리밍용)
+     * 응답 헤더를 본문보다 먼저 써야 하므로 ETag 에 쓸 마지막 내역 id 를 함께 돌려준다.
+     */
+    HistoryStream streamHistory(long userId);
+
+    /**
+     * 전체 사용자의 내역을 id 순서로 순회한다. (fromId ≤ id ≤ toId, 정산용 내보내기)
+     * 아직 저장이 끝나지 않은 id 앞에서 끝나므로, 마지막으로 받은 id + 1 부터 다시 요청하면 이어서 받을 수 있다.
+     */
+    Iterator<PointHistory> iterateAllHistories(long fromId, long toId);
+
+    /**
+     * 압축된 일별 요약까지 포함한 전체 기간 내역 요약
+     */
+    PointSummary getSummary(long userId);
 }
@@ -1,31 +1,83 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
-import lombok.RequiredArgsConstructor;
+import io.hhplus.tdd.database.HistoryWrite;
+import io.hhplus.tdd.database.PointRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 public class PointServiceImpl implements PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    // 조합자가 놓친 요청이 없는지 대기 중인 스레드가 직접 다시 확인하는 주기 (평소에는 조합자가 깨운다)
+    private static final long COMBINE_RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    // Lock 을 푼 스레드가 남은 조합 요청을 이어서 처리하는 최대 횟수 (이후에는 대기 중인 스레드에게 넘긴다)
+    private static final int MAX_HELP_PASSES = 4;
+
+    private final PointRepository pointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // point.balance.engine=cas 일 때만 주입되며, 이때 잔액 변경은 사용자 Lock 대신 CAS로 처리한다
+    private final AtomicBalanceEngine balanceEngine;
+    // point.hot-users.enabled=false 이면 null
+    private final HotUserTracker hotUserTracker;
+    private final CombiningProperties combining;
+    // point.balance.engine=cas 이면 null (저장한 잔액을 전체 잔액 스냅샷용으로 기록한다)
+    private final BalanceSnapshots balanceSnapshots;
     private final ConcurrentHashMap<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
+    // 사용자별 flat combining 게시 목록 (조합 대상 사용자만 생긴다)
+    private final ConcurrentHashMap<Long, Queue<Mutation>> publications = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PointServiceImpl(PointRepository pointRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Nullable AtomicBalanceEngine balanceEngine,
+                            @Nullable HotUserTracker hotUserTracker,
+                            CombiningProperties combining,
+                            @Nullable BalanceSnapshots balanceSnapshots) {
+        if (combining.maxBatch() <= 0) {
+            throw new IllegalArgumentException("조합 최대 요청 수는 1 이상이어야 합니다.");
+        }
+        this.pointRepository = pointRepository;
+        this.eventPublisher = eventPublisher;
+        this.balanceEngine = balanceEngine;
+        this.hotUserTracker = hotUserTracker;
+        this.combining = combining;
+        this.balanceSnapshots = balanceSnapshots;
+    }
 
     @Override
     public UserPoint getPoint(Long userId) {
+        recordRequest(userId);
+        return loadPoint(userId);
+    }
+
+    private UserPoint loadPoint(long userId) {
         if(userId <= 0){
             throw new IllegalArgumentException("사용자 ID는 1 이상이어야 합니다.");
         }
-        return userPointTable.selectById(userId);
+        if (balanceEngine != null) {
+            return balanceEngine.balance(userId);
+        }
+        return pointRepository.selectById(userId);
     }
 
     @Override
@@ -34,29 +86,51 @@ public class PointServiceImpl implements PointService {
             throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다");
         }
 
+        recordRequest(userId);
+        PointOperationEvent event = PointOperationEvent.start("CHARGE", userId, 0L, chargeAmount);
+        if (balanceEngine != null) {
+            return commitWithEngine(event, userId, chargeAmount, TransactionType.CHARGE,
+                    () -> balanceEngine.charge(userId, chargeAmount));
+        }
+        if (shouldCombine(userId)) {
+            return combine(userId, new Mutation(TransactionType.CHARGE, chargeAmount, event));
+        }
         ReentrantLock lock = getUserLock(userId);
-        lock.lock();
+        lock(lock, userId);
+        event.lockAcquired();
         try {
-            UserPoint current = getPoint(userId);
+            UserPoint current = loadPoint(userId);
 
             validateDailyChargeLimit(userId, chargeAmount);
 
             UserPoint updated = current.addPoints(chargeAmount);
-            UserPoint result = userPointTable.insertOrUpdate(updated.id(), updated.point());
-            pointHistoryTable.insert(userId, chargeAmount, TransactionType.CHARGE, result.updateMillis());
+            event.readDone();
+            UserPoint result = pointRepository.insertOrUpdate(updated.id(), updated.point());
+            recordSnapshot(result);
+            PointHistory history = pointRepository.insertHistory(userId, chargeAmount, TransactionType.CHARGE, result.updateMillis());
+            event.writeDone();
+            eventPublisher.publishEvent(new PointChangedEvent(result, history));
 
+            event.succeed();
             return result;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
         } finally {
-            lock.unlock();
+            unlock(lock, userId);
         }
     }
 
     private void validateDailyChargeLimit(long userId, long chargeAmount) {
+        UserPoint.validateDailyChargeLimit(todayChargeTotal(userId), chargeAmount);
+    }
+
+    private long todayChargeTotal(long userId) {
         LocalDate today = LocalDate.now();
 
         // 오늘 충전한 총액 계산
-        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
-        long todayChargeTotal = histories.stream()
+        List<PointHistory> histories = pointRepository.selectHistoriesByUserId(userId);
+        return histories.stream()
                 .filter(history -> history.type() == TransactionType.CHARGE)
                 .filter(history -> {
                     LocalDate historyDate = Instant.ofEpochMilli(history.updateMillis())
@@ -66,30 +140,91 @@ public class PointServiceImpl implements PointService {
                 })
                 .mapToLong(PointHistory::amount)
                 .sum();
-
-        long totalAfterCharge = todayChargeTotal + chargeAmount;
-        if (totalAfterCharge > UserPoint.DAILY_CHARGE_LIMIT) {
-            throw new IllegalStateException(
-                    "일일 충전 한도(" + UserPoint.DAILY_CHARGE_LIMIT + "원)를 초과할 수 없습니다. " +
-                    "(오늘 충전 금액: " + todayChargeTotal + "원, 시도 금액: " + chargeAmount + "원)"
-            );
-        }
     }
 
     @Override
     public UserPoint use(long userId, long useAmount) {
+        recordRequest(userId);
+        PointOperationEvent event = PointOperationEvent.start("USE", userId, 0L, useAmount);
+        if (balanceEngine != null) {
+            return commitWithEngine(event, userId, useAmount, TransactionType.USE,
+                    () -> balanceEngine.use(userId, useAmount));
+        }
+        if (shouldCombine(userId)) {
+            return combine(userId, new Mutation(TransactionType.USE, useAmount, event));
+        }
         ReentrantLock lock = getUserLock(userId);
-        lock.lock();
+        lock(lock, userId);
+        event.lockAcquired();
         try {
-            UserPoint current = getPoint(userId);
+            UserPoint current = loadPoint(userId);
             UserPoint updated = current.deductPoints(useAmount);
-            UserPoint result = userPointTable.insertOrUpdate(updated.id(), updated.point());
+            event.readDone();
+            UserPoint result = pointRepository.insertOrUpdate(updated.id(), updated.point());
+            recordSnapshot(result);
 
-            pointHistoryTable.insert(userId, useAmount, TransactionType.USE, result.updateMillis());
+            PointHistory history = pointRepository.insertHistory(userId, useAmount, TransactionType.USE, result.updateMillis());
+            event.writeDone();
+            eventPublisher.publishEvent(new PointChangedEvent(result, history));
 
+            event.succeed();
             return result;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        } finally {
+            unlock(lock, userId);
+        }
+    }
+
+    @Override
+    public TransferResult transfer(long fromUserId, long toUserId, long amount) {
+        if (fromUserId <= 0 || toUserId <= 0) {
+            throw new IllegalArgumentException("사용자 ID는 1 이상이어야 합니다.");
+        }
+        if (fromUserId == toUserId) {
+            throw new IllegalArgumentException("자기 자신에게는 포인트를 이체할 수 없습니다.");
+        }
+
+        recordRequest(fromUserId);
+        recordRequest(toUserId);
+        PointOperationEvent event = PointOperationEvent.start("TRANSFER", fromUserId, toUserId, amount);
+        if (balanceEngine != null) {
+            return transferWithEngine(event, fromUserId, toUserId, amount);
+        }
+        // 데드락 방지: 두 사용자의 Lock을 항상 userId 오름차순으로 획득
+        long firstUserId = Math.min(fromUserId, toUserId);
+        long secondUserId = Math.max(fromUserId, toUserId);
+        ReentrantLock firstLock = getUserLock(firstUserId);
+        ReentrantLock secondLock = getUserLock(secondUserId);
+        lock(firstLock, firstUserId);
+        try {
+            lock(secondLock, secondUserId);
+            event.lockAcquired();
+            try {
+                // 양쪽 검증을 모두 통과한 뒤에만 저장하여 한쪽만 반영되는 상황을 방지
+                UserPoint deducted = loadPoint(fromUserId).deductPoints(amount);
+                UserPoint added = loadPoint(toUserId).addPoints(amount);
+                event.readDone();
+
+                UserPoint from = pointRepository.insertOrUpdate(fromUserId, deducted.point());
+                UserPoint to = pointRepository.insertOrUpdate(toUserId, added.point());
+                recordSnapshot(from, to);
+                List<PointHistory> histories = insertTransferHistories(fromUserId, toUserId, amount, from, to);
+                event.writeDone();
+                eventPublisher.publishEvent(new PointChangedEvent(from, histories.get(0)));
+                eventPublisher.publishEvent(new PointChangedEvent(to, histories.get(1)));
+
+                event.succeed();
+                return new TransferResult(from, to);
+            } catch (RuntimeException e) {
+                event.fail(e);
+                throw e;
+            } finally {
+                unlock(secondLock, secondUserId);
+            }
         } finally {
-            lock.unlock();
+            unlock(firstLock, firstUserId);
         }
     }
 
@@ -98,7 +233,246 @@ public class PointServiceImpl implements PointService {
         if (userId <= 0) {
             throw new IllegalArgumentException("사용자 ID는 1 이상이어야 합니다.");
         }
-        return pointHistoryTable.selectAllByUserId(userId);
+        recordRequest(userId);
+        return pointRepository.selectHistoriesByUserId(userId);
+    }
+
+    @Override
+    public HistoryStream streamHistory(long userId) {
+        if (userId <= 0) {
+            throw new IllegalArgumentException("사용자 ID는 1 이상이어야 합니다.");
+        }
+        recordRequest(userId);
+        return pointRepository.streamHistoriesByUserId(userId);
+    }
+
+    @Override
+    public Iterator<PointHistory> iterateAllHistories(long fromId, long toId) {
+        if (fromId <= 0 || toId < fromId) {
+            throw new IllegalArgumentException("내역 ID 범위가 올바르지 않습니다. (1 ≤ fromId ≤ toId)");
+        }
+        if (!pointRepository.supportsHistoryExport()) {
+            throw new IllegalStateException("현재 저장소는 전체 내역 내보내기를 지원하지 않습니다.");
+        }
+        return pointRepository.iterateHistoriesByIdRange(fromId, toId);
+    }
+
+    @Override
+    public PointSummary getSummary(long userId) {
+        if (userId <= 0) {
+            throw new IllegalArgumentException("사용자 ID는 1 이상이어야 합니다.");
+        }
+        recordRequest(userId);
+        List<DailyRollup> days = pointRepository.selectDailyRollupsByUserId(userId, ZoneId.systemDefault());
+        Map<TransactionType, Long> totalCounts = new EnumMap<>(TransactionType.class);
+        Map<TransactionType, Long> totalAmounts = new EnumMap<>(TransactionType.class);
+        for (DailyRollup day : days) {
+            totalCounts.merge(day.type(), day.count(), Long::sum);
+            totalAmounts.merge(day.type(), day.amount(), Long::sum);
+        }
+        return new PointSummary(userId, totalCounts, totalAmounts, days);
+    }
+
+    /**
+     * CAS 엔진 경로: 잔액을 먼저 커밋하고, 커밋된 값으로 내역을 저장한 뒤 이벤트를 발행한다.
+     * Lock 이 없어 같은 사용자의 이벤트 순서가 바뀔 수 있으므로, 이벤트에는 내역 저장 뒤에 읽은 엔진의 최신 잔액을 담는다.
+     * → 내역 id 가 가장 큰 이벤트의 잔액은 그보다 작은 id 의 커밋을 모두 반영한 값이다. (PointVersionRegistry 가 내역 id 로 최신을 고른다)
+     */
+    private UserPoint commitWithEngine(PointOperationEvent event, long userId, long amount,
+                                       TransactionType type, Supplier<UserPoint> commit) {
+        try {
+            if (userId <= 0) {
+                throw new IllegalArgumentException("사용자 ID는 1 이상이어야 합니다.");
+            }
+            UserPoint result = commit.get();
+            event.readDone();
+            PointHistory history = pointRepository.insertHistory(userId, amount, type, result.updateMillis());
+            event.writeDone();
+            eventPublisher.publishEvent(new PointChangedEvent(balanceEngine.balance(userId), history));
+
+            event.succeed();
+            return result;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+
+    private TransferResult transferWithEngine(PointOperationEvent event, long fromUserId, long toUserId, long amount) {
+        try {
+            TransferResult result = balanceEngine.transfer(fromUserId, toUserId, amount);
+            event.readDone();
+            List<PointHistory> histories = insertTransferHistories(fromUserId, toUserId, amount, result.from(), result.to());
+            event.writeDone();
+            eventPublisher.publishEvent(new PointChangedEvent(balanceEngine.balance(fromUserId), histories.get(0)));
+            eventPublisher.publishEvent(new PointChangedEvent(balanceEngine.balance(toUserId), histories.get(1)));
+
+            event.succeed();
+            return result;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 이체 양쪽 내역을 한 번에 저장한다. (보내는 쪽, 받는 쪽 순서)
+     */
+    private List<PointHistory> insertTransferHistories(long fromUserId, long toUserId, long amount, UserPoint from, UserPoint to) {
+        return pointRepository.insertHistories(List.of(
+                new HistoryWrite(fromUserId, amount, TransactionType.TRANSFER_OUT, from.updateMillis()),
+                new HistoryWrite(toUserId, amount, TransactionType.TRANSFER_IN, to.updateMillis())
+        ));
+    }
+
+    /**
+     * 사용자 Lock 을 얻고, 기다린 시간을 상위 사용자 추적에 기록한다.
+     */
+    private void lock(ReentrantLock lock, long userId) {
+        long waitStart = System.nanoTime();
+        lock.lock();
+        if (hotUserTracker != null) {
+            hotUserTracker.recordLockWait(userId, System.nanoTime() - waitStart);
+        }
+    }
+
+    /**
+     * 사용자 Lock 을 풀고, 그사이 게시된 조합 요청이 남아 있으면 처리한다.
+     * 게시한 스레드가 Lock 을 얻지 못한 채 기다리는 요청이 남지 않도록 Lock 을 푸는 모든 곳에서 확인하며,
+     * MAX_HELP_PASSES 번 처리한 뒤에도 남아 있으면 맨 앞 요청을 게시한 스레드를 깨워 조합자 역할을 넘긴다.
+     */
+    private void unlock(ReentrantLock lock, long userId) {
+        lock.unlock();
+        Queue<Mutation> pending = publications.get(userId);
+        if (pending == null) {
+            return;
+        }
+        for (int pass = 0; pass < MAX_HELP_PASSES && !pending.isEmpty() && lock.tryLock(); pass++) {
+            try {
+                applyPending(userId, pending);
+            } finally {
+                lock.unlock();
+            }
+        }
+        Mutation head = pending.peek();
+        if (head != null) {
+            LockSupport.unpark(head.thread());
+        }
+    }
+
+    private boolean shouldCombine(long userId) {
+        return switch (combining.mode()) {
+            case OFF -> false;
+            case ALL -> true;
+            case HOT -> hotUserTracker != null && hotUserTracker.isHot(userId);
+        };
+    }
+
+    /**
+     * Flat combining 경로: 요청을 사용자 게시 목록에 올리고, Lock 을 얻은 스레드(조합자)가 쌓인 요청을 한 번에 처리한다.
+     * Lock 을 얻지 못한 스레드는 Lock 을 기다리지 않고, 조합자가 자기 요청을 처리하거나 조합자 역할을 넘겨줄 때까지 잠든다.
+     */
+    private UserPoint combine(long userId, Mutation mutation) {
+        Queue<Mutation> pending = publications.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        pending.add(mutation);
+        ReentrantLock lock = getUserLock(userId);
+        while (!mutation.result().isDone()) {
+            if (lock.tryLock()) {
+                try {
+                    applyPending(userId, pending);
+                } finally {
+                    unlock(lock, userId);
+                }
+                continue;
+            }
+            LockSupport.parkNanos(mutation, COMBINE_RECHECK_NANOS);
+        }
+        try {
+            return mutation.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 Lock 을 잡은 상태에서 게시된 요청을 최대 maxBatch 개 꺼내 순서대로 검증/적용한다.
+     * 잔액 조회, 오늘 충전액 계산, 잔액 저장, 내역 저장을 묶음마다 한 번씩만 하며,
+     * 검증에 실패한 요청은 그 요청만 실패시키고 다음 요청은 실패하기 전 잔액에서 이어서 적용한다.
+     */
+    private void applyPending(long userId, Queue<Mutation> pending) {
+        List<Mutation> batch = new ArrayList<>();
+        Mutation next;
+        while (batch.size() < combining.maxBatch() && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Mutation> applied = new ArrayList<>(batch.size());
+        List<UserPoint> states = new ArrayList<>(batch.size());
+        try {
+            UserPoint current = loadPoint(userId);
+            long chargedToday = batch.stream().anyMatch(m -> m.type() == TransactionType.CHARGE) ? todayChargeTotal(userId) : 0L;
+            for (Mutation mutation : batch) {
+                mutation.event().lockAcquired();
+                try {
+                    if (mutation.type() == TransactionType.CHARGE) {
+                        UserPoint.validateDailyChargeLimit(chargedToday, mutation.amount());
+                        current = current.addPoints(mutation.amount());
+                        chargedToday += mutation.amount();
+                    } else {
+                        current = current.deductPoints(mutation.amount());
+                    }
+                    mutation.event().readDone();
+                    applied.add(mutation);
+                    states.add(current);
+                } catch (RuntimeException e) {
+                    mutation.fail(e);
+                }
+            }
+            if (applied.isEmpty()) {
+                return;
+            }
+
+            UserPoint result = pointRepository.insertOrUpdate(userId, current.point());
+            recordSnapshot(result);
+            List<HistoryWrite> writes = new ArrayList<>(applied.size());
+            for (Mutation mutation : applied) {
+                writes.add(new HistoryWrite(userId, mutation.amount(), mutation.type(), result.updateMillis()));
+            }
+            List<PointHistory> histories = pointRepository.insertHistories(writes);
+            for (int i = 0; i < applied.size(); i++) {
+                Mutation mutation = applied.get(i);
+                UserPoint state = new UserPoint(userId, states.get(i).point(), result.updateMillis());
+                mutation.event().writeDone();
+                eventPublisher.publishEvent(new PointChangedEvent(state, histories.get(i)));
+                mutation.event().succeed();
+                mutation.complete(state);
+            }
+        } catch (RuntimeException e) {
+            // 조회/저장 실패: 아직 끝나지 않은 요청은 모두 같은 예외로 실패 (이미 끝난 요청에는 영향 없음)
+            for (Mutation mutation : batch) {
+                if (!mutation.result().isDone()) {
+                    mutation.fail(e);
+                }
+            }
+        }
+    }
+
+    private void recordSnapshot(UserPoint... userPoints) {
+        if (balanceSnapshots != null) {
+            balanceSnapshots.record(userPoints);
+        }
+    }
+
+    private void recordRequest(long userId) {
+        if (hotUserTracker != null && userId > 0) {
+            hotUserTracker.recordRequest(userId);
+        }
     }
 
     /**
@@ -108,4 +482,26 @@ public class PointServiceImpl implements PointService {
     private ReentrantLock getUserLock(long userId) {
         return userLocks.computeIfAbsent(userId, id -> new ReentrantLock());
     }
+
+    /**
+     * 게시 목록에 올린 충전/사용 요청 (thread: 결과를 기다리는 게시 스레드)
+     */
+    private record Mutation(TransactionType type, long amount, PointOperationEvent event,
+                            Thread thread, CompletableFuture<UserPoint> result) {
+
+        private Mutation(TransactionType type, long amount, PointOperationEvent event) {
+            this(type, amount, event, Thread.currentThread(), new CompletableFuture<>());
+        }
+
+        private void complete(UserPoint userPoint) {
+            result.complete(userPoint);
+            LockSupport.unpark(thread);
+        }
+
+        private void fail(RuntimeException e) {
+            event.fail(e);
+            result.completeExceptionally(e);
+            LockSupport.unpark(thread);
+        }
+    }
 }
@@ -0,0 +1,262 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 포인트 변경 이벤트를 SSE 구독자에게 나눠 보내는 허브
+ * - 구독 연결은 서블릿 비동기 요청(SseEmitter)으로 유지되어 구독자마다 스레드를 점유하지 않는다.
+ * - 변경 이벤트는 구독자별 큐에 넣기만 하고, 소수의 전송 스레드가 구독자 단위로 순서대로 보낸다.
+ * - 대기 이벤트가 한도를 넘는 느린 구독자와 하트비트 전송에 실패한 끊긴 구독자는 정리한다.
+ * - 한 번의 전송이 writeTimeout 을 넘기면 구독자를 끊고, 멈춘 스레드 대신 전송 스레드를 하나 늘려
+ *   (최대 dispatchThreads 개까지) 다른 구독자의 전송이 막히지 않게 한다.
+ *   멈춘 쓰기 자체는 컨테이너의 소켓 쓰기 제한 시간에 풀리며, 그때 늘린 스레드를 반납한다.
+ * - 이벤트를 발행하는 스레드는 SseEmitter 를 직접 건드리지 않는다.
+ *   SseEmitter 는 전송 중 잠금을 잡으므로, 연결 종료도 전송 스레드가 맡는다.
+ */
+@Component
+public class PointStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStreamHub.class);
+    private static final Object HEARTBEAT = new Object();
+
+    private final StreamProperties properties;
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService heartbeat;
+    private final Object dispatcherLock = new Object();
+    // 전송이 멈춘 구독자 대신 늘린 전송 스레드 수 (dispatcherLock 으로 보호)
+    private int borrowedThreads;
+
+    public PointStreamHub(StreamProperties properties) {
+        this.properties = properties;
+        AtomicInteger sequence = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(properties.dispatchThreads(), properties.dispatchThreads(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "point-stream-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.heartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(1L, properties.writeTimeout().toMillis() / 2);
+        heartbeat.scheduleAtFixedRate(this::disconnectStalledSubscribers, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(long userId) {
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("포인트 스트림 구독자 수가 한도(" + properties.maxSubscribers() + ")를 초과했습니다.");
+        }
+
+        SseEmitter emitter = createEmitter(properties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userPoint().id());
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.enqueue(event));
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.enqueue(HEARTBEAT)));
+    }
+
+    private void disconnectStalledSubscribers() {
+        long now = System.nanoTime();
+        long writeTimeoutNanos = properties.writeTimeout().toNanos();
+        subscribers.values().forEach(targets -> targets.forEach(subscriber -> subscriber.disconnectIfStalled(now, writeTimeoutNanos)));
+    }
+
+    private boolean borrowDispatchThread() {
+        synchronized (dispatcherLock) {
+            if (borrowedThreads >= properties.dispatchThreads()) {
+                return false;
+            }
+            borrowedThreads++;
+            int size = properties.dispatchThreads() + borrowedThreads;
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+            return true;
+        }
+    }
+
+    private void returnDispatchThread() {
+        synchronized (dispatcherLock) {
+            borrowedThreads--;
+            int size = properties.dispatchThreads() + borrowedThreads;
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private final class Subscriber {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (0 이면 전송 중 아님)
+        private volatile long sendStartedNanos;
+        // 이 구독자의 멈춘 전송 대신 늘린 전송 스레드가 있는지 (this 로 보호)
+        private boolean borrowedThread;
+
+        private Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Object payload) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > properties.maxPendingEvents()) {
+                log.warn("느린 포인트 스트림 구독자 연결 종료 - userId: {}", userId);
+                close();
+                return;
+            }
+            pending.offer(payload);
+            scheduleDrain();
+        }
+
+        /**
+         * 허브에서 빼고, 연결 종료는 전송 스레드에 맡긴다.
+         * 전송이 진행 중이면 그 전송이 끝난 뒤 종료된다.
+         */
+        private void close() {
+            remove(this);
+            scheduleDrain();
+        }
+
+        private void disconnectIfStalled(long now, long writeTimeoutNanos) {
+            synchronized (this) {
+                long startedNanos = sendStartedNanos;
+                if (startedNanos == 0L || now - startedNanos < writeTimeoutNanos || closed.get()) {
+                    return;
+                }
+                borrowedThread = borrowDispatchThread();
+            }
+            log.warn("전송이 멈춘 포인트 스트림 구독자 연결 종료 - userId: {}", userId);
+            close();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        /**
+         * 구독자당 동시에 하나의 전송 작업만 실행되어 이벤트 순서가 유지된다.
+         */
+        private void drain() {
+            try {
+                Object payload;
+                while (!closed.get() && (payload = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    send(payload);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 끊김 또는 이미 종료된 연결
+                remove(this);
+                finish(e);
+            } finally {
+                synchronized (this) {
+                    if (borrowedThread) {
+                        borrowedThread = false;
+                        returnDispatchThread();
+                    }
+                }
+                draining.set(false);
+                if (closed.get()) {
+                    finish(null);
+                } else if (!pending.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void send(Object payload) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            try {
+                if (payload == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event().name("point-changed").data(payload));
+                }
+            } finally {
+                sendStartedNanos = 0L;
+            }
+        }
+
+        private void finish(Throwable error) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            if (error == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(error);
+            }
+        }
+    }
+}
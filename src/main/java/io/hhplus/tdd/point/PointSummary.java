@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자의 전체 기간 내역 요약
+ * 압축된 일별 요약과 아직 압축되지 않은 원본 내역을 합친 값이므로 압축 여부와 관계없이 합계가 같다.
+ * - totalCounts / totalAmounts : 거래 종류별 건수와 금액 합계
+ * - days : 날짜·거래 종류별 요약 (날짜 오름차순)
+ */
+public record PointSummary(
+        long userId,
+        Map<TransactionType, Long> totalCounts,
+        Map<TransactionType, Long> totalAmounts,
+        List<DailyRollup> days
+) {
+}
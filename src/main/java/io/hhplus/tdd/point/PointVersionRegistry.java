@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최신 포인트/내역 버전을 메모리에 보관하여 ETag를 계산하는 레지스트리
+ * 조건부 GET(If-None-Match)을 테이블 조회나 직렬화 없이 304로 응답하는 데 사용한다.
+ * 이 인스턴스에서 변경이 기록된 적 없는 사용자는 버전을 알 수 없으므로 null을 반환한다.
+ * 잔액 ETag 는 updateMillis 와 잔액을 함께 담는다. 같은 밀리초에 두 번 바뀌어도 잔액이 다르면 다른 ETag 가 된다.
+ */
+@Component
+public class PointVersionRegistry {
+
+    private final ConcurrentHashMap<Long, PointVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * CAS 엔진 경로의 이벤트는 순서가 바뀌어 도착할 수 있으므로, 내역 id 가 더 작은 이벤트로 최신 버전을 덮지 않는다.
+     */
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        long historyId = event.history() != null ? event.history().id() : 0L;
+        versions.merge(event.userPoint().id(),
+                new PointVersion(event.userPoint().updateMillis(), event.userPoint().point(), historyId),
+                (current, next) -> next.lastHistoryId() >= current.lastHistoryId() ? next : current);
+    }
+
+    public String balanceETag(long userId) {
+        PointVersion version = versions.get(userId);
+        return version != null ? formatBalanceETag(version.updateMillis(), version.point()) : null;
+    }
+
+    public String historyETag(long userId) {
+        PointVersion version = versions.get(userId);
+        return version != null ? formatHistoryETag(version.lastHistoryId()) : null;
+    }
+
+    public static String balanceETag(UserPoint userPoint) {
+        return formatBalanceETag(userPoint.updateMillis(), userPoint.point());
+    }
+
+    public static String historyETag(List<PointHistory> histories) {
+        return formatHistoryETag(histories.isEmpty() ? 0L : histories.get(histories.size() - 1).id());
+    }
+
+    public static String historyETagOf(long lastHistoryId) {
+        return formatHistoryETag(lastHistoryId);
+    }
+
+    /**
+     * If-None-Match 헤더 값 중 하나라도 eTag와 같으면 true (약한 비교)
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String formatBalanceETag(long updateMillis, long point) {
+        return "\"p" + updateMillis + "-" + point + "\"";
+    }
+
+    private static String formatHistoryETag(long lastHistoryId) {
+        return "\"h" + lastHistoryId + "\"";
+    }
+
+    private record PointVersion(
+            long updateMillis,
+            long point,
+            long lastHistoryId
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class PointWebConfig implements WebMvcConfigurer {
+
+    /**
+     * JSON 이 계속 기본 응답 형식이 되도록 바이너리 변환기는 맨 뒤에 둔다. (Accept 로 지정한 경우에만 선택됨)
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PointBinaryHttpMessageConverter());
+    }
+}
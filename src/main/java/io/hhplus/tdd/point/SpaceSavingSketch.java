@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가중치를 받는 Space-Saving 스케치 (capacity 개의 카운터만 유지)
+ * - 추적 중인 ID 는 카운터에 가중치를 더한다.
+ * - 처음 보는 ID 는 빈 카운터가 없으면 가장 작은 카운터를 물려받는다. (count = 최솟값 + 가중치, error = 최솟값)
+ * 실제 값 ≤ estimate ≤ 실제 값 + error 이며, 실제 값이 전체 합 / capacity 보다 큰 ID 는 반드시 추적된다.
+ * 카운터는 최소 힙으로 관리해 갱신이 O(log capacity) 이다. 스레드 안전하지 않으므로 호출 쪽에서 동기화한다.
+ */
+class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<Long, Counter> counters;
+    private final Counter[] heap;
+    private int size;
+
+    SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("스케치 크기는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    void add(long id, long weight) {
+        Counter counter = counters.get(id);
+        if (counter != null) {
+            counter.count += weight;
+            siftDown(counter.index);
+            return;
+        }
+        if (size < capacity) {
+            counter = new Counter(id, weight, 0L);
+            counter.index = size;
+            heap[size++] = counter;
+            counters.put(id, counter);
+            siftUp(counter.index);
+            return;
+        }
+        Counter min = heap[0];
+        counters.remove(min.id);
+        min.id = id;
+        min.error = min.count;
+        min.count += weight;
+        counters.put(id, min);
+        siftDown(0);
+    }
+
+    /**
+     * 추적 중인 모든 카운터 (순서 없음)
+     */
+    List<HotUser> counters() {
+        List<HotUser> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new HotUser(heap[i].id, heap[i].count, heap[i].error));
+        }
+        return result;
+    }
+
+    void clear() {
+        counters.clear();
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        Counter counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter {
+        private long id;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(long id, long count, long error) {
+            this.id = id;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
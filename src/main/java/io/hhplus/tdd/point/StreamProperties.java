@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 변경 SSE 스트림 설정
+ * - maxSubscribers : 전체 최대 구독자 수
+ * - maxPendingEvents : 구독자별 전송 대기 이벤트 한도 (초과 시 느린 구독자로 보고 연결 종료)
+ * - timeout : 구독 연결 최대 유지 시간
+ * - heartbeatInterval : 끊긴 연결을 찾아내기 위한 하트비트 주기
+ * - dispatchThreads : 이벤트 전송 스레드 수 (구독자 수와 무관)
+ * - writeTimeout : 한 번의 전송이 이 시간을 넘기면 구독자 연결 종료
+ */
+@ConfigurationProperties(prefix = "point.stream")
+public record StreamProperties(
+        @DefaultValue("100000") int maxSubscribers,
+        @DefaultValue("16") int maxPendingEvents,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("30s") Duration heartbeatInterval,
+        @DefaultValue("4") int dispatchThreads,
+        @DefaultValue("5s") Duration writeTimeout
+) {
+}
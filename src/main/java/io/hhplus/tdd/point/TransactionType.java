@@ -5,7 +5,23 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - TRANSFER_OUT : 이체 출금 (보내는 사용자)
+ * - TRANSFER_IN : 이체 입금 (받는 사용자)
  */
 public enum TransactionType {
-    CHARGE, USE
-}
\ No newline at end of file
+    CHARGE, USE, TRANSFER_OUT, TRANSFER_IN;
+
+    /**
+     * 잔액을 증가시키는 트랜잭션인지 여부
+     */
+    public boolean isCredit() {
+        return this == CHARGE || this == TRANSFER_IN;
+    }
+
+    /**
+     * 이 트랜잭션을 잔액에 적용한 결과
+     */
+    public long applyTo(long balance, long amount) {
+        return isCredit() ? balance + amount : balance - amount;
+    }
+}
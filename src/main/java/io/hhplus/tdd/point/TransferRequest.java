@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point;
+
+public record TransferRequest(
+        long fromUserId,
+        long toUserId,
+        long amount
+) {
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이체 결과
+ * - from : 이체 후 보내는 사용자의 포인트
+ * - to : 이체 후 받는 사용자의 포인트
+ */
+public record TransferResult(
+        UserPoint from,
+        UserPoint to
+) {
+}
@@ -16,6 +16,19 @@ public record UserPoint(
         return new UserPoint(id, 0, System.currentTimeMillis());
     }
 
+    /**
+     * 오늘 이미 충전한 금액에 이번 충전 금액을 더해도 일일 충전 한도를 넘지 않는지 검증한다.
+     */
+    public static void validateDailyChargeLimit(long todayChargeTotal, long chargeAmount) {
+        long totalAfterCharge = todayChargeTotal + chargeAmount;
+        if (totalAfterCharge > DAILY_CHARGE_LIMIT) {
+            throw new IllegalStateException(
+                    "일일 충전 한도(" + DAILY_CHARGE_LIMIT + "원)를 초과할 수 없습니다. " +
+                    "(오늘 충전 금액: " + todayChargeTotal + "원, 시도 금액: " + chargeAmount + "원)"
+            );
+        }
+    }
+
     public UserPoint addPoints(long amount) {
         if (amount < MIN_CHARGE_AMOUNT) {
             throw new IllegalArgumentException(
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.startup;
+
+import io.hhplus.tdd.cluster.ClusterMembership;
+import io.hhplus.tdd.metrics.LatencyRecorders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 직후 포인트 API 를 실제 HTTP 로 호출해 Spring MVC, Jackson, PointServiceImpl 경로의 클래스 로딩과 JIT 컴파일을 끝낸다.
+ * ApplicationRunner 는 readiness(ACCEPTING_TRAFFIC)가 알려지기 전에 실행되므로, 끝날 때까지 트래픽이 들어오지 않는다.
+ * - 조회는 실제 사용자와 겹치지 않는 ID 로 하고, 충전/사용은 최소 금액 미만이라 검증에서 거절되어 데이터가 바뀌지 않는다.
+ * - 다중 인스턴스에서는 다른 인스턴스로 전달되지 않도록 이 인스턴스가 소유한 ID 만 쓴다.
+ * - 끝나면 지연 시간 기록을 비워, 운영 지표에 워밍업 요청이 섞이지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.warmup", name = "enabled", havingValue = "true")
+public class PointWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmup.class);
+    // 최소 충전/사용 금액(100원) 미만이라 항상 거절된다
+    private static final String REJECTED_AMOUNT = "1";
+
+    private final WarmupProperties properties;
+    private final ApplicationContext applicationContext;
+    private final RestClient.Builder restClientBuilder;
+    private final ObjectProvider<LatencyRecorders> latencyRecorders;
+    private final ObjectProvider<ClusterMembership> clusterMembership;
+
+    public PointWarmup(WarmupProperties properties,
+                       ApplicationContext applicationContext,
+                       RestClient.Builder restClientBuilder,
+                       ObjectProvider<LatencyRecorders> latencyRecorders,
+                       ObjectProvider<ClusterMembership> clusterMembership) {
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+        this.restClientBuilder = restClientBuilder;
+        this.latencyRecorders = latencyRecorders;
+        this.clusterMembership = clusterMembership;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null) {
+            log.info("웹 서버가 없어 워밍업을 건너뜁니다.");
+            return;
+        }
+        RestClient restClient = restClientBuilder
+                .baseUrl("http://localhost:" + webContext.getWebServer().getPort())
+                .build();
+        long[] userIds = warmupUserIds();
+
+        long start = System.nanoTime();
+        long deadline = start + properties.maxDuration().toNanos();
+        int requests = 0;
+        int iteration = 0;
+        for (; iteration < properties.iterations() && System.nanoTime() < deadline; iteration++) {
+            requests += exercise(restClient, userIds[iteration % userIds.length]);
+        }
+        latencyRecorders.ifAvailable(LatencyRecorders::snapshotAndReset);
+        log.info("워밍업 완료 (반복: {}, 요청: {}, 소요: {} ms)",
+                iteration, requests, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 실제 사용자와 겹치지 않도록 Long.MAX_VALUE 부터 내려가며, 다중 인스턴스에서는 이 인스턴스가 소유한 ID 만 고른다.
+     */
+    private long[] warmupUserIds() {
+        ClusterMembership membership = clusterMembership.getIfAvailable();
+        long[] userIds = new long[properties.users()];
+        long candidate = Long.MAX_VALUE;
+        for (int i = 0; i < userIds.length; candidate--) {
+            if (membership == null || membership.isOwner(candidate)) {
+                userIds[i++] = candidate;
+            }
+        }
+        return userIds;
+    }
+
+    private int exercise(RestClient restClient, long userId) {
+        get(restClient, "/point/{id}", userId);
+        get(restClient, "/point/{id}/histories", userId);
+        get(restClient, "/point/{id}/summary", userId);
+        patch(restClient, "/point/{id}/charge", userId);
+        patch(restClient, "/point/{id}/use", userId);
+        return 5;
+    }
+
+    private static void get(RestClient restClient, String uri, long userId) {
+        restClient.get()
+                .uri(uri, userId)
+                .exchange((request, response) -> response.getStatusCode());
+    }
+
+    private static void patch(RestClient restClient, String uri, long userId) {
+        restClient.patch()
+                .uri(uri, userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(REJECTED_AMOUNT)
+                .exchange((request, response) -> response.getStatusCode());
+    }
+}
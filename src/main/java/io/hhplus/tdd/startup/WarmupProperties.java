@@ -0,0 +1,22 @@
+package io.hhplus.tdd.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 시작 시 워밍업 설정
+ * - enabled : readiness 를 알리기 전에 포인트 API 를 내부에서 호출해 클래스 로딩과 JIT 컴파일을 미리 끝낼지 여부
+ * - iterations : API 묶음(조회, 내역, 요약, 거절되는 충전/사용)을 반복할 횟수
+ * - users : 워밍업에 쓰는 사용자 수 (Long.MAX_VALUE 부터 아래로, 실제 사용자와 겹치지 않는 ID)
+ * - maxDuration : 반복이 남아 있어도 이 시간이 지나면 워밍업을 끝낸다
+ */
+@ConfigurationProperties(prefix = "point.warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2000") int iterations,
+        @DefaultValue("16") int users,
+        @DefaultValue("30s") Duration maxDuration
+) {
+}
@@ -0,0 +1,271 @@
+package io.hhplus.tdd.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.PointController;
+import io.hhplus.tdd.point.PointServiceImpl;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 JVM 안에서 localhost 포트가 다른 애플리케이션 컨텍스트 3개를 띄워 요청 전달을 검증한다.
+ */
+@DisplayName("다중 인스턴스 요청 전달 테스트")
+class ClusterForwardingTest {
+
+    private static final int NODE_COUNT = 3;
+    private static final String ADMIN_TOKEN = "cluster-admin-token";
+    private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private static final List<String> urls = new ArrayList<>();
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        for (int i = 0; i < NODE_COUNT; i++) {
+            urls.add("http://localhost:" + freePort());
+        }
+        String members = String.join(",", urls);
+        for (String url : urls) {
+            nodes.add(new SpringApplicationBuilder(TddApplication.class)
+                    .properties(
+                            "server.port=" + URI.create(url).getPort(),
+                            "point.cluster.enabled=true",
+                            "point.cluster.self-url=" + url,
+                            "point.cluster.members=" + members,
+                            "point.cluster.admin-token=" + ADMIN_TOKEN
+                    )
+                    .run());
+        }
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("소유하지 않은 사용자의 충전은 소유 인스턴스에서 처리되고 어느 인스턴스에서 조회해도 같은 잔액이 보인다")
+    void charge_forForeignUser_isAppliedOnOwner() throws Exception {
+        // given: 0번 인스턴스가 소유하지 않은 사용자
+        ClusterMembership membership = nodes.get(0).getBean(ClusterMembership.class);
+        long userId = System.currentTimeMillis();
+        while (membership.isOwner(userId)) {
+            userId++;
+        }
+        int ownerIndex = urls.indexOf(membership.ownerOf(userId));
+
+        // when
+        HttpResponse<String> charged = send(HttpRequest.newBuilder(URI.create(urls.get(0) + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("5000"))
+                .build());
+
+        // then
+        assertEquals(200, charged.statusCode());
+        assertEquals(5_000L, objectMapper.readValue(charged.body(), UserPoint.class).point());
+
+        // 소유 인스턴스의 로컬 저장소에만 반영됨
+        assertEquals(5_000L, nodes.get(ownerIndex).getBean(PointServiceImpl.class).getPoint(userId).point());
+        assertEquals(0L, nodes.get(0).getBean(PointServiceImpl.class).getPoint(userId).point());
+
+        for (String url : urls) {
+            HttpResponse<String> point = send(HttpRequest.newBuilder(URI.create(url + "/point/" + userId)).GET().build());
+            assertEquals(5_000L, objectMapper.readValue(point.body(), UserPoint.class).point());
+        }
+    }
+
+    @Test
+    @DisplayName("클라이언트가 직접 붙인 전달 요청 헤더는 서명이 맞지 않아 무시되고, 충전은 소유 인스턴스로 전달된다")
+    void charge_withForgedForwardedHeader_isStillForwardedToOwner() throws Exception {
+        // given: 0번 인스턴스가 소유하지 않은 사용자
+        ClusterMembership membership = nodes.get(0).getBean(ClusterMembership.class);
+        long userId = System.currentTimeMillis() + 200_000;
+        while (membership.isOwner(userId)) {
+            userId++;
+        }
+        int ownerIndex = urls.indexOf(membership.ownerOf(userId));
+
+        // when
+        HttpResponse<String> charged = send(HttpRequest.newBuilder(URI.create(urls.get(0) + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .header(ClusterRoutingPointService.FORWARDED_HEADER, "forged")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("5000"))
+                .build());
+
+        // then
+        assertEquals(200, charged.statusCode());
+        assertEquals(5_000L, nodes.get(ownerIndex).getBean(PointServiceImpl.class).getPoint(userId).point());
+        assertEquals(0L, nodes.get(0).getBean(PointServiceImpl.class).getPoint(userId).point());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 의 재시도가 소유하지 않은 다른 인스턴스로 들어와도 충전은 한 번만 반영된다")
+    void charge_retriedOnAnotherNonOwnerWithSameKey_isAppliedOnce() throws Exception {
+        // given: 0번, 1번 인스턴스 모두 소유하지 않은 사용자
+        ClusterMembership membership = nodes.get(0).getBean(ClusterMembership.class);
+        long userId = System.currentTimeMillis() + 300_000;
+        while (!membership.ownerOf(userId).equals(urls.get(2))) {
+            userId++;
+        }
+        String idempotencyKey = "retry-" + userId;
+
+        // when
+        for (int node = 0; node < 2; node++) {
+            HttpResponse<String> charged = send(HttpRequest.newBuilder(URI.create(urls.get(node) + "/point/" + userId + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .header(PointController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("5000"))
+                    .build());
+            assertEquals(200, charged.statusCode());
+            assertEquals(5_000L, objectMapper.readValue(charged.body(), UserPoint.class).point());
+        }
+
+        // then
+        assertEquals(5_000L, nodes.get(2).getBean(PointServiceImpl.class).getPoint(userId).point());
+    }
+
+    @Test
+    @DisplayName("소유 인스턴스에서 발생한 검증 실패는 전달한 인스턴스에서도 같은 400 응답으로 반환된다")
+    void use_forForeignUserWithInsufficientBalance_returnsBadRequest() throws Exception {
+        // given
+        ClusterMembership membership = nodes.get(1).getBean(ClusterMembership.class);
+        long userId = System.currentTimeMillis() + 100_000;
+        while (membership.isOwner(userId)) {
+            userId++;
+        }
+
+        // when
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(urls.get(1) + "/point/" + userId + "/use"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("1000"))
+                .build());
+
+        // then
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("INVALID_STATE"));
+    }
+
+    @Test
+    @DisplayName("구성원이 바뀌면 파티션이 재분배되고 이동한 파티션 수가 보고된다")
+    void updateMembers_rebalancesPartitions() {
+        // given
+        ClusterMembership membership = nodes.get(2).getBean(ClusterMembership.class);
+        int before = membership.status().ownedPartitions();
+
+        // when: 2번 인스턴스만 남긴 뒤 원래 구성으로 복구
+        ClusterStatus alone = membership.updateMembers(List.of(urls.get(2)));
+        ClusterStatus restored = membership.updateMembers(urls);
+
+        // then
+        assertEquals(alone.totalPartitions(), alone.ownedPartitions());
+        assertEquals(alone.totalPartitions() - before, alone.movedPartitions());
+        assertEquals(alone.movedPartitions(), alone.pendingPartitions());
+        assertEquals(before, restored.ownedPartitions());
+        assertEquals(0, restored.pendingPartitions());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 서명해 전달한 요청이라도 이 인스턴스가 소유하지 않은 사용자면 처리하지 않고 400 으로 거절한다")
+    void charge_forwardedToNonOwner_isRejected() throws Exception {
+        // given: 0번 인스턴스가 소유하지 않은 사용자로, 링이 어긋난 인스턴스가 전달한 것처럼 서명한다
+        ClusterMembership membership = nodes.get(0).getBean(ClusterMembership.class);
+        long userId = System.currentTimeMillis() + 400_000;
+        while (membership.isOwner(userId)) {
+            userId++;
+        }
+        String path = "/point/" + userId + "/charge";
+
+        // when
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(urls.get(0) + path))
+                .header("Content-Type", "application/json")
+                .header(ClusterRoutingPointService.FORWARDED_HEADER, membership.forwardSignature("PATCH", path))
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("5000"))
+                .build());
+
+        // then
+        assertEquals(400, response.statusCode());
+        for (ConfigurableApplicationContext node : nodes) {
+            assertEquals(0L, node.getBean(PointServiceImpl.class).getPoint(userId).point());
+        }
+    }
+
+    @Test
+    @DisplayName("데이터가 있는 파티션을 다른 인스턴스로 옮기는 구성원 변경은 400 으로 거절되고 링은 그대로다")
+    void updateMembers_movingPartitionWithData_returnsBadRequest() throws Exception {
+        // given: 0번 인스턴스가 소유한 사용자에게 충전이 있었다
+        ClusterMembership membership = nodes.get(0).getBean(ClusterMembership.class);
+        long userId = System.currentTimeMillis() + 500_000;
+        while (!membership.isOwner(userId)) {
+            userId++;
+        }
+        send(HttpRequest.newBuilder(URI.create(urls.get(0) + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("5000"))
+                .build());
+
+        // when: 0번 인스턴스를 뺀 구성으로 바꾼다
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(urls.get(0) + "/cluster/members"))
+                .header("Content-Type", "application/json")
+                .header(ClusterController.ADMIN_TOKEN_HEADER, ADMIN_TOKEN)
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(urls.subList(1, NODE_COUNT))))
+                .build());
+
+        // then
+        assertEquals(400, response.statusCode());
+        assertTrue(membership.isOwner(userId));
+        assertEquals(urls, membership.status().members());
+    }
+
+    @Test
+    @DisplayName("관리자 토큰이 없거나 다르면 구성원 변경 요청은 403 으로 거절되고 파티션은 그대로다")
+    void updateMembers_withoutAdminToken_isForbidden() throws Exception {
+        // given
+        ClusterMembership membership = nodes.get(0).getBean(ClusterMembership.class);
+        int before = membership.status().ownedPartitions();
+        String body = objectMapper.writeValueAsString(List.of(urls.get(0)));
+
+        // when
+        HttpResponse<String> missing = send(HttpRequest.newBuilder(URI.create(urls.get(0) + "/cluster/members"))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        HttpResponse<String> wrong = send(HttpRequest.newBuilder(URI.create(urls.get(0) + "/cluster/members"))
+                .header("Content-Type", "application/json")
+                .header(ClusterController.ADMIN_TOKEN_HEADER, "wrong")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+
+        // then
+        assertEquals(403, missing.statusCode());
+        assertEquals(403, wrong.statusCode());
+        assertTrue(missing.body().contains("FORBIDDEN"));
+        assertEquals(before, membership.status().ownedPartitions());
+    }
+
+    private static HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterMembershipTest {
+
+    private static final String SELF = "http://a:8080";
+    private static final String OTHER = "http://b:8080";
+
+    private final ClusterMembership membership = new ClusterMembership(new ClusterProperties(
+            true, SELF, List.of(SELF, OTHER), 271, 64, "cluster-admin-token", Duration.ofSeconds(1), Duration.ofSeconds(3)));
+
+    @Test
+    @DisplayName("이 인스턴스에 데이터가 있는 파티션의 소유자가 바뀌는 구성원 변경은 거절되고 링은 그대로다")
+    void updateMembers_movingPartitionWithData_isRejected() {
+        // given: 이 인스턴스가 소유한 사용자에게 쓰기가 있었다
+        long userId = firstUserOwnedBy(SELF);
+        assertEquals("charged", membership.writeIfOwner(() -> "charged", userId));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> membership.updateMembers(List.of(OTHER)));
+        assertTrue(membership.isOwner(userId));
+        assertEquals(List.of(SELF, OTHER), membership.status().members());
+    }
+
+    @Test
+    @DisplayName("입력 검증에서 거절된 쓰기는 데이터가 없으므로 그 파티션을 옮기는 구성원 변경을 막지 않는다")
+    void updateMembers_afterRejectedWrite_isAccepted() {
+        // given
+        long userId = firstUserOwnedBy(SELF);
+        assertThrows(IllegalArgumentException.class, () -> membership.writeIfOwner(() -> {
+            throw new IllegalArgumentException("충전 금액은 최소 100원 이상이어야 합니다.");
+        }, userId));
+
+        // when
+        ClusterStatus status = membership.updateMembers(List.of(OTHER));
+
+        // then
+        assertEquals(0, status.ownedPartitions());
+        assertEquals(OTHER, membership.ownerOf(userId));
+    }
+
+    @Test
+    @DisplayName("구성원 변경으로 새로 받은 파티션은 activate 전까지 처리하지 않는다")
+    void updateMembers_gainedPartitions_arePendingUntilActivate() {
+        // given: 다른 인스턴스가 소유한 사용자
+        long userId = firstUserOwnedBy(OTHER);
+        int total = membership.status().totalPartitions();
+
+        // when
+        ClusterStatus status = membership.updateMembers(List.of(SELF));
+
+        // then
+        assertEquals(total, status.ownedPartitions());
+        assertEquals(status.movedPartitions(), status.pendingPartitions());
+        assertThrows(IllegalStateException.class, () -> membership.isOwner(userId));
+        assertThrows(IllegalStateException.class, () -> membership.writeIfOwner(() -> "charged", userId));
+
+        ClusterStatus activated = membership.activate();
+        assertEquals(0, activated.pendingPartitions());
+        assertEquals("charged", membership.writeIfOwner(() -> "charged", userId));
+    }
+
+    @Test
+    @DisplayName("전달 요청 서명은 같은 메서드와 경로에서만 맞고, 없거나 다른 값은 전달 요청으로 보지 않는다")
+    void isForwarded_acceptsOnlyMatchingSignature() {
+        // given
+        String signature = membership.forwardSignature("PATCH", "/point/1/charge");
+
+        // when & then
+        assertTrue(membership.isForwarded(signature, "PATCH", "/point/1/charge"));
+        assertFalse(membership.isForwarded(signature, "PATCH", "/point/2/charge"));
+        assertFalse(membership.isForwarded("forged", "PATCH", "/point/1/charge"));
+        assertFalse(membership.isForwarded(null, "PATCH", "/point/1/charge"));
+    }
+
+    private long firstUserOwnedBy(String member) {
+        long userId = 1L;
+        while (!membership.ownerOf(userId).equals(member)) {
+            userId++;
+        }
+        return userId;
+    }
+}
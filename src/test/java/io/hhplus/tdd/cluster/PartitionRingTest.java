@@ -0,0 +1,62 @@
+package io.hhplus.tdd.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionRingTest {
+
+    private static final List<String> THREE_MEMBERS = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+
+    @Test
+    @DisplayName("같은 구성원으로 만든 링은 같은 사용자를 항상 같은 인스턴스에 배정한다")
+    void ownerOf_withSameMembers_isDeterministic() {
+        // given
+        PartitionRing first = PartitionRing.of(THREE_MEMBERS, 271, 64);
+        PartitionRing second = PartitionRing.of(THREE_MEMBERS, 271, 64);
+
+        // when & then
+        for (long userId = 1; userId <= 1_000; userId++) {
+            assertEquals(first.ownerOf(userId), second.ownerOf(userId));
+        }
+        assertEquals(0, first.movedPartitions(second));
+    }
+
+    @Test
+    @DisplayName("모든 파티션은 구성원 중 하나에 배정되고 각 구성원이 파티션을 나누어 가진다")
+    void ownedPartitions_coversAllPartitions() {
+        // given
+        PartitionRing ring = PartitionRing.of(THREE_MEMBERS, 271, 64);
+
+        // when
+        int total = THREE_MEMBERS.stream().mapToInt(ring::ownedPartitions).sum();
+
+        // then
+        assertEquals(271, total);
+        THREE_MEMBERS.forEach(member -> assertTrue(ring.ownedPartitions(member) > 0));
+    }
+
+    @Test
+    @DisplayName("구성원을 하나 추가하면 새 구성원에게 가는 파티션만 소유자가 바뀐다")
+    void movedPartitions_whenMemberAdded_onlyMovesToNewMember() {
+        // given
+        PartitionRing before = PartitionRing.of(THREE_MEMBERS, 271, 64);
+        PartitionRing after = PartitionRing.of(List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080"), 271, 64);
+
+        // when
+        int moved = before.movedPartitions(after);
+
+        // then
+        assertEquals(after.ownedPartitions("http://d:8080"), moved);
+        assertTrue(moved < 271 / 2, "재분배 시 일부 파티션만 이동해야 합니다");
+    }
+
+    @Test
+    @DisplayName("구성원이 없으면 링을 만들 수 없다")
+    void of_withoutMembers_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> PartitionRing.of(List.of(), 271, 64));
+    }
+}
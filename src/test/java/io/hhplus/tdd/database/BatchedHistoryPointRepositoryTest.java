@@ -0,0 +1,183 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchedHistoryPointRepositoryTest {
+
+    private final SlowBatchRepository delegate = new SlowBatchRepository();
+    private final BatchedHistoryPointRepository repository = new BatchedHistoryPointRepository(delegate,
+            new PointStoreProperties.HistoryBatch(true, 8, Duration.ofMillis(5)));
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("여러 스레드의 내역 저장은 최대 크기 이하의 묶음으로 모여 저장되고, 각 호출은 자기 내역을 돌려받는다")
+    void insertHistory_concurrently_groupsIntoBatches() throws InterruptedException {
+        // given
+        int threadCount = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger mismatches = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    PointHistory history = repository.insertHistory(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+                    ids.add(history.id());
+                    if (history.userId() != userId) {
+                        mismatches.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // then
+        assertEquals(threadCount, ids.size());
+        assertEquals(0, mismatches.get());
+        assertTrue(delegate.calls.get() < threadCount);
+        assertTrue(delegate.largestBatch.get() <= 8);
+        assertEquals(delegate.calls.get(), repository.batches());
+        assertEquals((double) threadCount / delegate.calls.get(), repository.averageBatchSize(), 0.001);
+    }
+
+    @Test
+    @DisplayName("insertHistories 는 저장된 내역을 입력 순서대로 돌려준다")
+    void insertHistories_returnsHistoriesInInputOrder() {
+        // given
+        List<HistoryWrite> writes = List.of(
+                new HistoryWrite(1L, 100L, TransactionType.TRANSFER_OUT, 1L),
+                new HistoryWrite(2L, 100L, TransactionType.TRANSFER_IN, 1L)
+        );
+
+        // when
+        List<PointHistory> histories = repository.insertHistories(writes);
+
+        // then
+        assertEquals(TransactionType.TRANSFER_OUT, histories.get(0).type());
+        assertEquals(1L, histories.get(0).userId());
+        assertEquals(TransactionType.TRANSFER_IN, histories.get(1).type());
+        assertEquals(2L, histories.get(1).userId());
+        assertEquals(1, repository.selectHistoriesByUserId(2L).size());
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 그 묶음의 호출 스레드는 같은 예외를 받는다")
+    void insertHistory_whenBatchFails_propagatesException() {
+        // given
+        delegate.failure = new IllegalStateException("저장 실패");
+
+        // when & then
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> repository.insertHistory(1L, 100L, TransactionType.CHARGE, 1L));
+        assertEquals("저장 실패", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 Error 로 실패해도 그 묶음의 호출 스레드는 같은 Error 를 받고, 이후 내역은 계속 저장된다")
+    void insertHistory_whenBatchFailsWithError_keepsFlushing() {
+        // given
+        delegate.failure = new StackOverflowError("저장 실패");
+        assertThrows(StackOverflowError.class,
+                () -> repository.insertHistory(1L, 100L, TransactionType.CHARGE, 1L));
+
+        // when
+        delegate.failure = null;
+        PointHistory history = repository.insertHistory(1L, 100L, TransactionType.CHARGE, 1L);
+
+        // then
+        assertEquals(1L, history.userId());
+        assertEquals(1, repository.selectHistoriesByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("종료와 겹쳐 들어온 내역도 저장되거나 실패로 끝나며, 기다리는 호출 스레드가 멈추지 않는다")
+    void insertHistory_racingWithClose_neverHangs() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            // given
+            BatchedHistoryPointRepository racing = new BatchedHistoryPointRepository(new InMemoryPointRepository(),
+                    new PointStoreProperties.HistoryBatch(true, 8, Duration.ofMillis(1)));
+            Thread writer = new Thread(() -> {
+                try {
+                    while (true) {
+                        racing.insertHistory(1L, 100L, TransactionType.CHARGE, 1L);
+                    }
+                } catch (IllegalStateException e) {
+                    // 종료된 뒤의 저장은 실패로 끝난다
+                }
+            });
+            writer.start();
+            TimeUnit.MILLISECONDS.sleep(2);
+
+            // when
+            racing.close();
+
+            // then
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(writer.isAlive());
+        }
+    }
+
+    @Test
+    @DisplayName("종료한 뒤에는 내역을 받지 않는다")
+    void insertHistory_afterClose_throwsException() throws Exception {
+        // when
+        repository.close();
+
+        // then
+        assertThrows(IllegalStateException.class,
+                () -> repository.insertHistory(1L, 100L, TransactionType.CHARGE, 1L));
+    }
+
+    /**
+     * 묶음 하나를 쓰는 데 일정 시간이 걸리는 저장소 (묶음 수와 최대 크기를 기록)
+     */
+    private static class SlowBatchRepository extends InMemoryPointRepository {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger largestBatch = new AtomicInteger();
+        private volatile Throwable failure;
+
+        @Override
+        public List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+            if (failure instanceof RuntimeException e) {
+                throw e;
+            }
+            if (failure instanceof Error e) {
+                throw e;
+            }
+            calls.incrementAndGet();
+            largestBatch.accumulateAndGet(writes.size(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.insertHistories(writes);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 사용자 100만 명의 투영 콜드 재구성 시간과 힙 사용량 측정
+ * - heap : 이벤트를 모두 넣고 GC 한 뒤의 사용 힙 (이벤트 + 투영 + 스냅샷)
+ * ./gradlew benchmark --tests '*EventSourcedPointRepositoryBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class EventSourcedPointRepositoryBenchmark {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final int EVENTS_PER_USER = 5;
+
+    @Test
+    @DisplayName("100만 사용자 투영 콜드 재구성 (스냅샷 간격별)")
+    void coldRebuildOfOneMillionUsers() {
+        for (int snapshotInterval : new int[]{1, 4, 100}) {
+            EventSourcedPointRepository repository = new EventSourcedPointRepository(snapshotInterval);
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                for (int i = 0; i < EVENTS_PER_USER; i++) {
+                    repository.insertHistory(userId, 100L, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+                }
+            }
+
+            long heapMb = usedHeapMb();
+
+            // 워밍업 후 측정
+            repository.rebuildProjections();
+            long start = System.nanoTime();
+            repository.rebuildProjections();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            log.info("users: {}, events/user: {}, snapshotInterval: {}, replayed/user: {}, rebuild: {} ms, heap: {} MB",
+                    USER_COUNT, EVENTS_PER_USER, snapshotInterval, repository.eventsSinceSnapshot(1L), elapsedMillis, heapMb);
+        }
+    }
+
+    private static long usedHeapMb() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+    }
+}
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSourcedPointRepositoryTest {
+
+    private final EventSourcedPointRepository repository = new EventSourcedPointRepository(3);
+
+    @Test
+    @DisplayName("잔액은 저장된 내역 이벤트로부터 계산된다")
+    void selectById_returnsBalanceProjectedFromEvents() {
+        // given
+        long userId = 1L;
+        repository.insertHistory(userId, 5_000L, TransactionType.CHARGE, 1L);
+        repository.insertHistory(userId, 1_000L, TransactionType.USE, 2L);
+        repository.insertHistory(userId, 500L, TransactionType.TRANSFER_IN, 3L);
+        repository.insertHistory(userId, 200L, TransactionType.TRANSFER_OUT, 4L);
+
+        // when
+        UserPoint result = repository.selectById(userId);
+
+        // then
+        assertEquals(4_300L, result.point());
+        assertEquals(4L, result.updateMillis());
+    }
+
+    @Test
+    @DisplayName("잔액 저장 후 내역 저장 전에 실패하면 잔액도 반영되지 않는다")
+    void insertOrUpdate_withoutHistory_doesNotChangeBalance() {
+        // given
+        long userId = 2L;
+        repository.insertHistory(userId, 1_000L, TransactionType.CHARGE, 1L);
+
+        // when: 내역 저장 전에 실패한 상황
+        UserPoint pending = repository.insertOrUpdate(userId, 3_000L);
+
+        // then
+        assertEquals(3_000L, pending.point());
+        assertEquals(1_000L, repository.selectById(userId).point());
+        assertEquals(1, repository.selectHistoriesByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("투영을 다시 만들면 스냅샷 이후 이벤트만 재생하여 같은 잔액이 된다")
+    void rebuildProjections_replaysOnlyEventsAfterSnapshot() {
+        // given: 스냅샷 간격 3, 이벤트 7개 → 스냅샷 6개 시점, 재생 1개
+        long userId = 3L;
+        for (int i = 0; i < 7; i++) {
+            repository.insertHistory(userId, 1_000L, TransactionType.CHARGE, i);
+        }
+        UserPoint before = repository.selectById(userId);
+
+        // when
+        repository.rebuildProjections();
+
+        // then
+        assertEquals(7_000L, before.point());
+        assertEquals(before, repository.selectById(userId));
+        assertEquals(1, repository.eventsSinceSnapshot(userId));
+    }
+
+    @Test
+    @DisplayName("이벤트가 없는 사용자는 0 포인트와 빈 내역을 반환한다")
+    void selectById_whenNoEvents_returnsEmptyPoint() {
+        assertEquals(0L, repository.selectById(99L).point());
+        assertTrue(repository.selectHistoriesByUserId(99L).isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package io.hhplus.tdd.database;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 헤지 읽기 사용 여부에 따른 selectById 지연 시간(p50/p99)과 추가 부하 비교
+ * 같은 시드의 log-normal 지연 모델(중앙값 5ms, 2% 확률로 20배 꼬리 지연)을 두 경우에 똑같이 적용한다.
+ * 측정 중 최대 스레드 수로 조회 스레드가 maxConcurrency 안에 머무는지도 본다.
+ * ./gradlew benchmark --tests '*HedgedReadBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class HedgedReadBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int READS_PER_THREAD = 500;
+    private static final PointStoreProperties.Latency LATENCY = new PointStoreProperties.Latency(
+            "log-normal", 42L, Duration.ofMillis(5), Duration.ZERO, Duration.ZERO, Duration.ZERO, 0.5, 0.02, 20);
+
+    @Test
+    @DisplayName("헤지 읽기 사용 전후 selectById p99 와 추가 조회 비율")
+    void compareTailLatency() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        Histogram plain = measure(simulated());
+        int plainPeakThreads = threads.getPeakThreadCount();
+        try (HedgedReadPointRepository hedged = new HedgedReadPointRepository(simulated(),
+                new PointStoreProperties.Hedge(true, 90, 10, 100, 1000, 64))) {
+            threads.resetPeakThreadCount();
+            Histogram withHedge = measure(hedged);
+            int hedgedPeakThreads = threads.getPeakThreadCount();
+
+            log.info("=== 헤지 읽기 (threads: {}, reads: {}) ===", THREADS, THREADS * READS_PER_THREAD);
+            log.info("plain  p50: {}ms, p99: {}ms, max: {}ms, peak threads: {}",
+                    millis(plain, 50), millis(plain, 99), plain.getMaxValue() / 1_000_000.0, plainPeakThreads);
+            log.info("hedged p50: {}ms, p99: {}ms, max: {}ms, peak threads: {}",
+                    millis(withHedge, 50), millis(withHedge, 99), withHedge.getMaxValue() / 1_000_000.0, hedgedPeakThreads);
+            log.info("p99 improvement: {}%, extra load: {}%",
+                    (1 - withHedge.getValueAtPercentile(99) / (double) plain.getValueAtPercentile(99)) * 100,
+                    hedged.extraLoadPercent());
+        }
+    }
+
+    private static PointRepository simulated() {
+        return new LatencyModelPointRepository(new InMemoryPointRepository(), LatencyModel.of(LATENCY), LATENCY);
+    }
+
+    private static Histogram measure(PointRepository repository) throws InterruptedException {
+        Histogram histogram = new Histogram(3);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            long userId = t + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < READS_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        repository.selectById(userId);
+                        long elapsed = System.nanoTime() - start;
+                        synchronized (histogram) {
+                            histogram.recordValue(elapsed);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        return histogram;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+}
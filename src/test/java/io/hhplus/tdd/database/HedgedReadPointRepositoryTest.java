@@ -0,0 +1,222 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgedReadPointRepositoryTest {
+
+    private static final long SLOW_MILLIS = 1_000L;
+
+    private final InMemoryPointRepository store = new InMemoryPointRepository();
+    private final AtomicInteger slowReads = new AtomicInteger();
+    private final AtomicInteger interruptedReads = new AtomicInteger();
+    private final Queue<Long> scriptedDelays = new ConcurrentLinkedQueue<>();
+    private final Set<String> readThreads = ConcurrentHashMap.newKeySet();
+    // true 이면 UserPointTable.throttle 처럼 인터럽트를 삼킨다
+    private volatile boolean swallowInterrupt;
+    private HedgedReadPointRepository repository;
+
+    /**
+     * slowReads 에 남은 수만큼 selectById 를 SLOW_MILLIS 동안 지연시키는 저장소
+     */
+    private final PointRepository slowOnDemand = new PointRepository() {
+        @Override
+        public UserPoint selectById(long userId) {
+            readThreads.add(Thread.currentThread().getName());
+            // 음수 지연은 그만큼 기다린 뒤 실패한다
+            Long scripted = scriptedDelays.poll();
+            if (scripted != null) {
+                sleep(Math.abs(scripted));
+                if (scripted < 0) {
+                    throw new IllegalStateException("조회 실패");
+                }
+            } else if (slowReads.getAndDecrement() > 0) {
+                sleep(SLOW_MILLIS);
+            }
+            return store.selectById(userId);
+        }
+
+        private void sleep(long millis) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(millis);
+            } catch (InterruptedException e) {
+                interruptedReads.incrementAndGet();
+                if (!swallowInterrupt) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long userId, long amount) {
+            return store.insertOrUpdate(userId, amount);
+        }
+
+        @Override
+        public PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+            return store.insertHistory(userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> selectHistoriesByUserId(long userId) {
+            return store.selectHistoriesByUserId(userId);
+        }
+    };
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("첫 조회가 기준 시간 안에 끝나지 않으면 두 번째 조회 결과를 먼저 반환한다")
+    void selectById_whenPrimaryIsSlow_returnsHedgedResult() {
+        // given
+        repository = new HedgedReadPointRepository(slowOnDemand, new PointStoreProperties.Hedge(true, 90, 100, 10, 100, 64));
+        store.insertOrUpdate(1L, 1_000L);
+        warmUp(100);
+        long hedgedBefore = repository.hedgedReads();
+        slowReads.set(1);
+
+        // when
+        long start = System.nanoTime();
+        UserPoint result = repository.selectById(1L);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertEquals(1_000L, result.point());
+        assertTrue(elapsedMillis < SLOW_MILLIS / 2, "헤지 조회가 먼저 끝나야 합니다. (" + elapsedMillis + "ms)");
+        assertEquals(hedgedBefore + 1, repository.hedgedReads());
+    }
+
+    @Test
+    @DisplayName("헤지 조회가 먼저 끝나면 느린 첫 조회는 인터럽트로 취소된다")
+    void selectById_whenHedgeWins_cancelsPrimary() throws InterruptedException {
+        // given
+        repository = new HedgedReadPointRepository(slowOnDemand, new PointStoreProperties.Hedge(true, 90, 100, 10, 100, 64));
+        warmUp(100);
+        slowReads.set(1);
+
+        // when
+        repository.selectById(1L);
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (interruptedReads.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, interruptedReads.get());
+    }
+
+    @Test
+    @DisplayName("저장소가 인터럽트를 삼켜도 취소된 조회의 시간은 표본에 남지 않는다")
+    void selectById_whenStoreSwallowsInterrupt_skipsCancelledSample() throws InterruptedException {
+        // given
+        repository = new HedgedReadPointRepository(slowOnDemand, new PointStoreProperties.Hedge(true, 90, 100, 10, 100, 64));
+        warmUp(100);
+        long samplesBefore = repository.recordedSamples();
+        swallowInterrupt = true;
+        slowReads.set(1);
+
+        // when
+        repository.selectById(1L);
+
+        // then: 헤지 조회 한 건만 남는다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (interruptedReads.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertEquals(1, interruptedReads.get());
+        assertEquals(samplesBefore + 1, repository.recordedSamples());
+    }
+
+    @Test
+    @DisplayName("첫 조회가 헤지 조회보다 먼저 실패해도 헤지 조회가 성공하면 그 결과를 반환한다")
+    void selectById_whenPrimaryFailsFirst_returnsHedgeSuccess() {
+        // given: 첫 조회는 100ms 뒤 실패, 헤지 조회는 300ms 뒤 성공
+        repository = new HedgedReadPointRepository(slowOnDemand, new PointStoreProperties.Hedge(true, 90, 100, 10, 100, 64));
+        store.insertOrUpdate(1L, 1_000L);
+        warmUp(100);
+        scriptedDelays.add(-100L);
+        scriptedDelays.add(300L);
+
+        // when
+        UserPoint result = repository.selectById(1L);
+
+        // then
+        assertEquals(1_000L, result.point());
+    }
+
+    @Test
+    @DisplayName("기준 시간이 정해지기 전에는 조회 스레드를 거치지 않고 호출 스레드에서 조회한다")
+    void selectById_beforeThreshold_readsOnCallerThread() {
+        // given
+        repository = new HedgedReadPointRepository(slowOnDemand, new PointStoreProperties.Hedge(true, 90, 10, 100, 1000, 64));
+
+        // when
+        warmUp(10);
+
+        // then
+        assertEquals(Set.of(Thread.currentThread().getName()), readThreads);
+    }
+
+    @Test
+    @DisplayName("예산이 0이면 첫 조회가 느려도 두 번째 조회를 보내지 않는다")
+    void selectById_withoutBudget_doesNotHedge() {
+        // given: 예산 0%로 초기 토큰(10개)을 모두 쓸 때까지 느린 조회를 발생시킨다
+        repository = new HedgedReadPointRepository(slowOnDemand, new PointStoreProperties.Hedge(true, 90, 0, 10, 100, 64));
+        warmUp(100);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            slowReads.set(1);
+            repository.selectById(1L);
+        }
+        slowReads.set(1);
+        long start = System.nanoTime();
+        repository.selectById(1L);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertTrue(elapsedMillis >= SLOW_MILLIS - 100);
+        assertEquals(10, repository.hedgedReads());
+        assertTrue(repository.extraLoadPercent() < 10.0);
+    }
+
+    @Test
+    @DisplayName("조회 시간 표본이 최소 수에 못 미치면 헤지하지 않는다")
+    void selectById_beforeMinSamples_doesNotHedge() {
+        // given
+        repository = new HedgedReadPointRepository(slowOnDemand, new PointStoreProperties.Hedge(true, 90, 10, 100, 1000, 64));
+        warmUp(10);
+
+        // when
+        UserPoint result = repository.selectById(1L);
+
+        // then
+        assertEquals(0L, result.point());
+        assertEquals(Long.MAX_VALUE, repository.thresholdNanos());
+        assertEquals(0, repository.hedgedReads());
+    }
+
+    private void warmUp(int reads) {
+        for (int i = 0; i < reads; i++) {
+            repository.selectById(1L);
+        }
+    }
+}
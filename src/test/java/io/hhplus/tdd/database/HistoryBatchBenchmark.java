@@ -0,0 +1,122 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 묶음 크기와 linger 에 따른 내역 저장 처리량과 p99 지연 시간
+ * 쓰기 한 번(묶음 한 번)에 고정 1ms 가 걸리고 쓰기를 한 번에 하나씩만 받는 저장소(연결 하나짜리 DB 와 같은 조건)에
+ * 64 스레드가 계속 내역을 저장한다.
+ * ./gradlew benchmark --tests '*HistoryBatchBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class HistoryBatchBenchmark {
+
+    private static final int THREADS = 64;
+    private static final long MEASURE_MILLIS = 2_000L;
+    private static final int[] MAX_SIZES = {1, 8, 32, 128};
+    private static final Duration[] LINGERS = {Duration.ZERO, Duration.ofMillis(1), Duration.ofMillis(5)};
+    private static final PointStoreProperties.Latency LATENCY = new PointStoreProperties.Latency(
+            "fixed", 42L, Duration.ZERO, Duration.ZERO, Duration.ofMillis(1), Duration.ZERO, 0.5, 0.0, 1);
+
+    @Test
+    @DisplayName("묶음 크기와 linger 에 따른 내역 저장 처리량")
+    void throughputByBatchSizeAndLinger() throws Exception {
+        log.info("=== 내역 묶음 저장 (threads: {}, 쓰기 1회 1ms) ===", THREADS);
+        Result direct = measure(simulated());
+        log.info("묶음 없음 | writes/s: {}, p99: {}ms", direct.writesPerSecond(), direct.p99Millis());
+        for (int maxSize : MAX_SIZES) {
+            for (Duration linger : LINGERS) {
+                try (BatchedHistoryPointRepository batched = new BatchedHistoryPointRepository(simulated(),
+                        new PointStoreProperties.HistoryBatch(true, maxSize, linger))) {
+                    Result result = measure(batched);
+                    log.info("maxSize: {}, linger: {}ms | writes/s: {}, p99: {}ms, 평균 묶음 크기: {}",
+                            maxSize, linger.toMillis(), result.writesPerSecond(), result.p99Millis(),
+                            String.format("%.1f", batched.averageBatchSize()));
+                }
+            }
+        }
+    }
+
+    private static PointRepository simulated() {
+        return new SingleWriterRepository(new LatencyModelPointRepository(new InMemoryPointRepository(), LatencyModel.of(LATENCY), LATENCY));
+    }
+
+    private static Result measure(PointRepository repository) throws InterruptedException {
+        Histogram histogram = new Histogram(3);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch latch = new CountDownLatch(THREADS);
+        LongAdder writes = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MEASURE_MILLIS);
+        for (int t = 0; t < THREADS; t++) {
+            long userId = t + 1;
+            executorService.submit(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        repository.insertHistory(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+                        long elapsed = System.nanoTime() - start;
+                        synchronized (histogram) {
+                            histogram.recordValue(elapsed);
+                        }
+                        writes.increment();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        return new Result(writes.sum() * 1_000L / MEASURE_MILLIS, histogram.getValueAtPercentile(99) / 1_000_000.0);
+    }
+
+    private record Result(long writesPerSecond, double p99Millis) {
+    }
+
+    /**
+     * 내역 쓰기를 한 번에 하나씩만 처리하는 저장소
+     */
+    private record SingleWriterRepository(PointRepository delegate) implements PointRepository {
+
+        @Override
+        public UserPoint selectById(long userId) {
+            return delegate.selectById(userId);
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long userId, long amount) {
+            return delegate.insertOrUpdate(userId, amount);
+        }
+
+        @Override
+        public synchronized PointHistory insertHistory(long userId, long amount, TransactionType type, long updateMillis) {
+            return delegate.insertHistory(userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public synchronized List<PointHistory> insertHistories(List<HistoryWrite> writes) {
+            return delegate.insertHistories(writes);
+        }
+
+        @Override
+        public List<PointHistory> selectHistoriesByUserId(long userId) {
+            return delegate.selectHistoriesByUserId(userId);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryIdIndexTest {
+
+    private final HistoryIdIndex index = new HistoryIdIndex();
+
+    @Test
+    @DisplayName("여러 사용자의 내역을 id 순서로 범위와 건수에 맞춰 돌려주고, 지운 내역은 건너뛴다")
+    void read_returnsHistoriesInIdOrderSkippingRemoved() {
+        // given
+        for (long id = 1; id <= 10; id++) {
+            index.add(history(id, id % 3));
+        }
+        index.remove(history(4L, 1L));
+
+        // when & then
+        assertEquals(List.of(2L, 3L, 5L), ids(index.read(2L, 10L, 3)));
+        assertEquals(List.of(9L, 10L), ids(index.read(9L, Long.MAX_VALUE, 100)));
+        assertEquals(List.of(), ids(index.read(11L, Long.MAX_VALUE, 100)));
+    }
+
+    @Test
+    @DisplayName("id 를 받고 아직 색인에 들어오지 않은 내역이 있으면 그 앞에서 멈추고, 들어온 뒤 이어서 읽는다")
+    void read_stopsBeforeUnpublishedId() {
+        // given: 3 번은 아직 저장 중
+        index.add(history(1L, 1L));
+        index.add(history(2L, 1L));
+        index.add(history(4L, 2L));
+
+        // when
+        List<PointHistory> first = index.read(1L, Long.MAX_VALUE, 100);
+        index.add(history(3L, 3L));
+        List<PointHistory> resumed = index.read(first.get(first.size() - 1).id() + 1, Long.MAX_VALUE, 100);
+
+        // then
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(3L, 4L), ids(resumed));
+    }
+
+    @Test
+    @DisplayName("칸이 모두 지워진 페이지는 버리고, 남은 내역은 그대로 읽는다")
+    void remove_wholePage_dropsPage() {
+        // given
+        int count = HistoryIdIndex.PAGE_SIZE + 10;
+        for (long id = 1; id <= count; id++) {
+            index.add(history(id, 1L));
+        }
+
+        // when
+        for (long id = 1; id <= HistoryIdIndex.PAGE_SIZE; id++) {
+            index.remove(history(id, 1L));
+        }
+
+        // then
+        assertEquals(1, index.pageCount());
+        List<PointHistory> histories = index.read(1L, Long.MAX_VALUE, 100);
+        assertEquals(10, histories.size());
+        assertEquals(HistoryIdIndex.PAGE_SIZE + 1L, histories.get(0).id());
+    }
+
+    @Test
+    @DisplayName("앞쪽 id 가 아직 색인에 없으면 다 지운 페이지도 남겨 두고, published 가 지나갈 때 버린다")
+    void remove_wholePageAbovePublished_dropsOnceReadPassesIt() {
+        // given: 5 번은 아직 저장 중
+        int count = HistoryIdIndex.PAGE_SIZE * 2;
+        for (long id = 1; id <= count; id++) {
+            if (id != 5L) {
+                index.add(history(id, 1L));
+            }
+        }
+        for (long id = HistoryIdIndex.PAGE_SIZE + 1; id <= count; id++) {
+            index.remove(history(id, 1L));
+        }
+        assertEquals(2, index.pageCount());
+
+        // when
+        index.add(history(5L, 1L));
+        List<PointHistory> histories = index.read(1L, Long.MAX_VALUE, Integer.MAX_VALUE);
+
+        // then
+        assertEquals(HistoryIdIndex.PAGE_SIZE, histories.size());
+        assertEquals(1, index.pageCount());
+    }
+
+    @Test
+    @DisplayName("저장소의 전체 내역 순회는 묶음 크기를 넘는 내역도 id 순서로 돌려주고, 압축된 내역은 제외한다")
+    void iterateHistoriesByIdRange_readsInChunksAndSkipsCompacted() {
+        // given
+        InMemoryPointRepository repository = new InMemoryPointRepository();
+        int count = IdRangeHistoryIterator.CHUNK_SIZE * 2 + 10;
+        for (int i = 0; i < count; i++) {
+            repository.insertHistory(i % 7 + 1, 100L, TransactionType.CHARGE, i < 100 ? 0L : System.currentTimeMillis());
+        }
+        repository.compactHistoriesBefore(1L, ZoneId.systemDefault());
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        repository.iterateHistoriesByIdRange(1L, Long.MAX_VALUE).forEachRemaining(history -> ids.add(history.id()));
+
+        // then
+        assertEquals(count - 100, ids.size());
+        assertEquals(101L, ids.get(0).longValue());
+        for (int i = 1; i < ids.size(); i++) {
+            assertEquals(ids.get(i - 1) + 1, ids.get(i).longValue());
+        }
+    }
+
+    @Test
+    @DisplayName("내보내는 동안 다른 스레드가 계속 저장해도 막히지 않고, 마지막 id + 1 부터 이어 받으면 빠지는 내역이 없다")
+    void iterateHistoriesByIdRange_whileInserting_resumesWithoutGaps() throws InterruptedException {
+        // given
+        InMemoryPointRepository repository = new InMemoryPointRepository();
+        int threadCount = 8;
+        int perThread = 2_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            long userId = t + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        repository.insertHistory(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when: 저장이 끝날 때까지 마지막 id + 1 부터 반복해서 이어 받는다
+        List<Long> exported = new ArrayList<>();
+        long fromId = 1L;
+        boolean finished = false;
+        while (!finished) {
+            finished = done.getCount() == 0;
+            Iterator<PointHistory> histories = repository.iterateHistoriesByIdRange(fromId, Long.MAX_VALUE);
+            while (histories.hasNext()) {
+                long id = histories.next().id();
+                exported.add(id);
+                fromId = id + 1;
+            }
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // then
+        assertEquals(threadCount * perThread, exported.size());
+        for (int i = 0; i < exported.size(); i++) {
+            assertEquals(i + 1L, exported.get(i).longValue());
+        }
+    }
+
+    private static PointHistory history(long id, long userId) {
+        return new PointHistory(id, userId, 100L, TransactionType.CHARGE, id);
+    }
+
+    private static List<Long> ids(List<PointHistory> histories) {
+        return histories.stream().map(PointHistory::id).toList();
+    }
+}
@@ -0,0 +1,128 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.DailyRollup;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryRetentionJobTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2024, 3, 31, 15, 0, 0, 0, ZONE);
+
+    private final PartitionedPointRepository repository = new PartitionedPointRepository(2);
+    private final HistoryRetentionJob job = new HistoryRetentionJob(repository,
+            new RetentionProperties(true, Duration.ofDays(30), Duration.ofHours(1)),
+            Clock.fixed(NOW.toInstant(), ZONE));
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    @DisplayName("기준 시각은 (현재 - 보관 기간)이 속한 날의 시작으로 맞춘다")
+    void cutoffMillis_alignsToStartOfDay() {
+        // when
+        long cutoffMillis = job.cutoffMillis();
+
+        // then
+        assertEquals(LocalDate.of(2024, 3, 1).atStartOfDay(ZONE).toInstant().toEpochMilli(), cutoffMillis);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 1일보다 짧으면 일일 충전 한도 계산이 틀어지므로 거절한다")
+    void constructor_withRetainForShorterThanOneDay_throwsException() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new HistoryRetentionJob(repository,
+                new RetentionProperties(true, Duration.ofHours(12), Duration.ofHours(1)),
+                Clock.fixed(NOW.toInstant(), ZONE)));
+    }
+
+    @Test
+    @DisplayName("압축 후에도 날짜·거래 종류별 합계는 그대로이고, 최근 내역만 원본으로 남는다")
+    void compactNow_keepsTotalsAndRecentEntries() {
+        // given
+        long userId = 1L;
+        insert(userId, 1_000L, TransactionType.CHARGE, NOW.minusDays(40));
+        insert(userId, 2_000L, TransactionType.CHARGE, NOW.minusDays(40).plusMinutes(1));
+        insert(userId, 500L, TransactionType.USE, NOW.minusDays(40).plusMinutes(2));
+        insert(userId, 3_000L, TransactionType.CHARGE, NOW.minusDays(35));
+        insert(userId, 700L, TransactionType.USE, NOW.minusDays(1));
+        insert(userId, 100L, TransactionType.CHARGE, NOW);
+        List<DailyRollup> before = repository.selectDailyRollupsByUserId(userId, ZONE);
+
+        // when
+        CompactionResult result = job.compactNow();
+
+        // then
+        assertEquals(CompactionResult.of(4, 3), result);
+        assertEquals(result, job.lastResult());
+        assertEquals(before, repository.selectDailyRollupsByUserId(userId, ZONE));
+        assertEquals(List.of(700L, 100L),
+                repository.selectHistoriesByUserId(userId).stream().map(PointHistory::amount).toList());
+    }
+
+    @Test
+    @DisplayName("이미 압축된 날짜의 내역은 기존 요약에 더해지고, 다시 실행해도 합계가 바뀌지 않는다")
+    void compactNow_repeatedly_mergesIntoExistingRollups() {
+        // given
+        long userId = 1L;
+        insert(userId, 1_000L, TransactionType.CHARGE, NOW.minusDays(40));
+        job.compactNow();
+        insert(userId, 2_000L, TransactionType.CHARGE, NOW.minusDays(40).plusHours(1));
+
+        // when
+        CompactionResult merged = job.compactNow();
+        CompactionResult repeated = job.compactNow();
+
+        // then
+        assertEquals(1, merged.entriesRemoved());
+        assertEquals(0, merged.rollupsAdded());
+        assertEquals(CompactionResult.EMPTY, repeated);
+        List<DailyRollup> days = repository.selectDailyRollupsByUserId(userId, ZONE);
+        assertEquals(List.of(new DailyRollup(userId, NOW.minusDays(40).toLocalDate(), TransactionType.CHARGE, 2, 3_000L)), days);
+    }
+
+    @Test
+    @DisplayName("순회 중에 앞쪽 내역이 압축되어도 남은 내역을 건너뛰지 않는다")
+    void iterateHistories_whileCompacting_doesNotSkipRecentEntries() {
+        // given
+        long userId = 1L;
+        int oldCount = ChunkedHistoryIterator.CHUNK_SIZE + 10;
+        for (int i = 0; i < oldCount; i++) {
+            insert(userId, 1L, TransactionType.CHARGE, NOW.minusDays(40));
+        }
+        for (int i = 0; i < ChunkedHistoryIterator.CHUNK_SIZE; i++) {
+            insert(userId, 2L, TransactionType.CHARGE, NOW);
+        }
+        Iterator<PointHistory> iterator = repository.iterateHistoriesByUserId(userId);
+        iterator.next();
+
+        // when
+        job.compactNow();
+        List<PointHistory> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+
+        // then
+        assertEquals(ChunkedHistoryIterator.CHUNK_SIZE,
+                rest.stream().filter(history -> history.amount() == 2L).count());
+    }
+
+    private void insert(long userId, long amount, TransactionType type, ZonedDateTime at) {
+        repository.insertHistory(userId, amount, type, at.toInstant().toEpochMilli());
+    }
+}
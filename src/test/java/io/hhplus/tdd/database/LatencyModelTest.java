@@ -0,0 +1,99 @@
+package io.hhplus.tdd.database;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyModelTest {
+
+    private static final long BASE_NANOS = 1_000_000L;
+
+    private static PointStoreProperties.Latency latency(String model, long seed) {
+        return new PointStoreProperties.Latency(model, seed, Duration.ofMillis(1), Duration.ofMillis(1),
+                Duration.ofMillis(1), Duration.ZERO, 0.5, 0.01, 20);
+    }
+
+    @Test
+    @DisplayName("같은 시드의 저장소는 실행할 때마다 같은 지연 시간 순서를 만든다")
+    void sameSeed_producesIdenticalSequence() {
+        // given
+        LatencyModelPointRepository first = repository("log-normal", 7L);
+        LatencyModelPointRepository second = repository("log-normal", 7L);
+        LatencyModelPointRepository otherSeed = repository("log-normal", 8L);
+
+        // when
+        List<Long> firstDelays = delays(first, 1_000);
+        List<Long> secondDelays = delays(second, 1_000);
+        List<Long> otherDelays = delays(otherSeed, 1_000);
+
+        // then
+        assertEquals(firstDelays, secondDelays);
+        assertNotEquals(firstDelays, otherDelays);
+    }
+
+    @Test
+    @DisplayName("zero 는 0, fixed 는 기준 지연 시간, uniform 은 0 ~ 기준 지연 시간 사이 값을 낸다")
+    void simpleModels_respectBounds() {
+        // given
+        LatencyModel zero = LatencyModel.of(latency("zero", 1L));
+        LatencyModel fixed = LatencyModel.of(latency("fixed", 1L));
+        LatencyModel uniform = LatencyModel.of(latency("uniform", 1L));
+
+        // when & then
+        long uniformSum = 0;
+        for (long key = 0; key < 10_000; key++) {
+            assertEquals(0L, zero.delayNanos(BASE_NANOS, key));
+            assertEquals(BASE_NANOS, fixed.delayNanos(BASE_NANOS, key));
+            long delay = uniform.delayNanos(BASE_NANOS, LatencyModel.mix(key));
+            assertTrue(delay >= 0 && delay < BASE_NANOS);
+            uniformSum += delay;
+        }
+        assertEquals(BASE_NANOS / 2.0, uniformSum / 10_000.0, BASE_NANOS * 0.02);
+    }
+
+    @Test
+    @DisplayName("log-normal 은 중앙값이 기준 지연 시간이고, 설정한 확률만큼 꼬리 지연이 생긴다")
+    void logNormal_hasConfiguredMedianAndTail() {
+        // given
+        LatencyModel model = LatencyModel.of(latency("log-normal", 3L));
+        long[] delays = new long[100_000];
+
+        // when
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = model.delayNanos(BASE_NANOS, LatencyModel.mix(i));
+        }
+
+        // then
+        long[] sorted = delays.clone();
+        Arrays.sort(sorted);
+        assertEquals(BASE_NANOS, sorted[sorted.length / 2], BASE_NANOS * 0.05);
+        // sigma 0.5 에서 10배 이상은 사실상 꼬리 지연(확률 0.01)에서만 나온다
+        long spikes = Arrays.stream(delays).filter(delay -> delay > BASE_NANOS * 10).count();
+        assertEquals(0.01, spikes / (double) delays.length, 0.003);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 지연 모델 이름이면 예외가 발생한다")
+    void unknownModel_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyModel.of(latency("gaussian", 1L)));
+    }
+
+    private static LatencyModelPointRepository repository(String model, long seed) {
+        PointStoreProperties.Latency latency = latency(model, seed);
+        return new LatencyModelPointRepository(new InMemoryPointRepository(), LatencyModel.of(latency), latency);
+    }
+
+    private static List<Long> delays(LatencyModelPointRepository repository, int count) {
+        List<Long> delays = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            delays.add(repository.nextDelayNanos(repository.selectByIdOperation()));
+        }
+        return delays;
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파티션 수(1 ~ CPU 코어 수)에 따른 처리량 측정
+ * ./gradlew benchmark --tests '*PartitionedPointRepositoryBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class PartitionedPointRepositoryBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+    private static final long MEASURE_MILLIS = 3_000L;
+
+    @Test
+    @DisplayName("파티션 수에 따른 충전 연산(조회 + 잔액 저장 + 내역 저장) 처리량")
+    void throughputByPartitionCount() throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        log.info("=== 파티션 저장소 확장성 (cores: {}) ===", cores);
+        for (int partitions = 1; partitions <= cores; partitions *= 2) {
+            run(partitions, cores);
+        }
+        if (Integer.bitCount(cores) != 1) {
+            run(cores, cores);
+        }
+    }
+
+    private void run(int partitions, int threads) throws InterruptedException {
+        PartitionedPointRepository repository = new PartitionedPointRepository(partitions);
+        // 워밍업
+        measure(repository, threads, 1_000L);
+        long operations = measure(repository, threads, MEASURE_MILLIS);
+        log.info("partitions: {}, threads: {}, ops/s: {}", partitions, threads, operations * 1_000L / MEASURE_MILLIS);
+    }
+
+    private long measure(PartitionedPointRepository repository, int threads, long millis) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        LongAdder operations = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executorService.submit(() -> {
+                try {
+                    long userId = offset + 1;
+                    while (System.nanoTime() < deadline) {
+                        long current = repository.selectById(userId).point();
+                        repository.insertOrUpdate(userId, current + 100L);
+                        repository.insertHistory(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+                        operations.increment();
+                        userId = (userId + threads) % USER_COUNT + 1;
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        return operations.sum();
+    }
+}
@@ -0,0 +1,128 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedPointRepositoryTest {
+
+    private final PartitionedPointRepository repository = new PartitionedPointRepository(4);
+
+    @Test
+    @DisplayName("저장된 적 없는 사용자를 조회하면 0 포인트를 반환한다")
+    void selectById_whenUserNotExists_returnsEmptyPoint() {
+        // when
+        UserPoint result = repository.selectById(7L);
+
+        // then
+        assertEquals(7L, result.id());
+        assertEquals(0L, result.point());
+    }
+
+    @Test
+    @DisplayName("저장한 잔액과 내역은 해당 사용자로만 조회된다")
+    void insert_thenSelect_returnsOnlyOwnData() {
+        // given
+        repository.insertOrUpdate(1L, 1_000L);
+        repository.insertOrUpdate(2L, 2_000L);
+        repository.insertHistory(1L, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        repository.insertHistory(2L, 2_000L, TransactionType.CHARGE, System.currentTimeMillis());
+
+        // when & then
+        assertEquals(1_000L, repository.selectById(1L).point());
+        assertEquals(2_000L, repository.selectById(2L).point());
+        List<PointHistory> histories = repository.selectHistoriesByUserId(1L);
+        assertEquals(1, histories.size());
+        assertEquals(1L, histories.get(0).userId());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 내역을 저장해도 ID는 전역에서 겹치지 않고 사용자별로 증가한다")
+    void insertHistory_concurrently_generatesUniqueIncreasingIds() throws InterruptedException {
+        // given
+        int threadCount = 8;
+        int insertsPerThread = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < insertsPerThread; j++) {
+                        ids.add(repository.insertHistory(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis()).id());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // then
+        assertEquals(threadCount * insertsPerThread, ids.size());
+        List<PointHistory> histories = repository.selectHistoriesByUserId(1L);
+        for (int i = 1; i < histories.size(); i++) {
+            assertTrue(histories.get(i - 1).id() < histories.get(i).id());
+        }
+    }
+
+    @Test
+    @DisplayName("여러 파티션에 걸친 내역을 한 번에 저장하면 입력 순서대로 돌려주고 각 사용자 내역에 저장된다")
+    void insertHistories_acrossPartitions_returnsInInputOrder() {
+        // given
+        List<HistoryWrite> writes = new ArrayList<>();
+        for (long userId = 1; userId <= 10; userId++) {
+            writes.add(new HistoryWrite(userId, userId * 100L, TransactionType.CHARGE, userId));
+        }
+
+        // when
+        List<PointHistory> histories = repository.insertHistories(writes);
+
+        // then
+        assertEquals(writes.size(), histories.size());
+        for (int i = 0; i < writes.size(); i++) {
+            assertEquals(writes.get(i).userId(), histories.get(i).userId());
+            assertEquals(writes.get(i).amount(), histories.get(i).amount());
+            assertEquals(List.of(histories.get(i)), repository.selectHistoriesByUserId(writes.get(i).userId()));
+        }
+    }
+
+    @Test
+    @DisplayName("내역 반복자는 묶음 크기를 넘는 내역도 순서대로 돌려주고, 생성 이후 추가된 내역은 포함하지 않는다")
+    void iterateHistoriesByUserId_readsInChunksUpToSnapshot() {
+        // given
+        int count = ChunkedHistoryIterator.CHUNK_SIZE * 2 + 10;
+        for (int i = 0; i < count; i++) {
+            repository.insertHistory(3L, i + 1, TransactionType.CHARGE, i);
+        }
+
+        // when
+        Iterator<PointHistory> iterator = repository.iterateHistoriesByUserId(3L);
+        repository.insertHistory(3L, 999_999L, TransactionType.USE, count);
+        List<PointHistory> iterated = new ArrayList<>();
+        iterator.forEachRemaining(iterated::add);
+
+        // then
+        assertEquals(count, iterated.size());
+        assertEquals(repository.selectHistoriesByUserId(3L).subList(0, count), iterated);
+        assertFalse(repository.iterateHistoriesByUserId(4L).hasNext());
+    }
+}
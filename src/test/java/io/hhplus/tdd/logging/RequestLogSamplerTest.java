@@ -0,0 +1,61 @@
+package io.hhplus.tdd.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogSamplerTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    private final RequestLogSampler sampler = new RequestLogSampler(new RequestLogProperties(
+            true, 16, 0.0, Map.of("/point/{id}/charge", 1.0), Duration.ofMillis(500)));
+
+    @Test
+    @DisplayName("오류 응답과 예외는 표본 비율과 관계없이 항상 기록한다")
+    void decide_withError_alwaysLogs() {
+        assertEquals(RequestLogSampler.Reason.ERROR, sampler.decide("/point/{id}", 400, false, FAST));
+        assertEquals(RequestLogSampler.Reason.ERROR, sampler.decide("/point/{id}", 500, false, FAST));
+        assertEquals(RequestLogSampler.Reason.ERROR, sampler.decide("/point/{id}", 200, true, FAST));
+    }
+
+    @Test
+    @DisplayName("기준 시간 이상 걸린 요청은 항상 기록한다")
+    void decide_withSlowRequest_alwaysLogs() {
+        assertEquals(RequestLogSampler.Reason.SLOW,
+                sampler.decide("/point/{id}", 200, false, Duration.ofMillis(500).toNanos()));
+    }
+
+    @Test
+    @DisplayName("정상 요청은 엔드포인트별 비율에 따라 기록한다")
+    void decide_withNormalRequest_usesEndpointSampleRate() {
+        assertEquals(RequestLogSampler.Reason.SAMPLED, sampler.decide("/point/{id}/charge", 200, false, FAST));
+        assertNull(sampler.decide("/point/{id}", 200, false, FAST));
+        assertNull(sampler.decide(null, 200, false, FAST));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 로그를 버리고 버린 개수를 센다")
+    void submit_whenBufferFull_dropsEntry() {
+        // given: 기록 스레드가 꺼내기 전에 넣을 수 있도록 큰 묶음으로 제출
+        try (AsyncRequestLogger logger = new AsyncRequestLogger(1)) {
+            RequestLogEntry entry = new RequestLogEntry("GET", "/point/1", 200, FAST, null, null, RequestLogSampler.Reason.SAMPLED);
+
+            // when
+            int accepted = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (logger.submit(entry)) {
+                    accepted++;
+                }
+            }
+
+            // then
+            assertEquals(10_000, accepted + logger.droppedCount());
+            assertTrue(logger.droppedCount() > 0);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 요청당 로그 비용 비교: 요청마다 동기 INFO 로그 vs 표본 추출 + 비동기 기록
+ * ./gradlew benchmark --tests '*RequestLoggingBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class RequestLoggingBenchmark {
+
+    private static final Logger syncLog = LoggerFactory.getLogger("benchmark.sync-request-log");
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("요청당 로그 비용 (ns/request)")
+    void perRequestLoggingCost() {
+        RequestLogSampler sampler = new RequestLogSampler(new RequestLogProperties(
+                true, 8192, 0.01, Map.of(), Duration.ofMillis(500)));
+
+        try (AsyncRequestLogger asyncLogger = new AsyncRequestLogger(8192)) {
+            for (int round = 0; round < 2; round++) {
+                long before = measure(() -> syncLog.info("포인트 충전 요청 - userId: {}, amount: {}", 1L, 1_000L));
+                long after = measure(() -> {
+                    RequestLogSampler.Reason reason = sampler.decide("/point/{id}/charge", 200, false, 1_000L);
+                    if (reason != null) {
+                        asyncLogger.submit(new RequestLogEntry("PATCH", "/point/1/charge", 200, 1_000L, 1_000L, null, reason));
+                    }
+                });
+                log.info("round {} - sync INFO: {} ns/request, sampled async: {} ns/request, dropped: {}",
+                        round, before, after, asyncLogger.droppedCount());
+            }
+        }
+    }
+
+    private long measure(Runnable logging) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            logging.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
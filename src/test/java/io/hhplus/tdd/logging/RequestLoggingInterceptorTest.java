@@ -0,0 +1,71 @@
+package io.hhplus.tdd.logging;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLoggingInterceptorTest {
+
+    private final List<RequestLogEntry> entries = new ArrayList<>();
+    private final AsyncRequestLogger requestLogger = new AsyncRequestLogger(16) {
+        @Override
+        public boolean submit(RequestLogEntry entry) {
+            entries.add(entry);
+            return true;
+        }
+    };
+    private final RequestLoggingInterceptor interceptor = new RequestLoggingInterceptor(
+            new RequestLogSampler(new RequestLogProperties(true, 16, 1.0, Map.of(), Duration.ofSeconds(10))),
+            requestLogger);
+
+    @Test
+    @DisplayName("비동기 요청은 재디스패치에서 한 번만 기록하고, 처음 디스패치부터 잰 전체 시간을 남긴다")
+    void asyncRequest_logsOnceWithTimeFromFirstDispatch() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/point/1/stream");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/point/{id}/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        Thread.sleep(50);
+
+        // when: 비동기 처리가 끝나 재디스패치된다
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0).elapsedNanos() >= Duration.ofMillis(50).toNanos());
+        requestLogger.close();
+    }
+
+    @Test
+    @DisplayName("읽은 요청 본문(충전 금액)을 로그 항목에 함께 남긴다")
+    void afterCompletion_includesRequestBody() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/point/1/charge");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/point/{id}/charge");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        request.setAttribute(RequestLoggingInterceptor.BODY_ATTRIBUTE, 1_000L);
+
+        // when
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        assertEquals(1, entries.size());
+        assertEquals(1_000L, entries.get(0).requestBody());
+        requestLogger.close();
+    }
+}
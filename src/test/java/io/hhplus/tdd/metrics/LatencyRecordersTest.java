@@ -0,0 +1,80 @@
+package io.hhplus.tdd.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecordersTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LatencyRecorders recorders = new LatencyRecorders(
+            new LatencyProperties(true, List.of(Duration.ofMillis(1), Duration.ofMillis(10)), Duration.ofSeconds(60), 3),
+            meterRegistry
+    );
+
+    @Test
+    @DisplayName("기록된 지연 시간의 분위수와 SLO 달성률을 정확하게 계산한다")
+    void snapshot_returnsExactPercentilesAndSloAttainment() {
+        // given: 0.5ms 900건, 5ms 90건, 50ms 10건
+        for (int i = 0; i < 900; i++) {
+            recorders.record("store selectById", MILLIS / 2);
+        }
+        for (int i = 0; i < 90; i++) {
+            recorders.record("store selectById", 5 * MILLIS);
+        }
+        for (int i = 0; i < 10; i++) {
+            recorders.record("store selectById", 50 * MILLIS);
+        }
+
+        // when
+        LatencySnapshot snapshot = recorders.snapshot().get("store selectById");
+
+        // then
+        assertEquals(1_000, snapshot.count());
+        assertEquals(0.5, snapshot.p50Millis(), 0.01);
+        assertEquals(5.0, snapshot.p99Millis(), 0.01);
+        assertEquals(50.0, snapshot.p999Millis(), 0.1);
+        assertEquals(90.0, snapshot.sloAttainment().get("1ms"), 0.01);
+        assertEquals(99.0, snapshot.sloAttainment().get("10ms"), 0.01);
+    }
+
+    @Test
+    @DisplayName("초기화하면 그때까지의 분포를 반환하고 이후 조회는 새 구간부터 집계한다")
+    void snapshotAndReset_startsNewInterval() {
+        // given
+        recorders.record("http GET /point/{id}", 3 * MILLIS);
+        recorders.record("http GET /point/{id}", 3 * MILLIS);
+
+        // when
+        Map<String, LatencySnapshot> previous = recorders.snapshotAndReset();
+        recorders.record("http GET /point/{id}", 7 * MILLIS);
+        Map<String, LatencySnapshot> current = recorders.snapshot();
+
+        // then
+        assertEquals(2, previous.get("http GET /point/{id}").count());
+        assertEquals(1, current.get("http GET /point/{id}").count());
+        assertEquals(7.0, current.get("http GET /point/{id}").maxMillis(), 0.01);
+    }
+
+    @Test
+    @DisplayName("연산별 Timer 가 SLO 경계를 버킷으로 가진 채 등록된다")
+    void record_registersTimerWithSloBuckets() {
+        // when
+        recorders.record("store insertHistory", 2 * MILLIS);
+
+        // then
+        Timer timer = meterRegistry.get("point.latency").tag("operation", "store insertHistory").timer();
+        assertEquals(1, timer.count());
+        assertEquals(2, timer.takeSnapshot().histogramCounts().length);
+        assertNotNull(meterRegistry.find("point.latency.exact").tag("quantile", "0.99").gauge());
+    }
+}
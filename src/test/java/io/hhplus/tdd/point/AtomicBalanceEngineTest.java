@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicBalanceEngineTest {
+
+    private final InMemoryPointRepository repository = new InMemoryPointRepository();
+    private final AtomicBalanceEngine engine = new AtomicBalanceEngine(repository, BalanceEngineProperties.DEFAULT);
+    private final PointService pointService = PointServiceBuilder.with(repository).balanceEngine(engine).build();
+
+    @Test
+    @DisplayName("한 사용자에게 동시에 충전해도 모든 충전이 반영되고, 커밋마다 버전과 내역이 하나씩 늘어난다")
+    void charge_concurrentlyForSameUser_appliesEveryCharge() throws InterruptedException {
+        // given
+        long userId = 1L;
+        int threadCount = 64;
+
+        // when
+        int successCount = runConcurrently(threadCount, () -> pointService.charge(userId, 1_000L));
+
+        // then
+        assertEquals(threadCount, successCount);
+        assertEquals(64_000L, pointService.getPoint(userId).point());
+        assertEquals(threadCount, engine.version(userId));
+        assertEquals(threadCount, repository.selectHistoriesByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("동시에 충전해도 최대 잔액과 일일 충전 한도를 넘는 커밋은 없다")
+    void charge_concurrentlyBeyondLimits_rejectsOverflow() throws InterruptedException {
+        // given
+        long userId = 1L;
+
+        // when
+        int successCount = runConcurrently(200, () -> pointService.charge(userId, 1_000L));
+
+        // then
+        assertEquals(100, successCount);
+        assertEquals(UserPoint.MAX_BALANCE, pointService.getPoint(userId).point());
+        assertThrows(IllegalStateException.class, () -> pointService.charge(userId, 100L));
+    }
+
+    @Test
+    @DisplayName("동시에 사용해도 잔액이 음수가 되지 않고, 잔액만큼만 성공한다")
+    void use_concurrently_neverOverdraws() throws InterruptedException {
+        // given
+        long userId = 1L;
+        repository.insertOrUpdate(userId, 10_000L);
+
+        // when
+        int successCount = runConcurrently(200, () -> pointService.use(userId, 100L));
+
+        // then
+        assertEquals(100, successCount);
+        assertEquals(0L, pointService.getPoint(userId).point());
+        assertEquals(100, repository.selectHistoriesByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("받는 사용자의 최대 잔액을 넘는 이체는 거절되고, 보내는 사용자의 잔액은 되돌아온다")
+    void transfer_whenTargetWouldOverflow_refundsSource() {
+        // given
+        repository.insertOrUpdate(1L, 10_000L);
+        repository.insertOrUpdate(2L, 95_000L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> pointService.transfer(1L, 2L, 10_000L));
+        assertEquals(10_000L, pointService.getPoint(1L).point());
+        assertEquals(95_000L, pointService.getPoint(2L).point());
+        assertTrue(repository.selectHistoriesByUserId(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("이체 중인 금액도 최대 잔액에 포함하므로, 되돌리는 동안 충전이 들어와도 최대 잔액을 넘지 않는다")
+    void transfer_andChargeConcurrently_neverExceedsMaxBalance() throws InterruptedException {
+        // given
+        repository.insertOrUpdate(1L, 50_000L);
+        repository.insertOrUpdate(2L, 99_000L);
+
+        AtomicInteger turn = new AtomicInteger();
+
+        // when
+        runConcurrently(100, () -> {
+            if (turn.getAndIncrement() % 2 == 0) {
+                pointService.transfer(1L, 2L, 10_000L);
+            } else {
+                pointService.charge(1L, 1_000L);
+            }
+        });
+
+        // then
+        assertTrue(pointService.getPoint(1L).point() <= UserPoint.MAX_BALANCE);
+        assertEquals(99_000L, pointService.getPoint(2L).point());
+    }
+
+    @Test
+    @DisplayName("커밋된 잔액은 저장소에도 쓰여, 동시에 충전한 뒤 저장소 잔액이 엔진 잔액과 같다")
+    void charge_concurrently_writesCommittedBalanceToRepository() throws InterruptedException {
+        // given
+        long userId = 1L;
+
+        // when
+        runConcurrently(64, () -> pointService.charge(userId, 1_000L));
+        pointService.transfer(userId, 2L, 4_000L);
+
+        // then
+        assertEquals(60_000L, repository.selectById(userId).point());
+        assertEquals(4_000L, repository.selectById(2L).point());
+        assertEquals(pointService.getPoint(userId).point(), repository.selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("칸은 최대 사용자 수까지만 두고, 내린 사용자는 저장소 잔액으로 다시 올라와 이어서 충전된다")
+    void charge_beyondMaxUsers_evictsAndReloadsFromRepository() {
+        // given
+        AtomicBalanceEngine boundedEngine = new AtomicBalanceEngine(repository, new BalanceEngineProperties(10, Duration.ZERO));
+        PointService boundedService = PointServiceBuilder.with(repository).balanceEngine(boundedEngine).build();
+
+        // when
+        for (long userId = 1; userId <= 100; userId++) {
+            boundedService.charge(userId, 1_000L);
+        }
+        boundedService.charge(1L, 1_000L);
+
+        // then
+        assertTrue(boundedEngine.cachedUsers() <= 10);
+        assertEquals(2_000L, boundedService.getPoint(1L).point());
+        for (long userId = 2; userId <= 100; userId++) {
+            assertEquals(1_000L, boundedService.getPoint(userId).point());
+        }
+    }
+
+    @Test
+    @DisplayName("칸을 내리는 중에 동시에 충전해도 잃어버리는 충전이 없다")
+    void charge_concurrentlyWhileEvicting_losesNothing() throws InterruptedException {
+        // given
+        AtomicBalanceEngine boundedEngine = new AtomicBalanceEngine(repository, new BalanceEngineProperties(4, Duration.ZERO));
+        PointService boundedService = PointServiceBuilder.with(repository).balanceEngine(boundedEngine).build();
+        AtomicInteger turn = new AtomicInteger();
+
+        // when: 16 명에게 번갈아 충전해 칸이 계속 내려가고 다시 올라온다
+        int successCount = runConcurrently(64, () -> {
+            int k = turn.getAndIncrement();
+            for (int i = 0; i < 10; i++) {
+                boundedService.charge((k + i) % 16 + 1, 100L);
+            }
+        });
+
+        // then
+        long total = 0L;
+        for (long userId = 1; userId <= 16; userId++) {
+            total += repository.selectById(userId).point();
+        }
+        assertEquals(64, successCount);
+        assertEquals(64 * 10 * 100L, total);
+    }
+
+    private int runConcurrently(int threadCount, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    task.run();
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException | IllegalStateException ignored) {
+                    // 규칙 위반으로 거절된 요청
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        return successCount.get();
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 Lock 경로와 CAS 엔진 경로의 충전/사용 처리량 비교 (스레드 1, 8, 64 / 한 사용자 집중, 균등 분포)
+ * 연산은 충전 100원과 사용 100원을 번갈아 하고, 사용자마다 50,000원에서 시작해 최대 500번씩만 충전하므로
+ * 순서와 관계없이 최대 잔액, 일일 충전 한도, 잔액 부족에 걸리지 않는다. (실패 수는 0 이어야 한다)
+ * ./gradlew benchmark --tests '*BalanceEngineBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class BalanceEngineBenchmark {
+
+    private static final int[] THREADS = {1, 8, 64};
+    private static final int OPERATIONS = 256_000;
+    // 한 사용자가 받는 연산 수 (충전 500 + 사용 500)
+    private static final int OPERATIONS_PER_USER = 1_000;
+    private static final int UNIFORM_USERS = 10_000;
+    private static final long INITIAL_BALANCE = 50_000L;
+
+    @Test
+    @DisplayName("Lock 경로와 CAS 엔진 경로의 충전/사용 처리량")
+    void throughputByEngine() throws InterruptedException {
+        log.info("=== 잔액 엔진 비교 (연산 {}회) ===", OPERATIONS);
+        for (boolean hot : new boolean[]{true, false}) {
+            for (int threads : THREADS) {
+                // 워밍업
+                run(false, hot, threads);
+                run(true, hot, threads);
+                Result lock = run(false, hot, threads);
+                Result cas = run(true, hot, threads);
+                log.info("{} / threads: {} | lock ops/s: {} | cas ops/s: {} (CAS 재시도: {}) | 실패: {} / {}",
+                        hot ? "한 사용자 집중" : "균등 분포", threads,
+                        lock.opsPerSecond(), cas.opsPerSecond(), cas.casRetries(), lock.failures(), cas.failures());
+            }
+        }
+    }
+
+    private Result run(boolean useEngine, boolean hot, int threads) throws InterruptedException {
+        InMemoryPointRepository repository = new InMemoryPointRepository();
+        AtomicBalanceEngine engine = useEngine ? new AtomicBalanceEngine(repository, BalanceEngineProperties.DEFAULT) : null;
+        PointService pointService = PointServiceBuilder.with(repository).balanceEngine(engine).build();
+        int users = hot ? OPERATIONS / OPERATIONS_PER_USER : UNIFORM_USERS;
+        for (long userId = 1; userId <= users; userId++) {
+            repository.insertOrUpdate(userId, INITIAL_BALANCE);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        LongAdder failures = new LongAdder();
+        int perThread = OPERATIONS / threads;
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        // 스레드들이 같은 구간을 나눠 가지므로, 집중 모드에서는 모든 스레드가 거의 같은 사용자를 두드린다
+                        int k = i * threads + offset;
+                        long userId = hot ? k / OPERATIONS_PER_USER + 1 : (k / 2) % UNIFORM_USERS + 1;
+                        try {
+                            if (k % 2 == 0) {
+                                pointService.charge(userId, 100L);
+                            } else {
+                                pointService.use(userId, 100L);
+                            }
+                        } catch (IllegalStateException e) {
+                            failures.increment();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executorService.shutdown();
+        return new Result(
+                (long) OPERATIONS * TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+                engine != null ? engine.casRetries() : 0L,
+                failures.sum()
+        );
+    }
+
+    private record Result(long opsPerSecond, long casRetries, long failures) {
+    }
+}
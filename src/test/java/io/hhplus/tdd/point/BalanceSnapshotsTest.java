@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceSnapshotsTest {
+
+    private final BalanceSnapshots snapshots = new BalanceSnapshots();
+
+    @Test
+    @DisplayName("스냅샷을 연 뒤의 잔액 변경과 새 사용자는 보이지 않고, 같은 스냅샷은 몇 번 읽어도 결과가 같다")
+    void open_ignoresLaterWrites() {
+        // given
+        snapshots.record(new UserPoint(1L, 1_000L, 1L));
+        snapshots.record(new UserPoint(2L, 2_000L, 1L));
+
+        try (BalanceSnapshot snapshot = snapshots.open()) {
+            // when
+            snapshots.record(new UserPoint(1L, 5_000L, 2L));
+            snapshots.record(new UserPoint(3L, 3_000L, 2L));
+
+            // then
+            Map<Long, Long> expected = Map.of(1L, 1_000L, 2L, 2_000L);
+            assertEquals(expected, balances(snapshot));
+            assertEquals(expected, balances(snapshot));
+        }
+        try (BalanceSnapshot latest = snapshots.open()) {
+            assertEquals(Map.of(1L, 5_000L, 2L, 2_000L, 3L, 3_000L), balances(latest));
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷을 닫으면 더 읽을 수 없고, 열린 스냅샷 수에서 빠진다")
+    void close_releasesSnapshot() {
+        // given
+        BalanceSnapshot snapshot = snapshots.open();
+        assertEquals(1, snapshots.openCount());
+
+        // when
+        snapshot.close();
+        snapshot.close();
+
+        // then
+        assertEquals(0, snapshots.openCount());
+        assertThrows(IllegalStateException.class, snapshot::iterator);
+    }
+
+    @Test
+    @DisplayName("이체가 계속되는 동안 연 스냅샷도 전체 잔액 합계가 항상 같다")
+    void open_duringTransfers_keepsTotal() throws InterruptedException {
+        // given
+        InMemoryPointRepository repository = new InMemoryPointRepository();
+        PointService pointService = PointServiceBuilder.with(repository).balanceSnapshots(snapshots).build();
+        int userCount = 20;
+        for (long userId = 1; userId <= userCount; userId++) {
+            pointService.charge(userId, 10_000L);
+        }
+        long total = userCount * 10_000L;
+        int threadCount = 8;
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            long seed = t;
+            executorService.submit(() -> {
+                Random random = new Random(seed);
+                try {
+                    while (running.get()) {
+                        long from = 1 + random.nextInt(userCount);
+                        long to = 1 + (from + random.nextInt(userCount - 1)) % userCount;
+                        try {
+                            pointService.transfer(from, to, 100L * (1 + random.nextInt(10)));
+                        } catch (IllegalStateException ignored) {
+                            // 잔액 부족
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when & then
+        for (int i = 0; i < 200; i++) {
+            try (BalanceSnapshot snapshot = snapshots.open()) {
+                Map<Long, Long> balances = balances(snapshot);
+                assertEquals(userCount, balances.size());
+                assertEquals(total, balances.values().stream().mapToLong(Long::longValue).sum());
+            }
+        }
+        running.set(false);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+    }
+
+    private static Map<Long, Long> balances(BalanceSnapshot snapshot) {
+        Map<Long, Long> balances = new HashMap<>();
+        for (UserPoint userPoint : snapshot) {
+            assertNull(balances.put(userPoint.id(), userPoint.point()));
+        }
+        return balances;
+    }
+}
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import io.hhplus.tdd.database.LatencyModel;
+import io.hhplus.tdd.database.LatencyModelPointRepository;
+import io.hhplus.tdd.database.PointStoreProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 충전 폭주 중 잔액 조회 지연 시간 (벌크헤드 없음 / 있음)
+ * Tomcat 대신 고정 크기 작업자 풀(WORKERS)에 요청을 넣고, 소수의 사용자에게 충전/사용을 계속 보내 사용자 Lock 대기를 만든다.
+ * 그동안 다른 사용자의 잔액 조회 p99 와 변경 처리량, 503(거절) 수를 비교한다.
+ * 거절된 충전 클라이언트는 10ms 뒤에 다시 보낸다. (Retry-After 를 따르는 클라이언트)
+ * ./gradlew benchmark --tests '*BulkheadBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class BulkheadBenchmark {
+
+    private static final int WORKERS = 64;
+    private static final int WRITE_CLIENTS = 256;
+    private static final int READ_CLIENTS = 4;
+    private static final int HOT_USERS = 4;
+    private static final long MEASURE_MILLIS = 3_000L;
+    private static final PointStoreProperties.Latency LATENCY = new PointStoreProperties.Latency(
+            "fixed", 42L, Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(2), Duration.ZERO, 0.5, 0.0, 1);
+
+    @Test
+    @DisplayName("충전 폭주 중 잔액 조회 p99")
+    void readLatencyDuringWriteStorm() throws InterruptedException {
+        log.info("=== 충전 폭주 중 조회 (작업자: {}, 충전 클라이언트: {}, 집중 사용자: {}) ===", WORKERS, WRITE_CLIENTS, HOT_USERS);
+        Result direct = run(null, null);
+        log.info("벌크헤드 없음 | 조회 p99: {}ms, max: {}ms | 변경 처리: {}/s, 거절: {}",
+                direct.readP99Millis(), direct.readMaxMillis(), direct.writesPerSecond(), direct.rejected());
+
+        Bulkhead read = new Bulkhead("read", 16, 64);
+        Bulkhead write = new Bulkhead("write", 8, 16);
+        try {
+            Result isolated = run(read, write);
+            log.info("벌크헤드 (조회 16+64, 변경 8+16) | 조회 p99: {}ms, max: {}ms | 변경 처리: {}/s, 거절: {}",
+                    isolated.readP99Millis(), isolated.readMaxMillis(), isolated.writesPerSecond(), isolated.rejected());
+        } finally {
+            read.shutdown();
+            write.shutdown();
+        }
+    }
+
+    private Result run(Bulkhead read, Bulkhead write) throws InterruptedException {
+        InMemoryPointRepository store = new InMemoryPointRepository();
+        PointService pointService = PointServiceBuilder.with(
+                new LatencyModelPointRepository(store, LatencyModel.of(LATENCY), LATENCY)).build();
+        for (long userId = 1; userId <= HOT_USERS + 1; userId++) {
+            store.insertOrUpdate(userId, 50_000L);
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+        ExecutorService clients = Executors.newFixedThreadPool(WRITE_CLIENTS + READ_CLIENTS);
+        Histogram readLatency = new Histogram(3);
+        LongAdder writes = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MEASURE_MILLIS);
+
+        for (int c = 0; c < WRITE_CLIENTS; c++) {
+            long userId = c % HOT_USERS + 1;
+            boolean charge = c % 2 == 0;
+            clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        request(workers, write, () -> charge ? pointService.charge(userId, 100L) : pointService.use(userId, 100L));
+                        writes.increment();
+                    } catch (BulkheadFullException e) {
+                        rejected.increment();
+                        sleepQuietly();
+                    } catch (IllegalStateException e) {
+                        // 한도 초과 등 검증 실패도 Lock 을 거친 처리로 센다
+                        writes.increment();
+                    }
+                }
+                return null;
+            });
+        }
+        // 조회 대상은 충전과 겹치지 않는 사용자라 Lock 대기는 없고, 작업자(Tomcat 스레드)를 기다리는 시간만 남는다
+        long readUserId = HOT_USERS + 1;
+        for (int c = 0; c < READ_CLIENTS; c++) {
+            clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        request(workers, read, () -> pointService.getPoint(readUserId));
+                    } catch (BulkheadFullException e) {
+                        rejected.increment();
+                    }
+                    long elapsed = System.nanoTime() - start;
+                    synchronized (readLatency) {
+                        readLatency.recordValue(elapsed);
+                    }
+                }
+                return null;
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(MEASURE_MILLIS + 60_000L, TimeUnit.MILLISECONDS);
+        workers.shutdownNow();
+        return new Result(readLatency.getValueAtPercentile(99) / 1_000_000.0, readLatency.getMaxValue() / 1_000_000.0,
+                writes.sum() * 1_000L / MEASURE_MILLIS, rejected.sum());
+    }
+
+    /**
+     * 작업자 풀에서 (벌크헤드가 있으면 벌크헤드를 거쳐) 처리하고 끝날 때까지 기다린다. (Tomcat 스레드 하나를 점유하는 요청)
+     */
+    private static <T> T request(ExecutorService workers, Bulkhead bulkhead, Supplier<T> task) throws InterruptedException {
+        try {
+            return workers.submit(() -> bulkhead == null ? task.get() : bulkhead.execute(task)).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void sleepQuietly() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(double readP99Millis, double readMaxMillis, long writesPerSecond, long rejected) {
+    }
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private final Bulkhead bulkhead = new Bulkhead("write", 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 기다리지 않고 BulkheadFullException 을 던진다")
+    void execute_whenFull_throwsBulkheadFullException() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> "second"));
+        while (bulkhead.queued() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThrows(BulkheadFullException.class, () -> bulkhead.execute(() -> "third"));
+        assertEquals(1, bulkhead.rejected());
+
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 호출 스레드에 같은 예외로 전달된다")
+    void execute_whenTaskFails_rethrowsSameException() {
+        // when
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> bulkhead.execute(() -> {
+                    throw new IllegalStateException("잔액이 부족합니다.");
+                }));
+
+        // then
+        assertEquals("잔액이 부족합니다.", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("작업 스레드에서도 호출 스레드의 요청 정보를 볼 수 있다")
+    void execute_propagatesRequestAttributes() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Point-Forwarded", "http://other:8080");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when
+        String header = bulkhead.execute(() -> {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            return ((ServletRequestAttributes) attributes).getRequest().getHeader("X-Point-Forwarded");
+        });
+
+        // then
+        assertEquals("http://other:8080", header);
+        // 작업이 끝나면 작업 스레드에 요청 정보가 남지 않는다
+        RequestContextHolder.resetRequestAttributes();
+        assertNull(bulkhead.execute(RequestContextHolder::getRequestAttributes));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
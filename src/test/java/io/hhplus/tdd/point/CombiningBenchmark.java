@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 한 사용자에게 64 스레드가 충전/사용을 보낼 때 사용자 Lock 경로와 flat combining 경로의 처리량
+ * 사용자마다 50,000원에서 시작해 충전 100원 500번, 사용 100원 500번만 하므로 순서와 관계없이 한도에 걸리지 않는다. (실패 수는 0 이어야 한다)
+ * 한 라운드가 끝나면 다음 사용자로 넘어가며, 모든 스레드는 항상 같은 한 사용자를 두드린다.
+ * 저장소는 지연 없음(memory)과 잔액 조회/저장마다 100μs(fixed 100us) 두 가지로 본다.
+ * 스레드 대기(Lock 대기 + 결과 대기) 횟수는 ThreadMXBean 의 blocked/waited count 합으로 본다.
+ * ./gradlew benchmark --tests '*CombiningBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class CombiningBenchmark {
+
+    private static final int THREADS = 64;
+    private static final int OPERATIONS_PER_USER = 1_000;
+    private static final int ROUNDS = 20;
+    private static final long INITIAL_BALANCE = 50_000L;
+
+    @Test
+    @DisplayName("한 사용자 64 스레드: Lock 경로와 flat combining 경로의 충전/사용 처리량")
+    void throughputOnOneHotUser() throws InterruptedException {
+        log.info("=== 한 사용자 집중 (스레드 {}, 라운드 {} x 연산 {}) ===", THREADS, ROUNDS, OPERATIONS_PER_USER);
+        for (long storeDelayMicros : new long[]{0L, 100L}) {
+            // 워밍업
+            run(storeDelayMicros, CombiningProperties.Mode.OFF);
+            run(storeDelayMicros, CombiningProperties.Mode.ALL);
+            Result lock = run(storeDelayMicros, CombiningProperties.Mode.OFF);
+            Result combining = run(storeDelayMicros, CombiningProperties.Mode.ALL);
+            String store = storeDelayMicros == 0 ? "memory" : "fixed " + storeDelayMicros + "us";
+            log.info("{} | lock ops/s: {} (대기 {}회) | combining ops/s: {} (대기 {}회, 평균 묶음 {}) | 실패: {} / {}",
+                    store, lock.opsPerSecond(), lock.parks(), combining.opsPerSecond(), combining.parks(),
+                    String.format("%.1f", combining.averageBatch()), lock.failures(), combining.failures());
+        }
+    }
+
+    private Result run(long storeDelayMicros, CombiningProperties.Mode mode) throws InterruptedException {
+        CountingRepository repository = new CountingRepository();
+        PointService pointService = PointServiceBuilder.with(repository).combining(new CombiningProperties(mode, 64)).build();
+        for (long userId = 1; userId <= ROUNDS; userId++) {
+            repository.insertOrUpdate(userId, INITIAL_BALANCE);
+        }
+        repository.balanceWrites.set(0);
+        repository.delayNanos = TimeUnit.MICROSECONDS.toNanos(storeDelayMicros);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        LongAdder failures = new LongAdder();
+        LongAdder parks = new LongAdder();
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            long userId = round + 1;
+            CountDownLatch ready = new CountDownLatch(THREADS);
+            CountDownLatch go = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                executorService.submit(() -> {
+                    long threadId = Thread.currentThread().getId();
+                    long before = threads.getThreadInfo(threadId).getBlockedCount() + threads.getThreadInfo(threadId).getWaitedCount();
+                    ready.countDown();
+                    try {
+                        go.await();
+                        for (int k = offset; k < OPERATIONS_PER_USER; k += THREADS) {
+                            try {
+                                if (k % 2 == 0) {
+                                    pointService.charge(userId, 100L);
+                                } else {
+                                    pointService.use(userId, 100L);
+                                }
+                            } catch (IllegalStateException e) {
+                                failures.increment();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        long after = threads.getThreadInfo(threadId).getBlockedCount() + threads.getThreadInfo(threadId).getWaitedCount();
+                        parks.add(after - before);
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            go.countDown();
+            done.await();
+        }
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+        long operations = (long) ROUNDS * OPERATIONS_PER_USER;
+        return new Result(operations * 1_000_000_000L / elapsed, parks.sum(), failures.sum(),
+                (double) operations / Math.max(1, repository.balanceWrites.get()));
+    }
+
+    private record Result(long opsPerSecond, long parks, long failures, double averageBatch) {
+    }
+
+    /**
+     * 잔액 조회/저장에 고정 지연을 주고, 저장 횟수로 평균 묶음 크기를 계산하기 위한 저장소
+     */
+    private static class CountingRepository extends InMemoryPointRepository {
+        private final AtomicLong balanceWrites = new AtomicLong();
+        private volatile long delayNanos;
+
+        @Override
+        public UserPoint selectById(long userId) {
+            delay();
+            return super.selectById(userId);
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long userId, long amount) {
+            balanceWrites.incrementAndGet();
+            delay();
+            return super.insertOrUpdate(userId, amount);
+        }
+
+        private void delay() {
+            if (delayNanos > 0) {
+                LockSupport.parkNanos(delayNanos);
+            }
+        }
+    }
+}
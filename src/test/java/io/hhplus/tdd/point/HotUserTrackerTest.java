@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotUserTrackerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final HotUserTracker tracker = new HotUserTracker(
+            new HotUserProperties(true, 64, 4, 3, Duration.ofSeconds(1)), nanoTime::get);
+
+    @Test
+    @DisplayName("많은 사용자 사이에서도 요청이 몰린 사용자를 상위에 찾고, 추정값은 실제 값 이상 실제 값 + error 이하이다")
+    void topByRequests_findsHeavyHittersWithinErrorBound() {
+        // given : 사용자 1~3 이 각각 5,000 / 3,000 / 2,000 번, 나머지 10,000 명이 1~2 번씩
+        long[] heavy = {5_000L, 3_000L, 2_000L};
+        Random random = new Random(42);
+        for (int round = 0; round < 5_000; round++) {
+            for (int i = 0; i < heavy.length; i++) {
+                if (round < heavy[i]) {
+                    tracker.recordRequest(i + 1);
+                }
+            }
+            tracker.recordRequest(100 + random.nextInt(10_000));
+            tracker.recordRequest(100 + random.nextInt(10_000));
+        }
+
+        // when
+        List<HotUser> top = tracker.topByRequests(3);
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), top.stream().map(HotUser::userId).toList());
+        for (int i = 0; i < heavy.length; i++) {
+            assertTrue(top.get(i).estimate() >= heavy[i]);
+            assertTrue(top.get(i).estimate() - top.get(i).error() <= heavy[i]);
+        }
+        assertTrue(tracker.topByRequests(1_000).size() <= 64);
+    }
+
+    @Test
+    @DisplayName("Lock 대기 시간은 μs 단위로 합산하고, 1μs 미만은 기록하지 않는다")
+    void topByLockWait_sumsMicrosAndSkipsUncontended() {
+        // when
+        tracker.recordLockWait(1L, TimeUnit.MILLISECONDS.toNanos(3));
+        tracker.recordLockWait(1L, TimeUnit.MILLISECONDS.toNanos(2));
+        tracker.recordLockWait(2L, TimeUnit.MILLISECONDS.toNanos(1));
+        tracker.recordLockWait(3L, 500L);
+
+        // then
+        List<HotUser> top = tracker.topByLockWait(10);
+        assertEquals(2, top.size());
+        assertEquals(new HotUser(1L, 5_000L, 0L), top.get(0));
+        assertEquals(new HotUser(2L, 1_000L, 0L), top.get(1));
+    }
+
+    @Test
+    @DisplayName("isHot 은 refresh 주기마다 다시 계산한 상위 목록을 기준으로 판단한다")
+    void isHot_usesListRefreshedEveryInterval() {
+        // given
+        tracker.recordRequest(7L);
+        assertFalse(tracker.isHot(7L));
+
+        // when
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // then
+        assertTrue(tracker.isHot(7L));
+        assertFalse(tracker.isHot(8L));
+    }
+
+    @Test
+    @DisplayName("초기화하면 이전 구간 결과를 반환하고 새로 기록한다")
+    void snapshotAndReset_startsNewWindow() {
+        // given
+        tracker.recordRequest(1L);
+
+        // when
+        HotUsersSnapshot snapshot = tracker.snapshotAndReset();
+
+        // then
+        assertEquals(1L, snapshot.requests().get(0).userId());
+        assertTrue(tracker.snapshot().requests().isEmpty());
+    }
+
+    @Test
+    @DisplayName("한 사용자에게 충전이 몰리면 그 사용자가 요청 수와 Lock 대기 시간 모두 1위가 된다")
+    void pointService_recordsRequestsAndLockWaits() throws InterruptedException {
+        // given
+        PointService pointService = PointServiceBuilder.with(new SlowWriteRepository()).hotUserTracker(tracker).build();
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.charge(1L, 100L);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        pointService.getPoint(2L);
+
+        // then
+        assertEquals(new HotUser(1L, threadCount, 0L), tracker.topByRequests(1).get(0));
+        assertEquals(1L, tracker.topByLockWait(1).get(0).userId());
+    }
+
+    /**
+     * 잔액 저장에 시간이 걸려 같은 사용자의 다음 요청이 Lock 을 기다리게 하는 저장소
+     */
+    private static class SlowWriteRepository extends InMemoryPointRepository {
+        @Override
+        public UserPoint insertOrUpdate(long userId, long amount) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.insertOrUpdate(userId, amount);
+        }
+    }
+}
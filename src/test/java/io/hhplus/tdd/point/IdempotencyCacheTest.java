@@ -0,0 +1,234 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    private final UserPoint charged = new UserPoint(1L, 1_000L, System.currentTimeMillis());
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 action을 실행하지 않고 저장된 결과를 반환한다")
+    void execute_withSameKey_returnsStoredResult() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        UserPoint first = cache.execute("charge:1:key", "1000", () -> {
+            executions.incrementAndGet();
+            return charged;
+        });
+        UserPoint second = cache.execute("charge:1:key", "1000", () -> {
+            executions.incrementAndGet();
+            return UserPoint.empty(1L);
+        });
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("첫 요청이 처리 중일 때 도착한 중복 요청은 첫 요청의 결과를 기다려 반환한다")
+    void execute_whileFirstInFlight_waitsForFirstResult() throws Exception {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<UserPoint> first = executorService.submit(() -> cache.execute("use:1:key", "500", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return charged;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<UserPoint> duplicate = executorService.submit(() -> cache.execute("use:1:key", "500", () -> {
+            executions.incrementAndGet();
+            return UserPoint.empty(1L);
+        }));
+        release.countDown();
+
+        // then
+        assertSame(charged, first.get(5, TimeUnit.SECONDS));
+        assertSame(charged, duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장되지 않아 같은 키로 재시도할 수 있다")
+    void execute_whenActionFails_allowsRetry() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> cache.execute("use:1:key", "500", () -> {
+            throw new IllegalStateException("포인트 잔액이 부족합니다.");
+        }));
+        UserPoint retried = cache.execute("use:1:key", "500", () -> charged);
+
+        // then
+        assertSame(charged, retried);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 금액을 요청하면 예외가 발생한다")
+    void execute_withSameKeyAndDifferentFingerprint_throwsException() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+        cache.execute("charge:1:key", "1000", () -> charged);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> cache.execute("charge:1:key", "2000", () -> charged));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래된 키부터 제거된다")
+    void execute_exceedingMaxSize_evictsOldestKey() {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(2, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        cache.execute("k1", "1", () -> charged);
+        cache.execute("k2", "1", () -> charged);
+        cache.execute("k3", "1", () -> charged);
+        cache.execute("k1", "1", () -> {
+            executions.incrementAndGet();
+            return charged;
+        });
+
+        // then
+        assertEquals(1, executions.get());
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 키는 다시 실행된다")
+    void execute_afterTtl_executesAgain() throws InterruptedException {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMillis(50), Duration.ofSeconds(5)));
+        AtomicInteger executions = new AtomicInteger();
+        cache.execute("k1", "1", () -> {
+            executions.incrementAndGet();
+            return charged;
+        });
+
+        // when
+        Thread.sleep(100);
+        cache.execute("k1", "1", () -> {
+            executions.incrementAndGet();
+            return charged;
+        });
+
+        // then
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("action 이 Error 를 던져도 대기 중인 중복 요청은 같은 Error 로 끝나고, 같은 키로 재시도할 수 있다")
+    void execute_whenActionThrowsError_releasesWaitersAndAllowsRetry() throws Exception {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<UserPoint> first = executorService.submit(() -> cache.execute("use:1:key", "500", () -> {
+            started.countDown();
+            await(release);
+            throw new StackOverflowError();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<UserPoint> duplicate = executorService.submit(() -> cache.execute("use:1:key", "500", () -> charged));
+        Thread.sleep(50);
+
+        // when
+        release.countDown();
+
+        // then
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        ExecutionException duplicateFailure = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, firstFailure.getCause());
+        assertInstanceOf(StackOverflowError.class, duplicateFailure.getCause());
+        assertSame(charged, cache.execute("use:1:key", "500", () -> charged));
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 wait-timeout 안에 끝나지 않으면 중복 요청은 기다리지 않고 예외로 끝난다")
+    void execute_whenFirstExceedsWaitTimeout_throwsException() throws Exception {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(1), Duration.ofMillis(50)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<UserPoint> first = executorService.submit(() -> cache.execute("use:1:key", "500", () -> {
+            started.countDown();
+            await(release);
+            return charged;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> cache.execute("use:1:key", "500", () -> charged));
+        release.countDown();
+        assertSame(charged, first.get(5, TimeUnit.SECONDS));
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘어도 처리 중인 키는 제거되지 않아 중복 요청이 다시 실행되지 않는다")
+    void execute_exceedingMaxSize_keepsInFlightKey() throws Exception {
+        // given
+        IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(1, Duration.ofMinutes(1), Duration.ofSeconds(5)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<UserPoint> first = executorService.submit(() -> cache.execute("k1", "1", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return charged;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        cache.execute("k2", "1", () -> charged);
+        Future<UserPoint> duplicate = executorService.submit(() -> cache.execute("k1", "1", () -> {
+            executions.incrementAndGet();
+            return UserPoint.empty(1L);
+        }));
+        release.countDown();
+
+        // then
+        assertSame(charged, first.get(5, TimeUnit.SECONDS));
+        assertSame(charged, duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        executorService.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
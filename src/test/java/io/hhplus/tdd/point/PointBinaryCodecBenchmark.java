@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 내역 응답 직렬화 시간과 크기 비교 (JSON / CBOR / PointBinaryCodec)
+ * ./gradlew benchmark --tests '*PointBinaryCodecBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class PointBinaryCodecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 500;
+
+    @Test
+    @DisplayName("내역 수에 따른 형식별 직렬화 시간과 크기")
+    void compareFormats() throws Exception {
+        ObjectMapper json = new ObjectMapper();
+        CBORMapper cbor = new CBORMapper();
+        for (int size : new int[]{10, 1_000, 10_000}) {
+            List<PointHistory> histories = histories(size);
+            log.info("=== 내역 {}건 ===", size);
+            report("json", () -> json.writeValueAsBytes(histories));
+            report("cbor", () -> cbor.writeValueAsBytes(histories));
+            report("binary", () -> PointBinaryCodec.encodeHistories(histories));
+        }
+    }
+
+    private static void report(String format, Callable<byte[]> encoder) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            encoder.call();
+        }
+        // 결과 크기를 누적해 인코딩이 최적화로 사라지지 않게 한다
+        long totalBytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            totalBytes += encoder.call().length;
+        }
+        long averageNanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+        log.info("{}: {} bytes, {} us/op", format, totalBytes / MEASURE_ITERATIONS, averageNanos / 1_000.0);
+    }
+
+    private static List<PointHistory> histories(int size) {
+        long now = System.currentTimeMillis();
+        List<PointHistory> histories = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            histories.add(new PointHistory(i * 4L + 1, 7L, 100L * (i % 50 + 1), type, now + i * 37L));
+        }
+        return histories;
+    }
+}
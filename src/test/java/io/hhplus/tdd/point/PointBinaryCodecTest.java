@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointBinaryCodecTest {
+
+    @Test
+    @DisplayName("내역 목록을 인코딩 후 디코딩하면 원래 목록과 같다")
+    void histories_roundTrip() {
+        // given
+        long now = System.currentTimeMillis();
+        List<PointHistory> histories = List.of(
+                new PointHistory(1L, 7L, 5_000L, TransactionType.CHARGE, now),
+                new PointHistory(4L, 7L, 1_200L, TransactionType.USE, now + 15),
+                new PointHistory(9L, 7L, 300L, TransactionType.TRANSFER_OUT, now + 15),
+                new PointHistory(10L, 8L, 300L, TransactionType.TRANSFER_IN, now + 3)
+        );
+
+        // when
+        List<PointHistory> decoded = PointBinaryCodec.decodeHistories(PointBinaryCodec.encodeHistories(histories));
+
+        // then
+        assertEquals(histories, decoded);
+    }
+
+    @Test
+    @DisplayName("포인트와 포인트 목록을 인코딩 후 디코딩하면 원래 값과 같다")
+    void userPoints_roundTrip() {
+        // given
+        UserPoint userPoint = new UserPoint(Long.MAX_VALUE, 100_000L, System.currentTimeMillis());
+        List<UserPoint> userPoints = List.of(userPoint, UserPoint.empty(2L));
+
+        // when & then
+        assertEquals(userPoint, PointBinaryCodec.decodeUserPoint(PointBinaryCodec.encodeUserPoint(userPoint)));
+        assertEquals(userPoints, PointBinaryCodec.decodeUserPoints(PointBinaryCodec.encodeUserPoints(userPoints)));
+    }
+
+    @Test
+    @DisplayName("같은 내역 목록을 JSON 보다 훨씬 작은 크기로 인코딩한다")
+    void histories_areSmallerThanJson() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        List<PointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            histories.add(new PointHistory(i + 1, 7L, 1_000L, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, now + i));
+        }
+
+        // when
+        int binarySize = PointBinaryCodec.encodeHistories(histories).length;
+        int jsonSize = new ObjectMapper().writeValueAsBytes(histories).length;
+
+        // then
+        assertTrue(binarySize * 5 < jsonSize, "binary: " + binarySize + ", json: " + jsonSize);
+    }
+
+    @Test
+    @DisplayName("본문 종류가 다르면 예외가 발생한다")
+    void decode_withWrongKind_throwsException() {
+        // given
+        byte[] userPoint = PointBinaryCodec.encodeUserPoint(UserPoint.empty(1L));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> PointBinaryCodec.decodeHistories(userPoint));
+    }
+}
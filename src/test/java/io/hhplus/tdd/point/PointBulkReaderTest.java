@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointBulkReaderTest {
+
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final InMemoryPointRepository repository = new InMemoryPointRepository() {
+        @Override
+        public UserPoint selectById(long userId) {
+            if (userId == 1L) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.selectById(userId);
+        }
+    };
+    private final PointBulkReader reader = new PointBulkReader(
+            PointServiceBuilder.with(repository).build(), new BulkReadProperties(10, 1, 1));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        reader.shutdown();
+    }
+
+    @Test
+    @DisplayName("요청한 순서대로 포인트를 반환하고 중복 ID는 한 번만 담는다")
+    void getPoints_returnsInRequestOrder() {
+        // given
+        PointBulkReader wideReader = new PointBulkReader(
+                PointServiceBuilder.with(repository).build(), new BulkReadProperties(10, 2, 10));
+        repository.insertOrUpdate(2L, 200L);
+        repository.insertOrUpdate(3L, 300L);
+
+        // when
+        List<UserPoint> points = wideReader.getPoints(List.of(3L, 2L, 3L));
+        wideReader.shutdown();
+
+        // then
+        assertEquals(List.of(3L, 2L), points.stream().map(UserPoint::id).toList());
+        assertEquals(300L, points.get(0).point());
+    }
+
+    @Test
+    @DisplayName("조회 대기열이 차면 기다리지 않고 BulkheadFullException 을 던진다")
+    void getPoints_whenQueueFull_throwsBulkheadFullException() throws Exception {
+        // given
+        CompletableFuture<List<UserPoint>> first = CompletableFuture.supplyAsync(() -> reader.getPoints(List.of(1L)));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        // when & then
+        assertThrows(BulkheadFullException.class, () -> reader.getPoints(List.of(2L, 3L)));
+
+        release.countDown();
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).get(0).id());
+        assertEquals(2L, reader.getPoints(List.of(2L)).get(0).id());
+    }
+}
@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointCombiningTest {
+
+    private final CountingRepository repository = new CountingRepository();
+    private final List<PointChangedEvent> events = new CopyOnWriteArrayList<>();
+    private final PointService pointService = PointServiceBuilder.with(repository)
+            .eventPublisher(event -> events.add((PointChangedEvent) event))
+            .combining(new CombiningProperties(CombiningProperties.Mode.ALL, 64))
+            .build();
+
+    @Test
+    @DisplayName("한 사용자에게 64 스레드가 동시에 충전해도 모든 충전이 반영되고, 각 호출은 서로 다른 중간 잔액을 받는다")
+    void charge_concurrentlyForSameUser_appliesEveryChargeInBatches() throws InterruptedException {
+        // given
+        long userId = 1L;
+        int threadCount = 64;
+        Set<Long> balances = ConcurrentHashMap.newKeySet();
+        repository.writeDelayMillis = 5L;
+
+        // when
+        int successCount = runConcurrently(threadCount, () -> balances.add(pointService.charge(userId, 100L).point()));
+
+        // then
+        assertEquals(threadCount, successCount);
+        assertEquals(6_400L, pointService.getPoint(userId).point());
+        assertEquals(threadCount, balances.size());
+        assertEquals(threadCount, repository.selectHistoriesByUserId(userId).size());
+        assertEquals(threadCount, events.size());
+        // 저장하는 동안 쌓인 요청을 묶어 잔액을 한 번만 저장한다
+        assertTrue(repository.balanceWrites.get() < threadCount / 2);
+    }
+
+    @Test
+    @DisplayName("같은 묶음 안에서 잔액이 부족한 요청만 실패하고, 나머지는 그대로 반영된다")
+    void use_concurrently_failsOnlyOverdrawingRequests() throws InterruptedException {
+        // given
+        long userId = 1L;
+        repository.insertOrUpdate(userId, 500L);
+
+        // when
+        int successCount = runConcurrently(10, () -> pointService.use(userId, 100L));
+
+        // then
+        assertEquals(5, successCount);
+        assertEquals(0L, pointService.getPoint(userId).point());
+        assertEquals(5, repository.selectHistoriesByUserId(userId).size());
+    }
+
+    @Test
+    @DisplayName("같은 묶음 안의 충전도 일일 충전 한도를 함께 계산한다")
+    void charge_concurrently_respectsDailyLimitWithinBatch() throws InterruptedException {
+        // given
+        long userId = 1L;
+        repository.insertHistory(userId, 99_000L, TransactionType.CHARGE, System.currentTimeMillis());
+
+        // when
+        int successCount = runConcurrently(20, () -> pointService.charge(userId, 100L));
+
+        // then
+        assertEquals(10, successCount);
+        assertEquals(1_000L, pointService.getPoint(userId).point());
+    }
+
+    @Test
+    @DisplayName("잔액 저장이 실패하면 그 묶음의 요청은 모두 같은 예외를 받는다")
+    void charge_whenStoreFails_failsWholeBatch() {
+        // given
+        repository.failure = new IllegalStateException("저장 실패");
+
+        // when & then
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> pointService.charge(1L, 100L));
+        assertEquals("저장 실패", e.getMessage());
+        assertTrue(repository.selectHistoriesByUserId(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("조합 경로의 충전과 Lock 경로의 이체가 섞여도 잔액 합계가 맞다")
+    void charge_andTransferConcurrently_keepsTotal() throws InterruptedException {
+        // given
+        repository.insertOrUpdate(1L, 50_000L);
+        repository.insertOrUpdate(2L, 0L);
+        AtomicInteger turn = new AtomicInteger();
+
+        // when
+        int successCount = runConcurrently(100, () -> {
+            if (turn.getAndIncrement() % 2 == 0) {
+                pointService.transfer(1L, 2L, 100L);
+            } else {
+                pointService.charge(1L, 100L);
+            }
+        });
+
+        // then
+        assertEquals(100, successCount);
+        assertEquals(50_000L, pointService.getPoint(1L).point());
+        assertEquals(5_000L, pointService.getPoint(2L).point());
+    }
+
+    private int runConcurrently(int threadCount, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    task.run();
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException | IllegalStateException ignored) {
+                    // 규칙 위반으로 거절된 요청
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        return successCount.get();
+    }
+
+    /**
+     * 잔액 저장 횟수를 세고, 저장 지연과 실패를 주입할 수 있는 저장소
+     */
+    private static class CountingRepository extends InMemoryPointRepository {
+        private final AtomicLong balanceWrites = new AtomicLong();
+        private volatile RuntimeException failure;
+        private volatile long writeDelayMillis;
+
+        @Override
+        public UserPoint insertOrUpdate(long userId, long amount) {
+            if (failure != null) {
+                throw failure;
+            }
+            balanceWrites.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(writeDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.insertOrUpdate(userId, amount);
+        }
+    }
+}
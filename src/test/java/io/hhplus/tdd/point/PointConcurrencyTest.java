@@ -257,4 +257,60 @@ class PointConcurrencyTest {
         assertTrue(successCount.get() > 0, "최소한 일부 충전은 성공해야 합니다");
         assertTrue(failCount.get() > 0, "한도를 초과하는 충전은 실패해야 합니다");
     }
+
+    @Test
+    @DisplayName("여러 사용자 간 교차 이체가 동시에 발생해도 데드락 없이 처리되고 총액이 보존되어야 한다")
+    void transfer_concurrentCrossTransfers_shouldNotDeadlockAndConserveTotal() throws InterruptedException {
+        // given
+        long baseUserId = System.currentTimeMillis();
+        int userCount = 4;
+        long initialBalance = 50_000L;
+        for (int i = 0; i < userCount; i++) {
+            pointService.charge(baseUserId + i, initialBalance);
+        }
+        long expectedTotal = userCount * initialBalance;
+
+        int threadCount = 24;
+        long transferAmount = 1_000L;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when: A→B, B→A 처럼 서로 반대 방향의 이체를 동시에 요청
+        for (int i = 0; i < threadCount; i++) {
+            long fromUserId = baseUserId + (i % userCount);
+            long toUserId = baseUserId + ((i + 1 + (i / userCount) % (userCount - 1)) % userCount);
+            executorService.submit(() -> {
+                try {
+                    pointService.transfer(fromUserId, toUserId, transferAmount);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("Transfer failed: {}", e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        // 데드락이 발생하면 제한 시간 내에 끝나지 않는다
+        boolean finished = latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertTrue(finished, "데드락 없이 모든 이체가 제한 시간 내에 완료되어야 합니다");
+
+        long actualTotal = 0;
+        for (int i = 0; i < userCount; i++) {
+            actualTotal += pointService.getPoint(baseUserId + i).point();
+        }
+
+        log.info("=== 교차 이체 동시성 테스트 결과 ===");
+        log.info("성공한 이체: {}", successCount.get());
+        log.info("기대 총액: {}", expectedTotal);
+        log.info("실제 총액: {}", actualTotal);
+
+        assertEquals(threadCount, successCount.get(), "모든 이체가 성공해야 합니다");
+        assertEquals(expectedTotal, actualTotal, "이체 전후 전체 포인트 총액이 보존되어야 합니다");
+    }
 }
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointDisplayCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicLong balance = new AtomicLong(1_000L);
+    private volatile CountDownLatch loadGate = new CountDownLatch(0);
+
+    @Mock
+    private PointService pointService;
+
+    private PointDisplayCache cache;
+
+    /**
+     * getPoint 는 loadGate 가 열릴 때까지 붙잡혀 있다가 현재 balance 와 now 로 응답한다.
+     */
+    @BeforeEach
+    void setUp() {
+        when(pointService.getPoint(anyLong())).thenAnswer(invocation -> {
+            loadGate.await(5, TimeUnit.SECONDS);
+            return new UserPoint(invocation.getArgument(0), balance.get(), now.get());
+        });
+        cache = new PointDisplayCache(pointService,
+                new DisplayReadProperties(Duration.ofSeconds(1), Duration.ofSeconds(10), 100, 2), now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("신선한 기간 안에는 다시 조회하지 않고 캐시된 잔액을 반환한다")
+    void getPoint_withinFreshWindow_returnsCachedWithoutLoad() {
+        // given
+        cache.getPoint(1L);
+        balance.set(5_000L);
+        now.addAndGet(500L);
+
+        // when
+        UserPoint result = cache.getPoint(1L);
+
+        // then
+        assertEquals(1_000L, result.point());
+        verify(pointService, times(1)).getPoint(1L);
+    }
+
+    @Test
+    @DisplayName("신선한 기간이 지나면 캐시된 잔액을 바로 반환하고 백그라운드에서 갱신한다")
+    void getPoint_whenStale_returnsCachedAndRefreshesInBackground() throws InterruptedException {
+        // given
+        cache.getPoint(1L);
+        balance.set(5_000L);
+        now.addAndGet(2_000L);
+        loadGate = new CountDownLatch(1);
+
+        // when: 갱신 조회가 막혀 있어도 오래된 값이 즉시 반환된다
+        UserPoint stale = cache.getPoint(1L);
+        loadGate.countDown();
+
+        // then
+        assertEquals(1_000L, stale.point());
+        UserPoint refreshed = stale;
+        for (int i = 0; i < 50 && refreshed.point() != 5_000L; i++) {
+            Thread.sleep(20);
+            refreshed = cache.getPoint(1L);
+        }
+        assertEquals(5_000L, refreshed.point());
+        verify(pointService, times(2)).getPoint(1L);
+    }
+
+    @Test
+    @DisplayName("한 사용자에 대한 동시 조회는 갱신 조회를 한 번만 발생시킨다")
+    void getPoint_concurrentMisses_loadOnce() throws Exception {
+        // given
+        int threadCount = 20;
+        loadGate = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<UserPoint>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> cache.getPoint(1L)));
+        }
+        Thread.sleep(200);
+        loadGate.countDown();
+
+        // then
+        for (Future<UserPoint> future : futures) {
+            assertEquals(1_000L, future.get(5, TimeUnit.SECONDS).point());
+        }
+        executorService.shutdown();
+        verify(pointService, times(1)).getPoint(1L);
+    }
+
+    @Test
+    @DisplayName("잔액 변경 이벤트가 오면 캐시된 잔액을 바로 교체한다")
+    void onPointChanged_replacesCachedBalance() {
+        // given
+        cache.getPoint(1L);
+        UserPoint charged = new UserPoint(1L, 3_000L, now.get() + 1);
+
+        // when
+        cache.onPointChanged(new PointChangedEvent(charged, new PointHistory(1L, 1L, 2_000L, TransactionType.CHARGE, charged.updateMillis())));
+
+        // then
+        assertEquals(3_000L, cache.getPoint(1L).point());
+        verify(pointService, times(1)).getPoint(1L);
+    }
+}
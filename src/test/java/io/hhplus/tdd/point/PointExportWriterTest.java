@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PointExportWriter pointExportWriter = new PointExportWriter(objectMapper);
+    private final InMemoryPointRepository repository = new InMemoryPointRepository();
+
+    @Test
+    @DisplayName("압축으로 지운 내역 자리에는 compacted 범위 줄을 쓰고, 남은 내역은 id 순서로 쓴다")
+    void writeHistories_marksCompactedRanges() throws Exception {
+        // given: 1~3 번(사용자 1), 6 번(사용자 3)은 오래된 내역이라 압축된다
+        long now = System.currentTimeMillis();
+        long[] userIds = {1L, 1L, 1L, 2L, 2L, 3L, 1L};
+        long[] updateMillis = {0L, 0L, 0L, now, now, 0L, now};
+        for (int i = 0; i < userIds.length; i++) {
+            repository.insertHistory(userIds[i], 100L, TransactionType.CHARGE, updateMillis[i]);
+        }
+        repository.compactHistoriesBefore(1L, ZoneId.systemDefault());
+
+        // when
+        List<JsonNode> lines = export(1L);
+
+        // then
+        assertEquals(5, lines.size());
+        assertCompacted(lines.get(0), 1L, 3L);
+        assertEquals(4L, lines.get(1).get("id").asLong());
+        assertEquals(5L, lines.get(2).get("id").asLong());
+        assertCompacted(lines.get(3), 6L, 6L);
+        assertEquals(7L, lines.get(4).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("마지막 id + 1 부터 이어 받으면 그 뒤의 내역만 받고, 압축되지 않았으면 compacted 줄이 없다")
+    void writeHistories_resumesFromLastIdWithoutMarkers() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            repository.insertHistory(1L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        List<JsonNode> first = export(1L);
+
+        // when
+        repository.insertHistory(2L, 200L, TransactionType.CHARGE, System.currentTimeMillis());
+        List<JsonNode> resumed = export(first.get(first.size() - 1).get("id").asLong() + 1);
+
+        // then
+        assertEquals(5, first.size());
+        assertEquals(1, resumed.size());
+        assertEquals(6L, resumed.get(0).get("id").asLong());
+        assertTrue(first.stream().noneMatch(line -> line.has("compacted")));
+    }
+
+    private List<JsonNode> export(long fromId) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        pointExportWriter.writeHistories(repository.iterateHistoriesByIdRange(fromId, Long.MAX_VALUE), fromId, false, response);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.getContentAsString().split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private static void assertCompacted(JsonNode line, long fromId, long toId) {
+        assertEquals(fromId, line.get("compacted").get("fromId").asLong());
+        assertEquals(toId, line.get("compacted").get("toId").asLong());
+    }
+}
@@ -8,7 +8,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -546,4 +553,365 @@ class PointIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].userId").value(user2));
     }
+
+    @Test
+    @DisplayName("[POST /point/transfer] 포인트 이체가 성공하면 양쪽 포인트와 내역이 반영된다")
+    void transfer_withValidRequest_movesPointsAndRecordsHistories() throws Exception {
+        // given
+        long fromUserId = System.currentTimeMillis();
+        long toUserId = fromUserId + 1;
+
+        mockMvc.perform(patch("/point/{id}/charge", fromUserId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(10_000L)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferRequest(fromUserId, toUserId, 4_000L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from.id").value(fromUserId))
+                .andExpect(jsonPath("$.from.point").value(6_000L))
+                .andExpect(jsonPath("$.to.id").value(toUserId))
+                .andExpect(jsonPath("$.to.point").value(4_000L));
+
+        mockMvc.perform(get("/point/{id}/histories", toUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].type").value("TRANSFER_IN"));
+    }
+
+    @Test
+    @DisplayName("[POST /point/transfer] 잔액보다 많은 금액을 이체하면 실패한다")
+    void transfer_exceedingBalance_fails() throws Exception {
+        // given
+        long fromUserId = System.currentTimeMillis();
+        long toUserId = fromUserId + 1;
+
+        // when & then
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferRequest(fromUserId, toUserId, 1_000L))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_STATE"));
+    }
+
+    @Test
+    @DisplayName("[PATCH /point/{id}/charge] 같은 Idempotency-Key로 재요청하면 한 번만 충전된다")
+    void charge_withSameIdempotencyKey_chargesOnce() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        long chargeAmount = 5_000L;
+        String idempotencyKey = "charge-" + userId;
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(patch("/point/{id}/charge", userId)
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(String.valueOf(chargeAmount)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(chargeAmount));
+        }
+
+        // then
+        mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(chargeAmount));
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}] If-None-Match가 최신 ETag와 같으면 304를 반환한다")
+    void getPoint_withMatchingETag_returnsNotModified() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(1_000L)))
+                .andExpect(status().isOk());
+
+        String eTag = mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/point/{id}", userId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}/histories] 내역이 추가되면 이전 ETag로 요청해도 새 내역을 반환한다")
+    void getHistories_afterNewHistory_returnsUpdatedBody() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(1_000L)))
+                .andExpect(status().isOk());
+
+        String eTag = mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/point/{id}/histories", userId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/point/{id}/use", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(500L)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/point/{id}/histories", userId).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}/histories] 이 인스턴스에서 바뀐 적 없는 사용자도 바이너리 조회와 같은 ETag 를 받고, 그 ETag 로 304 를 받는다")
+    void getHistories_forUserUnknownToRegistry_returnsSameETagAsBinary() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+
+        // when
+        String eTag = mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // then
+        mockMvc.perform(get("/point/{id}/histories", userId).accept(PointBinaryHttpMessageConverter.MEDIA_TYPE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag));
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(1_000L)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/point/{id}/histories", userId).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("[GET /point?ids=] 여러 사용자의 포인트를 요청한 순서대로 한 번에 조회한다")
+    void getPoints_withMultipleIds_returnsPointsInRequestedOrder() throws Exception {
+        // given
+        long user1 = System.currentTimeMillis();
+        long user2 = user1 + 1;
+        long user3 = user1 + 2;
+
+        mockMvc.perform(patch("/point/{id}/charge", user2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(2_000L)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/point").param("ids", user3 + "," + user2 + "," + user1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(user3))
+                .andExpect(jsonPath("$[0].point").value(0))
+                .andExpect(jsonPath("$[1].id").value(user2))
+                .andExpect(jsonPath("$[1].point").value(2_000L))
+                .andExpect(jsonPath("$[2].id").value(user1));
+    }
+
+    @Test
+    @DisplayName("[POST /point/bulk] 유효하지 않은 사용자 ID가 포함되면 실패한다")
+    void getPointsBulk_withInvalidId_fails() throws Exception {
+        // when & then
+        mockMvc.perform(post("/point/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 0]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+    }
+
+    @Test
+    @DisplayName("[POST /point/bulk] 사용자 ID에 null이 포함되면 400으로 실패한다")
+    void getPointsBulk_withNullId_fails() throws Exception {
+        // when & then
+        mockMvc.perform(post("/point/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, null]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}/stream] 구독 중 충전하면 변경된 포인트가 SSE로 전달된다")
+    void stream_afterCharge_pushesPointChangedEvent() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        MvcResult stream = mockMvc.perform(get("/point/{id}/stream", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(1_000L)))
+                .andExpect(status().isOk());
+
+        // then: 전송 스레드가 비동기로 보내므로 도착할 때까지 잠시 대기
+        String content = "";
+        for (int i = 0; i < 50 && !content.contains("point-changed"); i++) {
+            Thread.sleep(100);
+            content = stream.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains("event:point-changed"));
+        assertTrue(content.contains("\"point\":1000"));
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}?allowStale=true] 화면 표시용 조회는 충전 이벤트로 갱신된 캐시 잔액을 반환한다")
+    void getPoint_allowStale_returnsCachedBalanceUpdatedByCharge() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        mockMvc.perform(get("/point/{id}", userId).param("allowStale", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(0));
+
+        // when
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(2_000L)))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/point/{id}", userId).param("allowStale", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.point").value(2_000L));
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}/histories] Accept-Encoding: gzip 이면 내역을 gzip 으로 압축해 응답한다")
+    void getHistories_withGzip_returnsCompressedJson() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(patch("/point/{id}/charge", userId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(String.valueOf(1_000L)))
+                    .andExpect(status().isOk());
+        }
+
+        // when
+        byte[] body = mockMvc.perform(get("/point/{id}/histories", userId).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            PointHistory[] histories = objectMapper.readValue(in, PointHistory[].class);
+            assertEquals(3, histories.length);
+            assertEquals(userId, histories[2].userId());
+        }
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}/histories] Accept 가 바이너리 형식이면 내역을 바이너리로 응답한다")
+    void getHistories_withBinaryAccept_returnsBinaryBody() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(3_000L)))
+                .andExpect(status().isOk());
+
+        // when
+        byte[] body = mockMvc.perform(get("/point/{id}/histories", userId)
+                        .accept(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PointBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        List<PointHistory> histories = PointBinaryCodec.decodeHistories(body);
+        assertEquals(1, histories.size());
+        assertEquals(3_000L, histories.get(0).amount());
+        assertEquals(TransactionType.CHARGE, histories.get(0).type());
+    }
+
+    @Test
+    @DisplayName("[GET /point/{id}] Accept 가 CBOR 이면 CBOR 로, 지정하지 않으면 JSON 으로 응답한다")
+    void getPoint_negotiatesCborAndDefaultsToJson() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+
+        // when & then
+        mockMvc.perform(get("/point/{id}", userId).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("[GET /actuator/pointlatency] 요청 후 엔드포인트와 저장소 호출별 지연 시간 분포를 조회할 수 있다")
+    void latency_afterCharge_exposesEndpointAndStoreHistograms() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(1_000L)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/actuator/pointlatency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['http PATCH /point/{id}/charge'].count").exists())
+                .andExpect(jsonPath("$['http PATCH /point/{id}/charge'].p999Millis").exists())
+                .andExpect(jsonPath("$['store insertOrUpdate'].sloAttainment['100ms']").exists());
+    }
+
+    @Test
+    @DisplayName("[GET /point/balances/export] 전체 잔액을 CSV 로 내보내고 스냅샷 시점 번호를 헤더로 돌려준다")
+    void exportBalances_asCsv_includesChargedUser() throws Exception {
+        // given
+        long userId = System.currentTimeMillis();
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(7_000L)))
+                .andExpect(status().isOk());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/balances/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Snapshot-Version"))
+                .andReturn();
+
+        // then
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.startsWith("id,point,updateMillis\n"));
+        assertTrue(body.contains("\n" + userId + ",7000,"));
+    }
+
+    @Test
+    @DisplayName("[GET /point/balances/export] 지원하지 않는 형식이면 400 을 반환한다")
+    void exportBalances_withUnknownFormat_returnsBadRequest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/point/balances/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("[GET /point/histories/export] 기본(table) 저장소는 id 가 겹치거나 빌 수 있어 전체 내역 내보내기를 400 으로 거절한다")
+    void exportHistories_onTableStore_returnsBadRequest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/point/histories/export").param("fromId", "1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
 }
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PartitionedPointRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointOperationEventTest {
+
+    private final PartitionedPointRepository repository = new PartitionedPointRepository(1);
+    private final PointService pointService = PointServiceBuilder.with(repository).build();
+
+    @Test
+    @DisplayName("JFR 녹화 중에는 충전/사용 연산마다 결과와 구간 시간이 담긴 이벤트가 기록된다")
+    void operations_whileRecording_emitPointOperationEvents() throws Exception {
+        // given
+        Path file = Files.createTempFile("point-operation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.hhplus.tdd.PointOperation");
+            recording.start();
+
+            // when
+            pointService.charge(1L, 1_000L);
+            assertThrows(IllegalStateException.class, () -> pointService.use(1L, 5_000L));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("io.hhplus.tdd.PointOperation"))
+                .toList();
+        Files.deleteIfExists(file);
+
+        assertEquals(2, events.size());
+        RecordedEvent charge = events.get(0);
+        assertEquals("CHARGE", charge.getString("operation"));
+        assertEquals(1L, charge.getLong("userId"));
+        assertEquals(1_000L, charge.getLong("amount"));
+        assertEquals("SUCCESS", charge.getString("outcome"));
+
+        RecordedEvent use = events.get(1);
+        assertEquals("USE", use.getString("operation"));
+        assertEquals("REJECTED", use.getString("outcome"));
+        assertNotNull(use.getString("message"));
+    }
+}
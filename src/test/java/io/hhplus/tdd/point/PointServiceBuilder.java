@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointRepository;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 테스트용 PointServiceImpl 생성 도우미
+ * 지정하지 않으면 이벤트는 버리고, CAS 엔진·상위 사용자 추적·잔액 스냅샷은 쓰지 않으며, 조합은 끈 상태로 만든다.
+ */
+final class PointServiceBuilder {
+
+    private final PointRepository pointRepository;
+    private ApplicationEventPublisher eventPublisher = event -> { };
+    private AtomicBalanceEngine balanceEngine;
+    private HotUserTracker hotUserTracker;
+    private CombiningProperties combining = CombiningProperties.OFF;
+    private BalanceSnapshots balanceSnapshots;
+
+    private PointServiceBuilder(PointRepository pointRepository) {
+        this.pointRepository = pointRepository;
+    }
+
+    static PointServiceBuilder with(PointRepository pointRepository) {
+        return new PointServiceBuilder(pointRepository);
+    }
+
+    PointServiceBuilder eventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        return this;
+    }
+
+    PointServiceBuilder balanceEngine(AtomicBalanceEngine balanceEngine) {
+        this.balanceEngine = balanceEngine;
+        return this;
+    }
+
+    PointServiceBuilder hotUserTracker(HotUserTracker hotUserTracker) {
+        this.hotUserTracker = hotUserTracker;
+        return this;
+    }
+
+    PointServiceBuilder combining(CombiningProperties combining) {
+        this.combining = combining;
+        return this;
+    }
+
+    PointServiceBuilder balanceSnapshots(BalanceSnapshots balanceSnapshots) {
+        this.balanceSnapshots = balanceSnapshots;
+        return this;
+    }
+
+    PointServiceImpl build() {
+        return new PointServiceImpl(pointRepository, eventPublisher, balanceEngine, hotUserTracker, combining, balanceSnapshots);
+    }
+}
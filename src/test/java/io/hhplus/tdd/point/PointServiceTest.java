@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.TablePointRepository;
 import io.hhplus.tdd.database.UserPointTable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,7 +9,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,9 +29,14 @@ class PointServiceTest {
     @Mock
     private PointHistoryTable pointHistoryTable;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
-         pointService = new PointServiceImpl(userPointTable, pointHistoryTable);
+         pointService = PointServiceBuilder.with(new TablePointRepository(userPointTable, pointHistoryTable))
+                 .eventPublisher(eventPublisher)
+                 .build();
     }
 
     // 헬퍼 메서드: 빈 충전 히스토리 Mock 설정
@@ -730,6 +738,54 @@ class PointServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("내역 스트림 조회는 저장된 내역을 한 번만 읽어 순서대로 돌려주고 마지막 내역 ID 를 함께 알려주며, 0 이하의 사용자 ID는 거절한다")
+    void streamHistory_returnsHistoriesInOrderWithLastId() {
+        // given
+        long userId = 1L;
+        List<PointHistory> histories = List.of(
+                new PointHistory(1L, userId, 1_000L, TransactionType.CHARGE, System.currentTimeMillis()),
+                new PointHistory(2L, userId, 300L, TransactionType.USE, System.currentTimeMillis())
+        );
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(histories);
+
+        // when
+        HistoryStream stream = pointService.streamHistory(userId);
+        Iterator<PointHistory> iterator = stream.histories();
+
+        // then
+        assertEquals(2L, stream.lastHistoryId());
+        assertEquals(histories.get(0), iterator.next());
+        assertEquals(histories.get(1), iterator.next());
+        assertFalse(iterator.hasNext());
+        verify(pointHistoryTable, times(1)).selectAllByUserId(userId);
+        assertThrows(IllegalArgumentException.class, () -> pointService.streamHistory(0L));
+    }
+
+    @Test
+    @DisplayName("내역 요약은 거래 종류별 건수와 금액 합계, 날짜별 요약을 돌려준다")
+    void getSummary_returnsTotalsByType() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of(
+                new PointHistory(1L, userId, 1_000L, TransactionType.CHARGE, now),
+                new PointHistory(2L, userId, 2_000L, TransactionType.CHARGE, now),
+                new PointHistory(3L, userId, 300L, TransactionType.USE, now)
+        ));
+
+        // when
+        PointSummary summary = pointService.getSummary(userId);
+
+        // then
+        assertEquals(2L, summary.totalCounts().get(TransactionType.CHARGE));
+        assertEquals(3_000L, summary.totalAmounts().get(TransactionType.CHARGE));
+        assertEquals(1L, summary.totalCounts().get(TransactionType.USE));
+        assertEquals(300L, summary.totalAmounts().get(TransactionType.USE));
+        assertEquals(2, summary.days().size());
+        assertThrows(IllegalArgumentException.class, () -> pointService.getSummary(0L));
+    }
+
     @Test
     @DisplayName("음수 사용자 ID로 내역 조회 시 예외가 발생한다")
     void getHistory_withNegativeUserId_throwsException() {
@@ -741,4 +797,100 @@ class PointServiceTest {
             pointService.getHistory(invalidUserId);
         });
     }
+
+    @Test
+    @DisplayName("포인트를 이체하면 보내는 사용자는 차감되고 받는 사용자는 증가한다")
+    void transfer_withSufficientBalance_movesPoints() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long amount = 3_000L;
+
+        when(userPointTable.selectById(fromUserId))
+                .thenReturn(new UserPoint(fromUserId, 10_000L, System.currentTimeMillis()));
+        when(userPointTable.selectById(toUserId))
+                .thenReturn(new UserPoint(toUserId, 1_000L, System.currentTimeMillis()));
+        when(userPointTable.insertOrUpdate(fromUserId, 7_000L))
+                .thenReturn(new UserPoint(fromUserId, 7_000L, System.currentTimeMillis()));
+        when(userPointTable.insertOrUpdate(toUserId, 4_000L))
+                .thenReturn(new UserPoint(toUserId, 4_000L, System.currentTimeMillis()));
+
+        // when
+        TransferResult result = pointService.transfer(fromUserId, toUserId, amount);
+
+        // then
+        assertEquals(7_000L, result.from().point());
+        assertEquals(4_000L, result.to().point());
+        verify(pointHistoryTable, times(1)).insert(eq(fromUserId), eq(amount), eq(TransactionType.TRANSFER_OUT), anyLong());
+        verify(pointHistoryTable, times(1)).insert(eq(toUserId), eq(amount), eq(TransactionType.TRANSFER_IN), anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액보다 많은 금액을 이체하면 예외가 발생하고 어느 쪽도 저장되지 않는다")
+    void transfer_withInsufficientBalance_throwsExceptionWithoutWrites() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+
+        when(userPointTable.selectById(fromUserId))
+                .thenReturn(new UserPoint(fromUserId, 1_000L, System.currentTimeMillis()));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> {
+            pointService.transfer(fromUserId, toUserId, 5_000L);
+        });
+
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("받는 사용자의 최대 잔액을 초과하는 이체는 예외가 발생하고 어느 쪽도 저장되지 않는다")
+    void transfer_exceedingReceiverMaxBalance_throwsExceptionWithoutWrites() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+
+        when(userPointTable.selectById(fromUserId))
+                .thenReturn(new UserPoint(fromUserId, 10_000L, System.currentTimeMillis()));
+        when(userPointTable.selectById(toUserId))
+                .thenReturn(new UserPoint(toUserId, UserPoint.MAX_BALANCE, System.currentTimeMillis()));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> {
+            pointService.transfer(fromUserId, toUserId, 1_000L);
+        });
+
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("자기 자신에게 이체하면 예외가 발생한다")
+    void transfer_toSelf_throwsException() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> {
+            pointService.transfer(1L, 1L, 1_000L);
+        });
+
+        verify(userPointTable, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 충전이 저장되면 변경 이벤트가 발행된다")
+    void charge_publishesPointChangedEvent() {
+        // given
+        long userId = 1L;
+        long chargeAmount = 1_000L;
+
+        mockChargeSuccess(userId, 0L, chargeAmount);
+        PointHistory history = new PointHistory(1L, userId, chargeAmount, TransactionType.CHARGE, System.currentTimeMillis());
+        when(pointHistoryTable.insert(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong()))
+                .thenReturn(history);
+
+        // when
+        UserPoint result = pointService.charge(userId, chargeAmount);
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(new PointChangedEvent(result, history));
+    }
 }
@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointStreamHubTest {
+
+    private final PointStreamHub hub = new PointStreamHub(
+            new StreamProperties(2, 16, Duration.ofMinutes(1), Duration.ofMinutes(1), 1, Duration.ofSeconds(5)));
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독하면 구독자 수가 증가한다")
+    void subscribe_increasesSubscriberCount() {
+        // when
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        // then
+        assertEquals(2, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("구독자 수 한도를 넘으면 예외가 발생한다")
+    void subscribe_exceedingMaxSubscribers_throwsException() {
+        // given
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> hub.subscribe(2L));
+        assertEquals(2, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 사용자의 변경 이벤트는 무시된다")
+    void onPointChanged_withoutSubscribers_isIgnored() {
+        // when & then
+        assertDoesNotThrow(() -> hub.onPointChanged(
+                new PointChangedEvent(new UserPoint(3L, 1_000L, System.currentTimeMillis()), null)));
+    }
+
+    @Test
+    @DisplayName("전송이 writeTimeout 을 넘긴 구독자는 끊기고 다른 구독자는 계속 이벤트를 받는다")
+    void onPointChanged_stalledSubscriber_isDisconnectedWithoutBlockingOthers() throws InterruptedException {
+        // given
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        PointStreamHub stallingHub = new PointStreamHub(
+                new StreamProperties(10, 16, Duration.ofMinutes(1), Duration.ofMinutes(1), 1, Duration.ofMillis(50))) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return new SseEmitter(timeoutMillis) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        if (stalled.getCount() > 0) {
+                            stalled.countDown();
+                            awaitQuietly(release);
+                        } else {
+                            delivered.countDown();
+                        }
+                    }
+                };
+            }
+        };
+        try {
+            stallingHub.subscribe(1L);
+            stallingHub.subscribe(2L);
+
+            // when
+            stallingHub.onPointChanged(changed(1L));
+            assertTrue(stalled.await(1, TimeUnit.SECONDS));
+            stallingHub.onPointChanged(changed(2L));
+
+            // then
+            assertTrue(delivered.await(2, TimeUnit.SECONDS));
+            assertTrue(awaitCondition(() -> stallingHub.subscriberCount() == 1));
+        } finally {
+            release.countDown();
+            stallingHub.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전송 중 IOException 이 나면 구독자가 정리된다")
+    void onPointChanged_sendFailure_removesSubscriber() throws InterruptedException {
+        // given
+        CountDownLatch sent = new CountDownLatch(1);
+        PointStreamHub failingHub = new PointStreamHub(
+                new StreamProperties(10, 16, Duration.ofMinutes(1), Duration.ofMinutes(1), 1, Duration.ofSeconds(5))) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return new SseEmitter(timeoutMillis) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        sent.countDown();
+                        throw new IOException("Broken pipe");
+                    }
+                };
+            }
+        };
+        try {
+            failingHub.subscribe(1L);
+
+            // when
+            failingHub.onPointChanged(changed(1L));
+
+            // then
+            assertTrue(sent.await(1, TimeUnit.SECONDS));
+            assertTrue(awaitCondition(() -> failingHub.subscriberCount() == 0));
+            assertDoesNotThrow(() -> failingHub.onPointChanged(changed(1L)));
+        } finally {
+            failingHub.shutdown();
+        }
+    }
+
+    private static PointChangedEvent changed(long userId) {
+        return new PointChangedEvent(new UserPoint(userId, 1_000L, System.currentTimeMillis()), null);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.InMemoryPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointVersionRegistryTest {
+
+    private final PointVersionRegistry registry = new PointVersionRegistry();
+
+    @Test
+    @DisplayName("같은 밀리초에 잔액이 두 번 바뀌면 잔액 ETag 도 달라져 처음 값으로 304 를 받지 않는다")
+    void balanceETag_withTwoChangesInSameMillisecond_differs() {
+        // given
+        long updateMillis = 1_700_000_000_000L;
+        registry.onPointChanged(new PointChangedEvent(new UserPoint(1L, 1_000L, updateMillis), null));
+        String first = registry.balanceETag(1L);
+
+        // when
+        registry.onPointChanged(new PointChangedEvent(new UserPoint(1L, 1_500L, updateMillis), null));
+        String second = registry.balanceETag(1L);
+
+        // then
+        assertNotEquals(first, second);
+        assertFalse(PointVersionRegistry.matches(first, second));
+        assertEquals(second, PointVersionRegistry.balanceETag(new UserPoint(1L, 1_500L, updateMillis)));
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 이벤트는 내역 id 가 더 큰 최신 버전을 덮지 않는다")
+    void onPointChanged_withOlderEventArrivingLate_keepsNewerVersion() {
+        // given
+        long updateMillis = 1_700_000_000_000L;
+        UserPoint newer = new UserPoint(1L, 2_000L, updateMillis + 1);
+        registry.onPointChanged(new PointChangedEvent(newer, history(2L, 1L)));
+
+        // when
+        registry.onPointChanged(new PointChangedEvent(new UserPoint(1L, 1_000L, updateMillis), history(1L, 1L)));
+
+        // then
+        assertEquals(PointVersionRegistry.balanceETag(newer), registry.balanceETag(1L));
+        assertEquals(PointVersionRegistry.historyETagOf(2L), registry.historyETag(1L));
+    }
+
+    @Test
+    @DisplayName("CAS 엔진으로 한 사용자에게 동시에 충전/사용해도 끝난 뒤의 ETag 는 최신 잔액과 마지막 내역 id 로 만든 값이다")
+    void onPointChanged_withConcurrentCasCommits_endsAtLatestVersion() throws InterruptedException {
+        // given
+        InMemoryPointRepository repository = new InMemoryPointRepository();
+        AtomicBalanceEngine engine = new AtomicBalanceEngine(repository, BalanceEngineProperties.DEFAULT);
+        PointService pointService = PointServiceBuilder.with(repository)
+                .balanceEngine(engine)
+                .eventPublisher(event -> registry.onPointChanged((PointChangedEvent) event))
+                .build();
+        long userId = 1L;
+        pointService.charge(userId, 50_000L);
+        int threadCount = 16;
+        int perThread = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            boolean charging = t % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        if (charging) {
+                            pointService.charge(userId, 100L);
+                        } else {
+                            pointService.use(userId, 100L);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // then
+        List<PointHistory> histories = repository.selectHistoriesByUserId(userId);
+        assertEquals(1 + threadCount * perThread, histories.size());
+        assertEquals(PointVersionRegistry.balanceETag(pointService.getPoint(userId)), registry.balanceETag(userId));
+        assertEquals(PointVersionRegistry.historyETag(histories), registry.historyETag(userId));
+    }
+
+    private static PointHistory history(long id, long userId) {
+        return new PointHistory(id, userId, 100L, TransactionType.CHARGE, id);
+    }
+}
@@ -0,0 +1,177 @@
+package io.hhplus.tdd.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 시작 방식(기본 / AppCDS / 워밍업 / AppCDS + 워밍업)별 첫 요청까지 걸린 시간과 readiness 이후 첫 1분 p99
+ * - 첫 요청까지 걸린 시간 = 프로세스 시작 ~ readiness UP + readiness 이후 첫 GET /point/{id} 응답 시간
+ * - 1분 p99 에는 JIT 가 끝난 뒤의 요청이 대부분이라 워밍업 효과가 묻히므로, 처음 5초 동안 보낸 요청의 p99 도 따로 낸다.
+ * - 저장소 지연이 섞이지 않도록 지연 없는 simulated 저장소로 실행한다.
+ * build/cds 가 있어야 하므로 아카이브를 먼저 만든다. (측정 구간은 -Dstartup.window.seconds 로 바꿀 수 있다)
+ * ./gradlew cdsArchive benchmark --tests '*StartupBenchmark'
+ */
+@Slf4j
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final Path CDS_DIR = Path.of("build", "cds");
+    private static final Duration WINDOW = Duration.ofSeconds(Long.getLong("startup.window.seconds", 60L));
+    private static final Duration EARLY_WINDOW = Duration.ofSeconds(5);
+    private static final int CLIENT_THREADS = 8;
+    private static final List<String> STORE_ARGS = List.of("--point.store.type=simulated", "--point.store.latency.model=zero");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    @DisplayName("시작 방식별 첫 요청까지 걸린 시간과 첫 1분 p99")
+    void compareStartupModes() throws Exception {
+        assumeTrue(Files.exists(CDS_DIR.resolve("point-service.jsa")), "./gradlew cdsArchive 를 먼저 실행해야 합니다.");
+        log.info("=== 시작 방식 비교 (측정 구간: {}s, 클라이언트 스레드: {}) ===", WINDOW.toSeconds(), CLIENT_THREADS);
+        measure("기본", List.of(), List.of());
+        measure("AppCDS", List.of("-XX:SharedArchiveFile=point-service.jsa"), List.of());
+        measure("워밍업", List.of(), List.of("--point.warmup.enabled=true"));
+        measure("AppCDS + 워밍업", List.of("-XX:SharedArchiveFile=point-service.jsa"), List.of("--point.warmup.enabled=true"));
+    }
+
+    private void measure(String name, List<String> jvmArgs, List<String> appArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", "point-service.jar", "--server.port=" + port));
+        command.addAll(STORE_ARGS);
+        command.addAll(appArgs);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(CDS_DIR.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            awaitReady(baseUrl, process);
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long firstRequestStart = System.nanoTime();
+            send(get(baseUrl + "/point/1"));
+            double firstRequestMillis = (System.nanoTime() - firstRequestStart) / 1_000_000.0;
+            Latencies latencies = load(baseUrl);
+
+            log.info("{} | readiness: {} ms, 첫 요청: {} ms (합계 {} ms) | 첫 {}s p99: {} ms | 첫 {}s p99: {} ms, max: {} ms, 요청 수: {}",
+                    name, readyMillis, firstRequestMillis, readyMillis + (long) firstRequestMillis,
+                    EARLY_WINDOW.toSeconds(), latencies.early().getValueAtPercentile(99) / 1_000_000.0,
+                    WINDOW.toSeconds(), latencies.window().getValueAtPercentile(99) / 1_000_000.0,
+                    latencies.window().getMaxValue() / 1_000_000.0, latencies.window().getTotalCount());
+        } finally {
+            process.destroy();
+            process.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitReady(String baseUrl, Process process) throws InterruptedException {
+        HttpRequest readiness = get(baseUrl + "/actuator/health/readiness");
+        while (true) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 시작 중에 종료되었습니다. (exit: " + process.exitValue() + ")");
+            }
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    /**
+     * 조회, 내역 조회, 충전을 섞어 측정 구간 동안 계속 보낸다. (사용자마다 충전 한도를 넘지 않도록 ID 를 돌려 쓴다)
+     */
+    private Latencies load(String baseUrl) throws InterruptedException {
+        Latencies latencies = new Latencies(new Histogram(3), new Histogram(3));
+        ExecutorService executorService = Executors.newFixedThreadPool(CLIENT_THREADS);
+        CountDownLatch latch = new CountDownLatch(CLIENT_THREADS);
+        AtomicLong sequence = new AtomicLong();
+        long loadStart = System.nanoTime();
+        long earlyDeadline = loadStart + EARLY_WINDOW.toNanos();
+        long deadline = loadStart + WINDOW.toNanos();
+        for (int t = 0; t < CLIENT_THREADS; t++) {
+            executorService.submit(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long n = sequence.incrementAndGet();
+                        long userId = n / 3 % 100_000 + 1;
+                        HttpRequest request = switch ((int) (n % 3)) {
+                            case 0 -> get(baseUrl + "/point/" + userId);
+                            case 1 -> get(baseUrl + "/point/" + userId + "/histories");
+                            default -> HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId + "/charge"))
+                                    .header("Content-Type", "application/json")
+                                    .method("PATCH", HttpRequest.BodyPublishers.ofString("100"))
+                                    .build();
+                        };
+                        long requestStart = System.nanoTime();
+                        send(request);
+                        long elapsed = System.nanoTime() - requestStart;
+                        synchronized (latencies) {
+                            latencies.window().recordValue(elapsed);
+                            if (requestStart < earlyDeadline) {
+                                latencies.early().recordValue(elapsed);
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("요청 실패: {}", e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        return latencies;
+    }
+
+    private void send(HttpRequest request) throws IOException, InterruptedException {
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * readiness 이후 처음 EARLY_WINDOW 동안 보낸 요청과 WINDOW 전체 요청의 응답 시간
+     */
+    private record Latencies(Histogram early, Histogram window) {
+    }
+}